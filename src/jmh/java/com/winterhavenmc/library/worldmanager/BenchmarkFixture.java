@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager;
+
+import com.onarandombox.MultiverseCore.MultiverseCore;
+import com.onarandombox.MultiverseCore.api.MVWorldManager;
+import com.onarandombox.MultiverseCore.api.MultiverseWorld;
+import org.bukkit.Location;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.bukkit.plugin.PluginManager;
+import org.bukkit.plugin.ServicesManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import static org.mockito.Mockito.*;
+
+
+/**
+ * Stubbed server environment shared by benchmarks.
+ * <p>
+ * Stubs are created as stub-only mocks so that invocations are not recorded. Calls that reach a
+ * stub still pay for mock dispatch, so absolute timings of uncached paths are pessimistic;
+ * comparisons between cached and uncached paths remain meaningful.
+ */
+final class BenchmarkFixture
+{
+	static final String NO_MULTIVERSE = "none";
+	static final String MULTIVERSE_4 = "multiverse4";
+
+	final Plugin plugin = stub(Plugin.class);
+	final Server server = stub(Server.class);
+	final PluginManager pluginManager = stub(PluginManager.class);
+	final ServicesManager servicesManager = stub(ServicesManager.class);
+	final FileConfiguration configuration = stub(FileConfiguration.class);
+	final List<World> worlds = new ArrayList<>();
+
+
+	/**
+	 * Create a stubbed server with the given number of worlds
+	 *
+	 * @param worldCount the number of server worlds
+	 * @param multiverse {@link #NO_MULTIVERSE} or {@link #MULTIVERSE_4}
+	 */
+	BenchmarkFixture(final int worldCount, final String multiverse)
+	{
+		when(plugin.getServer()).thenReturn(server);
+		when(plugin.getConfig()).thenReturn(configuration);
+		when(plugin.getName()).thenReturn("BenchmarkPlugin");
+		when(plugin.getLogger()).thenReturn(Logger.getLogger(BenchmarkFixture.class.getName()));
+		when(server.getPluginManager()).thenReturn(pluginManager);
+		when(server.getServicesManager()).thenReturn(servicesManager);
+
+		for (int i = 0; i < worldCount; i++)
+		{
+			World world = stub(World.class);
+			UUID worldUid = new UUID(0x5EED, i);
+			String worldName = "world_" + i;
+			when(world.getUID()).thenReturn(worldUid);
+			when(world.getName()).thenReturn(worldName);
+			when(world.getSpawnLocation()).thenReturn(new Location(world, i, 64.0, i));
+			when(server.getWorld(worldUid)).thenReturn(world);
+			when(server.getWorld(worldName)).thenReturn(world);
+			worlds.add(world);
+		}
+
+		when(server.getWorlds()).thenReturn(List.copyOf(worlds));
+
+		// all worlds enabled except the first
+		when(configuration.getStringList("enabled-worlds")).thenReturn(Collections.emptyList());
+		when(configuration.getStringList("disabled-worlds")).thenReturn(List.of("world_0"));
+
+		if (MULTIVERSE_4.equals(multiverse))
+		{
+			stubMultiverse4();
+		}
+	}
+
+
+	/**
+	 * get a world from the middle of the world list
+	 *
+	 * @return a stubbed world
+	 */
+	World middleWorld()
+	{
+		return worlds.get(worlds.size() / 2);
+	}
+
+
+	private void stubMultiverse4()
+	{
+		MultiverseCore multiverseCore = stub(MultiverseCore.class);
+		MVWorldManager mvWorldManager = stub(MVWorldManager.class);
+
+		when(multiverseCore.getName()).thenReturn("Multiverse-Core");
+		when(multiverseCore.isEnabled()).thenReturn(true);
+		when(multiverseCore.getDescription()).thenReturn(new PluginDescriptionFile("Multiverse-Core", "4.3.16",
+				"com.onarandombox.MultiverseCore.MultiverseCore"));
+		when(multiverseCore.getMVWorldManager()).thenReturn(mvWorldManager);
+
+		for (World world : worlds)
+		{
+			MultiverseWorld mvWorld = stub(MultiverseWorld.class);
+			when(mvWorld.getAlias()).thenReturn("Alias of " + world.getName());
+			when(mvWorld.getSpawnLocation()).thenReturn(new Location(world, 0.5, 65.0, 0.5));
+			when(mvWorldManager.getMVWorld(world)).thenReturn(mvWorld);
+		}
+
+		when(pluginManager.getPlugin("Multiverse-Core")).thenReturn(multiverseCore);
+	}
+
+
+	private static <T> T stub(final Class<T> type)
+	{
+		return mock(type, withSettings().stubOnly());
+	}
+
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager;
+
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.*;
+
+
+/**
+ * Compares the bulk {@code filterEnabled} and {@code markEnabled} methods of {@link WorldManager} with a loop
+ * calling {@code isEnabled} once per element.
+ * <p>
+ * Entities are either grouped by world, as they are when collected chunk by chunk, or shuffled.
+ * Both the bulk and per-element paths pay for one stubbed {@code getWorld()} call per entity.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulkFilterBenchmark
+{
+	static final int ELEMENT_COUNT = 1000;
+
+	@Param({"1", "10", "100"})
+	int worldCount;
+
+	@Param({"grouped", "shuffled"})
+	String layout;
+
+	private WorldManager worldManager;
+	private List<Entity> entities;
+	private UUID[] worldUIDs;
+	private long[] worldUidBits;
+	private boolean[] results;
+
+
+	@Setup(Level.Trial)
+	public void setUp()
+	{
+		BenchmarkFixture fixture = new BenchmarkFixture(worldCount, BenchmarkFixture.NO_MULTIVERSE);
+		worldManager = new WorldManager(fixture.plugin);
+
+		entities = new ArrayList<>(ELEMENT_COUNT);
+		for (int i = 0; i < ELEMENT_COUNT; i++)
+		{
+			World world = fixture.worlds.get(i * worldCount / ELEMENT_COUNT);
+			Entity entity = mock(Entity.class, withSettings().stubOnly());
+			when(entity.getWorld()).thenReturn(world);
+			entities.add(entity);
+		}
+
+		if ("shuffled".equals(layout))
+		{
+			Collections.shuffle(entities, new Random(0x5EED));
+		}
+
+		worldUIDs = new UUID[ELEMENT_COUNT];
+		worldUidBits = new long[ELEMENT_COUNT * 2];
+		for (int i = 0; i < ELEMENT_COUNT; i++)
+		{
+			UUID worldUid = entities.get(i).getWorld().getUID();
+			worldUIDs[i] = worldUid;
+			worldUidBits[i * 2] = worldUid.getMostSignificantBits();
+			worldUidBits[i * 2 + 1] = worldUid.getLeastSignificantBits();
+		}
+
+		results = new boolean[ELEMENT_COUNT];
+	}
+
+
+	@Benchmark
+	@OperationsPerInvocation(ELEMENT_COUNT)
+	public List<Entity> entitiesPerElement()
+	{
+		List<Entity> result = new ArrayList<>(entities.size());
+		for (Entity entity : entities)
+		{
+			if (worldManager.isEnabled(entity.getWorld()))
+			{
+				result.add(entity);
+			}
+		}
+		return result;
+	}
+
+
+	@Benchmark
+	@OperationsPerInvocation(ELEMENT_COUNT)
+	public List<Entity> entitiesBulk()
+	{
+		return worldManager.filterEnabled(entities);
+	}
+
+
+	@Benchmark
+	@OperationsPerInvocation(ELEMENT_COUNT)
+	public boolean[] uuidsPerElement()
+	{
+		for (int i = 0; i < worldUIDs.length; i++)
+		{
+			results[i] = worldManager.isEnabled(worldUIDs[i]);
+		}
+		return results;
+	}
+
+
+	@Benchmark
+	@OperationsPerInvocation(ELEMENT_COUNT)
+	public boolean[] uuidsBulk()
+	{
+		worldManager.markEnabled(worldUIDs, results);
+		return results;
+	}
+
+
+	@Benchmark
+	@OperationsPerInvocation(ELEMENT_COUNT)
+	public boolean[] uuidBitsBulk()
+	{
+		worldManager.markEnabled(worldUidBits, results);
+		return results;
+	}
+
+}
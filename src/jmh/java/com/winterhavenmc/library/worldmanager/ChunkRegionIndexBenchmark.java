@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures a {@link ChunkRegionIndex} lookup, as made by a move event check, against the whole-world
+ * {@code HashSet<UUID>} lookup it is added to.
+ * <p>
+ * Disabled regions are non-overlapping 8 by 8 chunk squares laid out in a row.
+ * Each invocation checks a fixed array of probe chunks spread over and around the regions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChunkRegionIndexBenchmark
+{
+	static final int PROBE_COUNT = 256;
+
+	@Param({"1", "10", "100"})
+	int regionCount;
+
+	private ChunkRegionIndex index;
+	private Set<UUID> worldSet;
+	private UUID worldUid;
+	private int[] probeX;
+	private int[] probeZ;
+
+
+	@Setup(Level.Trial)
+	public void setUp()
+	{
+		List<int[]> disabled = new ArrayList<>();
+		for (int i = 0; i < regionCount; i++)
+		{
+			disabled.add(new int[] { i * 16, 0, i * 16 + 7, 7 });
+		}
+		index = ChunkRegionIndex.of(List.of(), disabled);
+
+		worldUid = UUID.randomUUID();
+		worldSet = new HashSet<>(List.of(worldUid, UUID.randomUUID()));
+
+		Random random = new Random(0x5EED);
+		probeX = new int[PROBE_COUNT];
+		probeZ = new int[PROBE_COUNT];
+		for (int i = 0; i < PROBE_COUNT; i++)
+		{
+			probeX[i] = random.nextInt(regionCount * 16 + 32) - 16;
+			probeZ[i] = random.nextInt(32) - 12;
+		}
+	}
+
+
+	@Benchmark
+	@OperationsPerInvocation(PROBE_COUNT)
+	public int worldSetContains()
+	{
+		int hits = 0;
+		for (int i = 0; i < PROBE_COUNT; i++)
+		{
+			if (worldSet.contains(worldUid))
+			{
+				hits++;
+			}
+		}
+		return hits;
+	}
+
+
+	@Benchmark
+	@OperationsPerInvocation(PROBE_COUNT)
+	public int regionIsEnabled()
+	{
+		int hits = 0;
+		for (int i = 0; i < PROBE_COUNT; i++)
+		{
+			if (index.isEnabled(probeX[i], probeZ[i]))
+			{
+				hits++;
+			}
+		}
+		return hits;
+	}
+
+}
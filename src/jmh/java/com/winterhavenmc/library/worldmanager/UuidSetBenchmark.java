@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Compares {@link UuidSet} with the {@code HashSet<UUID>} it replaced for registry membership checks.
+ * <p>
+ * Each invocation checks a fixed array of probe uids, half of them present in the set, so that
+ * results are not dominated by a single always-hit or always-miss branch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UuidSetBenchmark
+{
+	static final int PROBE_COUNT = 256;
+
+	@Param({"1", "10", "100", "1000"})
+	int worldCount;
+
+	private Set<UUID> hashSet;
+	private UuidSet uuidSet;
+	private UUID[] probes;
+	private long[] probeBits;
+
+
+	@Setup(Level.Trial)
+	public void setUp()
+	{
+		Random random = new Random(0x5EED);
+		List<UUID> worldUids = new ArrayList<>(worldCount);
+		for (int i = 0; i < worldCount; i++)
+		{
+			worldUids.add(UUID.randomUUID());
+		}
+
+		hashSet = new HashSet<>(worldUids);
+		uuidSet = UuidSet.of(worldUids);
+
+		probes = new UUID[PROBE_COUNT];
+		probeBits = new long[PROBE_COUNT * 2];
+		for (int i = 0; i < PROBE_COUNT; i++)
+		{
+			UUID probe = (i % 2 == 0)
+					? worldUids.get(random.nextInt(worldCount))
+					: new UUID(random.nextLong(), random.nextLong());
+			probes[i] = probe;
+			probeBits[i * 2] = probe.getMostSignificantBits();
+			probeBits[i * 2 + 1] = probe.getLeastSignificantBits();
+		}
+	}
+
+
+	@Benchmark
+	@OperationsPerInvocation(PROBE_COUNT)
+	public int hashSetContains()
+	{
+		int hits = 0;
+		for (UUID probe : probes)
+		{
+			if (hashSet.contains(probe))
+			{
+				hits++;
+			}
+		}
+		return hits;
+	}
+
+
+	@Benchmark
+	@OperationsPerInvocation(PROBE_COUNT)
+	public int uuidSetContains()
+	{
+		int hits = 0;
+		for (UUID probe : probes)
+		{
+			if (uuidSet.contains(probe))
+			{
+				hits++;
+			}
+		}
+		return hits;
+	}
+
+
+	@Benchmark
+	@OperationsPerInvocation(PROBE_COUNT)
+	public int uuidSetContainsBits()
+	{
+		int hits = 0;
+		for (int i = 0; i < probeBits.length; i += 2)
+		{
+			if (uuidSet.contains(probeBits[i], probeBits[i + 1]))
+			{
+				hits++;
+			}
+		}
+		return hits;
+	}
+
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Benchmarks for the {@link WorldManager} hot paths, at increasing numbers of server worlds,
+ * with and without a stubbed Multiverse-Core.
+ * <p>
+ * Run with {@code mvn -Pbenchmarks test-compile exec:exec}. Allocation rates are reported
+ * by the {@code gc} profiler, which is enabled by default.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorldManagerBenchmark
+{
+	@Param({"1", "10", "100", "1000"})
+	int worldCount;
+
+	@Param({BenchmarkFixture.NO_MULTIVERSE, BenchmarkFixture.MULTIVERSE_4})
+	String multiverse;
+
+	private WorldManager worldManager;
+	private World world;
+	private UUID worldUid;
+	private String worldName;
+	private int worldSlot;
+	private Feature feature;
+
+
+	@Setup(Level.Trial)
+	public void setUp()
+	{
+		BenchmarkFixture fixture = new BenchmarkFixture(worldCount, multiverse);
+		worldManager = new WorldManager(fixture.plugin);
+		world = fixture.middleWorld();
+		worldUid = world.getUID();
+		worldName = world.getName();
+		worldSlot = worldManager.getWorldSlot(world);
+		feature = worldManager.registerFeature("pvp");
+	}
+
+
+	@Benchmark
+	public boolean isEnabledByUid()
+	{
+		return worldManager.isEnabled(worldUid);
+	}
+
+
+	@Benchmark
+	public boolean isEnabledByWorld()
+	{
+		return worldManager.isEnabled(world);
+	}
+
+
+	@Benchmark
+	public boolean isEnabledBySlot()
+	{
+		return worldManager.isEnabled(worldSlot);
+	}
+
+
+	@Benchmark
+	public boolean isEnabledByChunk()
+	{
+		return worldManager.isEnabled(world, 12, -7);
+	}
+
+
+	@Benchmark
+	public boolean isEnabledByFeature()
+	{
+		return worldManager.isEnabled(world, feature);
+	}
+
+
+	@Benchmark
+	public boolean isEnabledByName()
+	{
+		return worldManager.isEnabled(worldName);
+	}
+
+
+	@Benchmark
+	public String getWorldName()
+	{
+		return worldManager.getWorldName(world);
+	}
+
+
+	@Benchmark
+	public String getAliasOrNameByName()
+	{
+		return worldManager.getAliasOrName(worldName);
+	}
+
+
+	@Benchmark
+	public Location getSpawnLocation()
+	{
+		return worldManager.getSpawnLocation(world);
+	}
+
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public int reload()
+	{
+		worldManager.reload();
+		return worldManager.size();
+	}
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager;
+
+import com.winterhavenmc.library.worldmanager.worldname.WorldNameResolver;
+import org.bukkit.World;
+import org.bukkit.plugin.PluginManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Compares selecting a {@link WorldNameResolver} on every lookup, as {@code WorldManager.getWorldName}
+ * did before resolvers were cached, with the cached resolver and name cache now used by {@link WorldManager}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorldNameResolverBenchmark
+{
+	@Param({BenchmarkFixture.NO_MULTIVERSE, BenchmarkFixture.MULTIVERSE_4})
+	String multiverse;
+
+	private PluginManager pluginManager;
+	private WorldNameResolver resolver;
+	private WorldManager worldManager;
+	private World world;
+
+
+	@Setup(Level.Trial)
+	public void setUp()
+	{
+		BenchmarkFixture fixture = new BenchmarkFixture(10, multiverse);
+		pluginManager = fixture.pluginManager;
+		resolver = WorldNameResolver.get(pluginManager);
+		worldManager = new WorldManager(fixture.plugin);
+		world = fixture.middleWorld();
+	}
+
+
+	@Benchmark
+	public String resolverPerCall()
+	{
+		return WorldNameResolver.get(pluginManager).resolve(world);
+	}
+
+
+	@Benchmark
+	public String resolverCached()
+	{
+		return resolver.resolve(world);
+	}
+
+
+	@Benchmark
+	public String worldManagerGetWorldName()
+	{
+		return worldManager.getWorldName(world);
+	}
+
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+
+/**
+ * The enabled and disabled chunk regions of a single world, compiled for fast lookup by chunk coordinates.
+ * <p>
+ * Each region is an inclusive rectangle of chunks. Rectangles are stored in flat {@code int} arrays sorted
+ * by their lowest chunk x, so a lookup first rejects chunks outside the bounding box of all regions, then
+ * scans only the regions that start at or before the chunk, without allocating. Region lists are expected
+ * to be short, as they are written by hand in a config file.
+ * <p>
+ * Instances are immutable, and safe for use from multiple threads.
+ */
+final class ChunkRegionIndex
+{
+	static final ChunkRegionIndex EMPTY = new ChunkRegionIndex(new int[0], new int[0]);
+
+	// offsets of rectangle bounds in the flat arrays
+	private static final int MIN_X = 0;
+	private static final int MIN_Z = 1;
+	private static final int MAX_X = 2;
+	private static final int MAX_Z = 3;
+	private static final int STRIDE = 4;
+
+	private final int[] enabledRegions;
+	private final int[] disabledRegions;
+
+	// bounding box of the disabled regions, for rejecting most chunks with four comparisons
+	private final int disabledMinX;
+	private final int disabledMinZ;
+	private final int disabledMaxX;
+	private final int disabledMaxZ;
+
+
+	private ChunkRegionIndex(final int[] enabledRegions, final int[] disabledRegions)
+	{
+		this.enabledRegions = enabledRegions;
+		this.disabledRegions = disabledRegions;
+
+		int minX = Integer.MAX_VALUE;
+		int minZ = Integer.MAX_VALUE;
+		int maxX = Integer.MIN_VALUE;
+		int maxZ = Integer.MIN_VALUE;
+		for (int i = 0; i < disabledRegions.length; i += STRIDE)
+		{
+			minX = Math.min(minX, disabledRegions[i + MIN_X]);
+			minZ = Math.min(minZ, disabledRegions[i + MIN_Z]);
+			maxX = Math.max(maxX, disabledRegions[i + MAX_X]);
+			maxZ = Math.max(maxZ, disabledRegions[i + MAX_Z]);
+		}
+		this.disabledMinX = minX;
+		this.disabledMinZ = minZ;
+		this.disabledMaxX = maxX;
+		this.disabledMaxZ = maxZ;
+	}
+
+
+	/**
+	 * Create an index from lists of chunk rectangles
+	 *
+	 * @param enabled the enabled regions, each as {@code {minX, minZ, maxX, maxZ}}
+	 * @param disabled the disabled regions, each as {@code {minX, minZ, maxX, maxZ}}
+	 * @return a new index, or {@link #EMPTY} if both lists are empty
+	 */
+	static ChunkRegionIndex of(final List<int[]> enabled, final List<int[]> disabled)
+	{
+		if (enabled.isEmpty() && disabled.isEmpty())
+		{
+			return EMPTY;
+		}
+
+		return new ChunkRegionIndex(flatten(enabled), flatten(disabled));
+	}
+
+
+	/**
+	 * check if a chunk is enabled. A chunk is enabled if there are no enabled regions or it is in one of them,
+	 * and it is not in any disabled region.
+	 *
+	 * @param chunkX the chunk x coordinate
+	 * @param chunkZ the chunk z coordinate
+	 * @return {@code true} if the chunk is enabled, {@code false} if disabled
+	 */
+	boolean isEnabled(final int chunkX, final int chunkZ)
+	{
+		if (enabledRegions.length != 0 && !contains(enabledRegions, chunkX, chunkZ))
+		{
+			return false;
+		}
+
+		if (chunkX < disabledMinX || chunkX > disabledMaxX || chunkZ < disabledMinZ || chunkZ > disabledMaxZ)
+		{
+			return true;
+		}
+
+		return !contains(disabledRegions, chunkX, chunkZ);
+	}
+
+
+	/**
+	 * get the number of regions in the index
+	 *
+	 * @return the number of enabled and disabled regions
+	 */
+	int size()
+	{
+		return (enabledRegions.length + disabledRegions.length) / STRIDE;
+	}
+
+
+	private static boolean contains(final int[] regions, final int chunkX, final int chunkZ)
+	{
+		for (int i = 0; i < regions.length; i += STRIDE)
+		{
+			// regions are sorted by lowest x, so no later region can contain the chunk
+			if (regions[i + MIN_X] > chunkX)
+			{
+				return false;
+			}
+
+			if (chunkX <= regions[i + MAX_X] && chunkZ >= regions[i + MIN_Z] && chunkZ <= regions[i + MAX_Z])
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+
+	private static int[] flatten(final List<int[]> regions)
+	{
+		int[][] sorted = regions.toArray(new int[0][]);
+		Arrays.sort(sorted, Comparator.comparingInt(region -> region[MIN_X]));
+
+		int[] result = new int[sorted.length * STRIDE];
+		for (int i = 0; i < sorted.length; i++)
+		{
+			System.arraycopy(sorted[i], 0, result, i * STRIDE, STRIDE);
+		}
+
+		return result;
+	}
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager;
+
+
+/**
+ * A named per-world toggle, registered with {@link WorldManager#registerFeature(String)}.
+ * <p>
+ * Each feature is enabled in the worlds allowed by the {@code <feature>.enabled-worlds} and
+ * {@code <feature>.disabled-worlds} settings, within the worlds enabled by the top level settings.
+ * A feature is given one bit of a per-world {@code long} mask, so up to {@value #MAX_FEATURES} features
+ * may be registered with a world manager, and a feature may only be used with the world manager
+ * that registered it.
+ */
+public final class Feature
+{
+	/**
+	 * The maximum number of features that may be registered with one world manager
+	 */
+	public static final int MAX_FEATURES = Long.SIZE;
+
+	private final String name;
+	private final long mask;
+
+
+	/**
+	 * Class constructor
+	 *
+	 * @param name the feature name, used as the prefix of its config keys
+	 * @param bit the bit of the per-world feature mask given to this feature
+	 */
+	Feature(final String name, final int bit)
+	{
+		this.name = name;
+		this.mask = 1L << bit;
+	}
+
+
+	/**
+	 * get the name of the feature
+	 *
+	 * @return the feature name
+	 */
+	public String getName()
+	{
+		return name;
+	}
+
+
+	/**
+	 * get the bit of the per-world feature mask given to this feature
+	 *
+	 * @return a mask with the single bit of this feature set
+	 */
+	long mask()
+	{
+		return mask;
+	}
+
+
+	@Override
+	public String toString()
+	{
+		return "Feature[" + name + "]";
+	}
+
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager;
+
+import org.bukkit.World;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+
+/**
+ * The enabled-worlds and disabled-worlds rules of each registered {@link Feature}, read from a plugin
+ * configuration in the same pass as the top level rules, in feature bit order.
+ * <p>
+ * Each feature's rules are held as a {@link WorldRules}, so they accept the same names and patterns
+ * and cache their result for each world.
+ */
+final class FeatureRules
+{
+	static final FeatureRules NONE = new FeatureRules(new WorldRules[0]);
+
+	private final WorldRules[] rulesByBit;
+
+
+	/**
+	 * Class constructor
+	 *
+	 * @param rulesByBit the rules of each feature, indexed by feature bit; the array is not copied
+	 */
+	FeatureRules(final WorldRules[] rulesByBit)
+	{
+		this.rulesByBit = rulesByBit;
+	}
+
+
+	/**
+	 * get the number of features with rules
+	 *
+	 * @return the number of features
+	 */
+	int size()
+	{
+		return rulesByBit.length;
+	}
+
+
+	/**
+	 * Return new feature rules with the rules of one more feature, given the next bit
+	 *
+	 * @param rules the rules of the added feature
+	 * @return a new {@code FeatureRules}
+	 */
+	FeatureRules with(final WorldRules rules)
+	{
+		WorldRules[] result = Arrays.copyOf(rulesByBit, rulesByBit.length + 1);
+		result[rulesByBit.length] = rules;
+		return new FeatureRules(result);
+	}
+
+
+	/**
+	 * Return feature rules with the rules of any feature that other rules have and these do not, so that rules
+	 * compiled before a feature was registered do not drop it
+	 *
+	 * @param other the rules to take missing features from
+	 * @return a new {@code FeatureRules}, or these rules if none are missing
+	 */
+	FeatureRules withMissing(final FeatureRules other)
+	{
+		if (other.rulesByBit.length <= rulesByBit.length)
+		{
+			return this;
+		}
+
+		WorldRules[] result = Arrays.copyOf(rulesByBit, other.rulesByBit.length);
+		System.arraycopy(other.rulesByBit, rulesByBit.length, result, rulesByBit.length,
+				other.rulesByBit.length - rulesByBit.length);
+		return new FeatureRules(result);
+	}
+
+
+	/**
+	 * get the mask of features enabled in a world by these rules
+	 *
+	 * @param world the world to check
+	 * @return a mask with the bit of each enabled feature set
+	 */
+	long mask(final World world)
+	{
+		long result = 0L;
+		for (int bit = 0; bit < rulesByBit.length; bit++)
+		{
+			if (rulesByBit[bit].isEnabled(world))
+			{
+				result |= 1L << bit;
+			}
+		}
+		return result;
+	}
+
+
+	/**
+	 * get the mask of features enabled in a world with the given uid and name by these rules. This makes no
+	 * calls on a world object, so it can be used off the main thread with values captured on the main thread.
+	 *
+	 * @param worldUid the unique id of the world
+	 * @param worldName the name of the world
+	 * @return a mask with the bit of each enabled feature set
+	 */
+	long mask(final UUID worldUid, final String worldName)
+	{
+		long result = 0L;
+		for (int bit = 0; bit < rulesByBit.length; bit++)
+		{
+			if (rulesByBit[bit].isEnabled(worldUid, worldName))
+			{
+				result |= 1L << bit;
+			}
+		}
+		return result;
+	}
+
+
+
+	/**
+	 * Discard the cached results of each feature for a world
+	 *
+	 * @param worldUid the unique id of the world
+	 */
+	void invalidate(final UUID worldUid)
+	{
+		for (WorldRules rules : rulesByBit)
+		{
+			rules.invalidate(worldUid);
+		}
+	}
+
+}
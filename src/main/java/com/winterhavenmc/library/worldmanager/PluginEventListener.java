@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager;
+
+import org.bukkit.event.Event;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.event.server.PluginEnableEvent;
+import org.bukkit.plugin.Plugin;
+
+import java.util.List;
+import java.util.Optional;
+
+
+/**
+ * Listens for Multiverse-Core being enabled or disabled, and rebinds the resolvers
+ * held by a {@link WorldRegistryService} instance when it is.
+ * <p>
+ * Multiverse configuration events are registered by class name once Multiverse-Core is
+ * available, so that neither Multiverse version is required to be present at runtime.
+ */
+final class PluginEventListener implements Listener
+{
+	final static String MULTIVERSE_PLUGIN_NAME = "Multiverse-Core";
+
+	// Multiverse events after which cached world data may be stale; names not present at runtime are skipped
+	private final static List<String> MULTIVERSE_CONFIG_EVENTS = List.of(
+			"com.onarandombox.MultiverseCore.event.MVConfigReloadEvent",
+			"com.onarandombox.MultiverseCore.event.MVWorldPropertyChangeEvent",
+			"org.mvplugins.multiverse.core.event.MVConfigReloadEvent",
+			"org.mvplugins.multiverse.core.event.world.MVWorldPropertyChangeEvent");
+
+	private final WorldRegistryService registryService;
+	private final Plugin plugin;
+	private boolean multiverseEventsRegistered;
+
+
+	/**
+	 * Class constructor
+	 *
+	 * @param registryService the registry service whose resolvers are rebound on plugin events
+	 * @param plugin the plugin that provides the registry service, used to register Multiverse events
+	 */
+	PluginEventListener(final WorldRegistryService registryService, final Plugin plugin)
+	{
+		this.registryService = registryService;
+		this.plugin = plugin;
+	}
+
+
+	/**
+	 * Register for Multiverse configuration events, if Multiverse-Core is present and enabled
+	 * and the events have not already been registered
+	 */
+	void registerMultiverseEvents()
+	{
+		Plugin multiverse = plugin.getServer().getPluginManager().getPlugin(MULTIVERSE_PLUGIN_NAME);
+
+		if (multiverseEventsRegistered || multiverse == null || !multiverse.isEnabled())
+		{
+			return;
+		}
+
+		for (String className : MULTIVERSE_CONFIG_EVENTS)
+		{
+			findEventClass(className).ifPresent(eventClass ->
+					plugin.getServer().getPluginManager().registerEvent(eventClass, this, EventPriority.MONITOR,
+							(listener, event) -> {
+								if (eventClass.isInstance(event))
+								{
+									registryService.invalidateAll();
+								}
+							}, plugin));
+		}
+
+		multiverseEventsRegistered = true;
+	}
+
+
+	private static Optional<Class<? extends Event>> findEventClass(final String className)
+	{
+		try
+		{
+			Class<?> eventClass = Class.forName(className);
+			return (Event.class.isAssignableFrom(eventClass))
+					? Optional.of(eventClass.asSubclass(Event.class))
+					: Optional.empty();
+		}
+		catch (ClassNotFoundException | LinkageError e)
+		{
+			return Optional.empty();
+		}
+	}
+
+
+	/**
+	 * Rebind resolvers when Multiverse-Core is enabled
+	 *
+	 * @param event the plugin enable event
+	 */
+	@EventHandler(priority = EventPriority.MONITOR)
+	public void onPluginEnable(final PluginEnableEvent event)
+	{
+		if (isMultiverse(event.getPlugin()))
+		{
+			registryService.bindResolvers();
+			registerMultiverseEvents();
+		}
+	}
+
+
+	/**
+	 * Fall back to default resolvers when Multiverse-Core is disabled. The plugin still reports
+	 * itself as enabled while this event is dispatched, so the default resolvers are set explicitly.
+	 * Any world managers created by the disabled plugin are detached from the registry service.
+	 *
+	 * @param event the plugin disable event
+	 */
+	@EventHandler(priority = EventPriority.MONITOR)
+	public void onPluginDisable(final PluginDisableEvent event)
+	{
+		if (isMultiverse(event.getPlugin()))
+		{
+			registryService.unbindResolvers();
+		}
+
+		registryService.detach(event.getPlugin());
+	}
+
+
+	private static boolean isMultiverse(final Plugin plugin)
+	{
+		return plugin != null && MULTIVERSE_PLUGIN_NAME.equals(plugin.getName());
+	}
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager;
+
+import java.util.*;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+
+/**
+ * The enabled-regions and disabled-regions rules read from a plugin configuration, compiled into a
+ * {@link ChunkRegionIndex} for each world named in either list.
+ * <p>
+ * Each list entry names a world and an inclusive range of chunk coordinates, or a single chunk:
+ * <pre>
+ *   hub -4,-4 3,3
+ *   arena 12,7
+ * </pre>
+ * World names are compared without regard to case. An entry that cannot be parsed is logged and skipped.
+ */
+final class RegionRules
+{
+	static final RegionRules EMPTY = new RegionRules(Map.of());
+
+	private static final Pattern ENTRY = Pattern.compile(
+			"^\\s*(\\S+)\\s+(-?\\d+)\\s*,\\s*(-?\\d+)(?:\\s+(-?\\d+)\\s*,\\s*(-?\\d+))?\\s*$");
+
+	private final Map<String, ChunkRegionIndex> indexByWorldName;
+
+
+	private RegionRules(final Map<String, ChunkRegionIndex> indexByWorldName)
+	{
+		this.indexByWorldName = indexByWorldName;
+	}
+
+
+	/**
+	 * Parse and compile region lists
+	 *
+	 * @param enabledEntries the entries in the enabled-regions list
+	 * @param disabledEntries the entries in the disabled-regions list
+	 * @param logger the logger used to report invalid entries
+	 * @return the compiled rules, or {@link #EMPTY} if both lists are empty
+	 */
+	static RegionRules compile(final Collection<String> enabledEntries,
+	                           final Collection<String> disabledEntries,
+	                           final Logger logger)
+	{
+		if ((enabledEntries == null || enabledEntries.isEmpty())
+				&& (disabledEntries == null || disabledEntries.isEmpty()))
+		{
+			return EMPTY;
+		}
+
+		Map<String, List<int[]>> enabled = parse(enabledEntries, logger);
+		Map<String, List<int[]>> disabled = parse(disabledEntries, logger);
+
+		Set<String> worldNames = new HashSet<>(enabled.keySet());
+		worldNames.addAll(disabled.keySet());
+
+		Map<String, ChunkRegionIndex> result = new HashMap<>();
+		for (String worldName : worldNames)
+		{
+			result.put(worldName, ChunkRegionIndex.of(
+					enabled.getOrDefault(worldName, List.of()),
+					disabled.getOrDefault(worldName, List.of())));
+		}
+
+		return new RegionRules(Map.copyOf(result));
+	}
+
+
+	/**
+	 * get the compiled regions for a world
+	 *
+	 * @param worldName the name of the world
+	 * @return the region index for the world, or {@code null} if the world has no regions
+	 */
+	ChunkRegionIndex get(final String worldName)
+	{
+		return (worldName != null)
+				? indexByWorldName.get(worldName.toLowerCase(Locale.ROOT))
+				: null;
+	}
+
+
+	/**
+	 * check if there are no region rules
+	 *
+	 * @return {@code true} if no world has regions
+	 */
+	boolean isEmpty()
+	{
+		return indexByWorldName.isEmpty();
+	}
+
+
+	private static Map<String, List<int[]>> parse(final Collection<String> entries, final Logger logger)
+	{
+		Map<String, List<int[]>> result = new HashMap<>();
+
+		if (entries == null)
+		{
+			return result;
+		}
+
+		for (String entry : entries)
+		{
+			Matcher matcher = (entry != null) ? ENTRY.matcher(entry) : null;
+
+			if (matcher == null || !matcher.matches())
+			{
+				logger.warning("Ignoring invalid region '" + entry + "'. Expected '<world> <x1>,<z1> <x2>,<z2>' in chunk coordinates.");
+				continue;
+			}
+
+			try
+			{
+				int x1 = Integer.parseInt(matcher.group(2));
+				int z1 = Integer.parseInt(matcher.group(3));
+				int x2 = (matcher.group(4) != null) ? Integer.parseInt(matcher.group(4)) : x1;
+				int z2 = (matcher.group(5) != null) ? Integer.parseInt(matcher.group(5)) : z1;
+
+				result.computeIfAbsent(matcher.group(1).toLowerCase(Locale.ROOT), key -> new ArrayList<>())
+						.add(new int[] { Math.min(x1, x2), Math.min(z1, z2), Math.max(x1, x2), Math.max(z1, z2) });
+			}
+			catch (NumberFormatException e)
+			{
+				logger.warning("Ignoring invalid region '" + entry + "'. Chunk coordinates are out of range.");
+			}
+		}
+
+		return result;
+	}
+
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager;
+
+
+/**
+ * A callback notified each time a world manager's enabled world registry is replaced, by a reload or by a
+ * world being loaded or unloaded in incremental mode. Listeners are added with
+ * {@link WorldManager#addRegistryChangeListener(RegistryChangeListener)}, and are called on the thread that
+ * replaced the registry, after it has been published.
+ * <p>
+ * This is lighter than listening for {@link com.winterhavenmc.library.worldmanager.event.WorldEnabledEvent} and
+ * {@link com.winterhavenmc.library.worldmanager.event.WorldDisabledEvent}, which are sent once per affected world
+ * through the Bukkit event system, and it is also called for changes that enable or disable no worlds.
+ */
+@FunctionalInterface
+public interface RegistryChangeListener
+{
+	/**
+	 * Called after the registry has been replaced
+	 *
+	 * @param diff the worlds added, removed and unchanged by the change
+	 */
+	void registryChanged(RegistryDiff diff);
+}
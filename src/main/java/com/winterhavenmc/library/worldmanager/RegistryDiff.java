@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+
+/**
+ * The difference between two versions of a world manager's enabled world registry, as passed to each
+ * {@link RegistryChangeListener} when the registry is replaced by a reload or by a world being loaded
+ * or unloaded in incremental mode.
+ *
+ * @param previousVersion the version of the registry before the change
+ * @param version the version of the registry after the change
+ * @param added the uids of worlds that are enabled after the change and were not before
+ * @param removed the uids of worlds that were enabled before the change and are not after
+ * @param unchanged the uids of worlds that are enabled both before and after the change
+ */
+public record RegistryDiff(long previousVersion, long version, Set<UUID> added, Set<UUID> removed, Set<UUID> unchanged)
+{
+	/**
+	 * Class constructor. The sets are copied, so the diff is immutable.
+	 */
+	public RegistryDiff
+	{
+		added = Set.copyOf(added);
+		removed = Set.copyOf(removed);
+		unchanged = Set.copyOf(unchanged);
+	}
+
+
+	/**
+	 * Compute the difference between two registry snapshots
+	 *
+	 * @param previous the snapshot before the change
+	 * @param next the snapshot after the change
+	 * @return a new {@code RegistryDiff}
+	 */
+	static RegistryDiff between(final RegistrySnapshot previous, final RegistrySnapshot next)
+	{
+		Set<UUID> added = new HashSet<>();
+		Set<UUID> removed = new HashSet<>();
+		Set<UUID> unchanged = new HashSet<>();
+
+		for (UUID worldUid : next.worldUids())
+		{
+			(previous.contains(worldUid) ? unchanged : added).add(worldUid);
+		}
+
+		for (UUID worldUid : previous.worldUids())
+		{
+			if (!next.contains(worldUid))
+			{
+				removed.add(worldUid);
+			}
+		}
+
+		return new RegistryDiff(previous.version(), next.version(), added, removed, unchanged);
+	}
+
+
+	/**
+	 * check if any world was enabled or disabled by the change
+	 *
+	 * @return {@code true} if no world was added or removed, {@code false} otherwise
+	 */
+	public boolean isEmpty()
+	{
+		return added.isEmpty() && removed.isEmpty();
+	}
+
+
+	/**
+	 * check if the enabled state of a world was changed
+	 *
+	 * @param worldUid the unique id of a world
+	 * @return {@code true} if the world was added or removed, {@code false} otherwise
+	 */
+	public boolean isAffected(final UUID worldUid)
+	{
+		return worldUid != null && (added.contains(worldUid) || removed.contains(worldUid));
+	}
+
+}
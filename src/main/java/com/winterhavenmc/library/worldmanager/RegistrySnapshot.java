@@ -0,0 +1,368 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager;
+
+import org.bukkit.World;
+import org.jetbrains.annotations.Contract;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+
+/**
+ * An immutable view of the enabled world registry.
+ * <p>
+ * A new snapshot is built to the side on each reload and published by {@link WorldManager}
+ * through a single volatile reference, so readers on any thread always see a complete registry
+ * without locking. The set of enabled world names is computed once per snapshot, and each
+ * snapshot carries a version number that increases with every published change.
+ * <p>
+ * Membership checks go through a {@link UuidSet} built with the snapshot, rather than the
+ * hash map of world names. The snapshot also holds a bitset of enabled world slots, as assigned
+ * by the {@link WorldSlotTable} it carries, so that a world whose slot is known can be checked with one
+ * bit test, and a mask of the {@link Feature features} enabled in each enabled world, indexed by slot.
+ * Each snapshot reads slots only from its own table, so a table renumbered for another world manager
+ * sharing the same registry service cannot make its bits refer to the wrong worlds.
+ */
+final class RegistrySnapshot
+{
+	static final RegistrySnapshot EMPTY = new RegistrySnapshot(Map.of(), new long[0], new long[0],
+			WorldSlotTable.EMPTY, 0L);
+
+	private final Map<UUID, String> enabledWorlds;
+	private final Set<String> enabledWorldNames;
+	private final UuidSet enabledWorldUids;
+	private final long[] enabledSlots;
+	private final long[] featureMasks;
+	private final WorldSlotTable slotTable;
+	private final long version;
+
+
+	/**
+	 * Class constructor
+	 *
+	 * @param enabledWorlds map of the unique ids of all enabled worlds to their names
+	 * @param enabledSlots bitset of the world slots of all enabled worlds, which is not copied
+	 * @param featureMasks mask of enabled features of each enabled world, indexed by world slot, which is not copied
+	 * @param slotTable the table that assigned the slots of the bitset and masks
+	 * @param version the version number of this snapshot
+	 */
+	RegistrySnapshot(final Map<UUID, String> enabledWorlds, final long[] enabledSlots,
+	                 final long[] featureMasks, final WorldSlotTable slotTable, final long version)
+	{
+		this.enabledWorlds = Map.copyOf(enabledWorlds);
+		this.enabledWorldNames = Set.copyOf(enabledWorlds.values());
+		this.enabledWorldUids = UuidSet.of(this.enabledWorlds.keySet());
+		this.enabledSlots = enabledSlots;
+		this.featureMasks = featureMasks;
+		this.slotTable = slotTable;
+		this.version = version;
+	}
+
+
+	/**
+	 * Class constructor for a snapshot with the same enabled worlds and version as another, and different slots
+	 */
+	private RegistrySnapshot(final RegistrySnapshot worlds, final long[] enabledSlots,
+	                         final long[] featureMasks, final WorldSlotTable slotTable)
+	{
+		this.enabledWorlds = worlds.enabledWorlds;
+		this.enabledWorldNames = worlds.enabledWorldNames;
+		this.enabledWorldUids = worlds.enabledWorldUids;
+		this.enabledSlots = enabledSlots;
+		this.featureMasks = featureMasks;
+		this.slotTable = slotTable;
+		this.version = worlds.version;
+	}
+
+
+	/**
+	 * Return a new snapshot that includes the given world, giving it a slot in this snapshot's table
+	 *
+	 * @param world the world to add
+	 * @param featureMask the mask of features enabled in the world to add
+	 * @param version the version number of the new snapshot
+	 * @return a new {@code RegistrySnapshot}
+	 */
+	RegistrySnapshot with(final World world, final long featureMask, final long version)
+	{
+		Map<UUID, String> result = new HashMap<>(enabledWorlds);
+		result.put(world.getUID(), world.getName());
+
+		RegistrySnapshot slotted = withSlot(world, featureMask);
+		return new RegistrySnapshot(result, slotted.enabledSlots, slotted.featureMasks, slotted.slotTable, version);
+	}
+
+
+	/**
+	 * Return a new snapshot that excludes the given world, and releases its slot
+	 *
+	 * @param world the world to remove
+	 * @param version the version number of the new snapshot
+	 * @return a new {@code RegistrySnapshot}
+	 */
+	RegistrySnapshot without(final World world, final long version)
+	{
+		Map<UUID, String> result = new HashMap<>(enabledWorlds);
+		result.remove(world.getUID());
+
+		RegistrySnapshot released = withoutSlot(world);
+		return new RegistrySnapshot(result, released.enabledSlots, released.featureMasks, released.slotTable, version);
+	}
+
+
+	/**
+	 * Return a snapshot with the same enabled worlds and version, in which the given world has a slot with its
+	 * enabled bit and feature mask set. Used when a world that this snapshot already enables is loaded again.
+	 *
+	 * @param world the world to give a slot
+	 * @param featureMask the mask of features enabled in the world
+	 * @return a new {@code RegistrySnapshot}
+	 */
+	RegistrySnapshot withSlot(final World world, final long featureMask)
+	{
+		WorldSlotTable table = slotTable.with(world);
+		int worldSlot = table.slotOf(world);
+
+		long[] slots = Arrays.copyOf(enabledSlots, Math.max(enabledSlots.length, (worldSlot >>> 6) + 1));
+		slots[worldSlot >>> 6] |= 1L << worldSlot;
+		long[] masks = Arrays.copyOf(featureMasks, Math.max(featureMasks.length, worldSlot + 1));
+		masks[worldSlot] = featureMask;
+
+		return new RegistrySnapshot(this, slots, masks, table);
+	}
+
+
+	/**
+	 * Return a snapshot with the same enabled worlds and version, in which the given world has no slot, so that
+	 * the snapshot does not keep an unloaded world reachable. A world without a slot is checked by uid.
+	 *
+	 * @param world the world to release
+	 * @return a new {@code RegistrySnapshot}, or this snapshot if the world has no slot
+	 */
+	RegistrySnapshot withoutSlot(final World world)
+	{
+		int worldSlot = slotTable.slotOf(world);
+		if (worldSlot == WorldSlotTable.NO_SLOT)
+		{
+			return this;
+		}
+
+		long[] slots = enabledSlots;
+		if ((worldSlot >>> 6) < enabledSlots.length)
+		{
+			slots = enabledSlots.clone();
+			slots[worldSlot >>> 6] &= ~(1L << worldSlot);
+		}
+
+		long[] masks = featureMasks;
+		if (worldSlot < featureMasks.length)
+		{
+			masks = featureMasks.clone();
+			masks[worldSlot] = 0L;
+		}
+
+		return new RegistrySnapshot(this, slots, masks, slotTable.without(world));
+	}
+
+
+	/**
+	 * Return a snapshot with the same enabled worlds and version, in which a feature bit is set in the mask of
+	 * each given world that has an enabled slot and is enabled by the feature rules. Used when a feature is
+	 * registered, so that its bit can be set without rebuilding the registry.
+	 *
+	 * @param featureMask the mask with the single bit of the feature set
+	 * @param worlds the loaded worlds
+	 * @param featureRules the rules of the feature
+	 * @return a new {@code RegistrySnapshot}
+	 */
+	RegistrySnapshot withFeature(final long featureMask, final Collection<World> worlds, final WorldRules featureRules)
+	{
+		long[] masks = featureMasks.clone();
+		for (World world : worlds)
+		{
+			int worldSlot = slotTable.slotOf(world);
+			if (isSlotEnabled(worldSlot) && worldSlot < masks.length && featureRules.isEnabled(world))
+			{
+				masks[worldSlot] |= featureMask;
+			}
+		}
+
+		return new RegistrySnapshot(this, enabledSlots, masks, slotTable);
+	}
+
+
+	/**
+	 * check if a world uid is present in the snapshot
+	 *
+	 * @param worldUid the unique id of a world
+	 * @return {@code true} if the world is enabled, {@code false} if not
+	 */
+	@Contract(pure = true)
+	boolean contains(final UUID worldUid)
+	{
+		return enabledWorldUids.contains(worldUid);
+	}
+
+
+	/**
+	 * check if a world uid, given as its most and least significant bits, is present in the snapshot
+	 *
+	 * @param mostSigBits the most significant bits of the world uid
+	 * @param leastSigBits the least significant bits of the world uid
+	 * @return {@code true} if the world is enabled, {@code false} if not
+	 */
+	@Contract(pure = true)
+	boolean contains(final long mostSigBits, final long leastSigBits)
+	{
+		return enabledWorldUids.contains(mostSigBits, leastSigBits);
+	}
+
+
+	/**
+	 * check if a world is enabled, by its slot if it has one in this snapshot's table and by uid if not
+	 *
+	 * @param world a world
+	 * @return {@code true} if the world is enabled, {@code false} if not or if the world is null
+	 */
+	@Contract(pure = true)
+	boolean isEnabled(final World world)
+	{
+		if (world == null)
+		{
+			return false;
+		}
+
+		int worldSlot = slotTable.slotOf(world);
+
+		return (worldSlot != WorldSlotTable.NO_SLOT)
+				? isSlotEnabled(worldSlot)
+				: contains(world.getUID());
+	}
+
+
+	/**
+	 * get the slot of a world in this snapshot's table
+	 *
+	 * @param world a world
+	 * @return the slot of the world, or {@link WorldSlotTable#NO_SLOT} if the world is null or has no slot
+	 */
+	@Contract(pure = true)
+	int slotOf(final World world)
+	{
+		return slotTable.slotOf(world);
+	}
+
+
+	/**
+	 * check if a world slot is set in the enabled slot bitset of the snapshot
+	 *
+	 * @param worldSlot a world slot assigned by {@link WorldSlotTable}
+	 * @return {@code true} if the world in that slot is enabled, {@code false} if not or if the slot is negative
+	 */
+	@Contract(pure = true)
+	boolean isSlotEnabled(final int worldSlot)
+	{
+		final long[] slots = enabledSlots;
+		final int word = worldSlot >>> 6;
+		return worldSlot >= 0 && word < slots.length && (slots[word] & (1L << worldSlot)) != 0;
+	}
+
+
+	/**
+	 * check if any of the given features is enabled in the world in a slot
+	 *
+	 * @param worldSlot a world slot assigned by {@link WorldSlotTable}
+	 * @param featureMask the mask of the features to check
+	 * @return {@code true} if the world in that slot is enabled with one of the features, {@code false} if not
+	 *         or if the slot is negative
+	 */
+	@Contract(pure = true)
+	boolean hasFeature(final int worldSlot, final long featureMask)
+	{
+		final long[] masks = featureMasks;
+		return worldSlot >= 0 && worldSlot < masks.length && (masks[worldSlot] & featureMask) != 0;
+	}
+
+
+	/**
+	 * get the name of an enabled world in the snapshot
+	 *
+	 * @param worldUid the unique id of a world
+	 * @return the name of the world, or null if it is not enabled in this snapshot
+	 */
+	@Contract(pure = true)
+	String worldName(final UUID worldUid)
+	{
+		return (worldUid != null) ? enabledWorlds.get(worldUid) : null;
+	}
+
+
+	/**
+	 * get the number of enabled worlds in the snapshot
+	 *
+	 * @return {@code int} the number of enabled worlds
+	 */
+	@Contract(pure = true)
+	int size()
+	{
+		return enabledWorlds.size();
+	}
+
+
+	/**
+	 * get the unique ids of all enabled worlds in the snapshot
+	 *
+	 * @return an unmodifiable set of world uids
+	 */
+	@Contract(pure = true)
+	Set<UUID> worldUids()
+	{
+		return enabledWorlds.keySet();
+	}
+
+
+	/**
+	 * get the names of all enabled worlds in the snapshot
+	 *
+	 * @return an unmodifiable set of world names
+	 */
+	@Contract(pure = true)
+	Set<String> worldNames()
+	{
+		return enabledWorldNames;
+	}
+
+
+	/**
+	 * get the version number of the snapshot
+	 *
+	 * @return {@code long} the snapshot version
+	 */
+	@Contract(pure = true)
+	long version()
+	{
+		return version;
+	}
+
+}
+
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager;
+
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.server.ServiceUnregisterEvent;
+import org.bukkit.plugin.RegisteredServiceProvider;
+
+
+/**
+ * Listens for the {@link WorldRegistryService} used by a {@link WorldManager} being unregistered,
+ * which happens when the plugin that provides it is disabled, so that the world manager can rebind
+ * to another service.
+ */
+final class ServiceEventListener implements Listener
+{
+	private final WorldManager worldManager;
+
+
+	/**
+	 * Class constructor
+	 *
+	 * @param worldManager the world manager rebound when its registry service is unregistered
+	 */
+	ServiceEventListener(final WorldManager worldManager)
+	{
+		this.worldManager = worldManager;
+	}
+
+
+	/**
+	 * Rebind the world manager if the unregistered service is the one it uses
+	 *
+	 * @param event the service unregister event
+	 */
+	@EventHandler(priority = EventPriority.MONITOR)
+	public void onServiceUnregister(final ServiceUnregisterEvent event)
+	{
+		RegisteredServiceProvider<?> provider = event.getProvider();
+
+		if (provider != null && provider.getProvider() == worldManager.getRegistryService())
+		{
+			worldManager.rebindRegistryService();
+		}
+	}
+
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager;
+
+import org.jetbrains.annotations.Contract;
+
+import java.util.Collection;
+import java.util.UUID;
+
+
+/**
+ * An immutable set of uuids, stored as pairs of most and least significant bits in a single
+ * open-addressing table with linear probing.
+ * <p>
+ * A lookup hashes two longs and compares array elements, with no boxing and no pointer chasing,
+ * and can be made from raw bits without creating a {@code UUID}. The table is kept at most half full.
+ * The all-zero (nil) uuid marks an empty slot, so its membership is held in a separate flag.
+ */
+final class UuidSet
+{
+	static final UuidSet EMPTY = new UuidSet(new long[2], 0, false);
+
+	private final long[] table;
+	private final int mask;
+	private final int size;
+	private final boolean containsNil;
+
+
+	private UuidSet(final long[] table, final int size, final boolean containsNil)
+	{
+		this.table = table;
+		this.mask = (table.length / 2) - 1;
+		this.size = size;
+		this.containsNil = containsNil;
+	}
+
+
+	/**
+	 * Create a set holding the given uuids
+	 *
+	 * @param uuids the uuids to add; null elements are ignored
+	 * @return a new {@code UuidSet}
+	 */
+	static UuidSet of(final Collection<UUID> uuids)
+	{
+		if (uuids == null || uuids.isEmpty())
+		{
+			return EMPTY;
+		}
+
+		int capacity = Integer.highestOneBit(Math.max(1, uuids.size()) * 2 - 1) << 1;
+		long[] table = new long[capacity * 2];
+		int mask = capacity - 1;
+		int size = 0;
+		boolean containsNil = false;
+
+		for (UUID uuid : uuids)
+		{
+			if (uuid == null)
+			{
+				continue;
+			}
+
+			long mostSigBits = uuid.getMostSignificantBits();
+			long leastSigBits = uuid.getLeastSignificantBits();
+
+			if (mostSigBits == 0L && leastSigBits == 0L)
+			{
+				if (!containsNil)
+				{
+					containsNil = true;
+					size++;
+				}
+				continue;
+			}
+
+			int slot = hash(mostSigBits, leastSigBits) & mask;
+			while (true)
+			{
+				int index = slot * 2;
+				if (table[index] == 0L && table[index + 1] == 0L)
+				{
+					table[index] = mostSigBits;
+					table[index + 1] = leastSigBits;
+					size++;
+					break;
+				}
+				if (table[index] == mostSigBits && table[index + 1] == leastSigBits)
+				{
+					break;
+				}
+				slot = (slot + 1) & mask;
+			}
+		}
+
+		return new UuidSet(table, size, containsNil);
+	}
+
+
+	/**
+	 * check if the set contains a uuid
+	 *
+	 * @param uuid the uuid to check
+	 * @return {@code true} if the uuid is in the set, {@code false} if not or if null
+	 */
+	@Contract(pure = true)
+	boolean contains(final UUID uuid)
+	{
+		return uuid != null && contains(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+	}
+
+
+	/**
+	 * check if the set contains a uuid, given as its most and least significant bits
+	 *
+	 * @param mostSigBits the most significant bits of the uuid
+	 * @param leastSigBits the least significant bits of the uuid
+	 * @return {@code true} if the uuid is in the set, {@code false} if not
+	 */
+	@Contract(pure = true)
+	boolean contains(final long mostSigBits, final long leastSigBits)
+	{
+		if (mostSigBits == 0L && leastSigBits == 0L)
+		{
+			return containsNil;
+		}
+
+		final long[] table = this.table;
+		int slot = hash(mostSigBits, leastSigBits) & mask;
+
+		while (true)
+		{
+			int index = slot * 2;
+			long storedMostSigBits = table[index];
+			long storedLeastSigBits = table[index + 1];
+
+			if (storedMostSigBits == mostSigBits && storedLeastSigBits == leastSigBits)
+			{
+				return true;
+			}
+			if (storedMostSigBits == 0L && storedLeastSigBits == 0L)
+			{
+				return false;
+			}
+			slot = (slot + 1) & mask;
+		}
+	}
+
+
+	/**
+	 * get the number of uuids in the set
+	 *
+	 * @return {@code int} the number of uuids
+	 */
+	@Contract(pure = true)
+	int size()
+	{
+		return size;
+	}
+
+
+	private static int hash(final long mostSigBits, final long leastSigBits)
+	{
+		// fibonacci hashing of the folded bits, so that sequential or low-entropy uids still spread across the table
+		long h = (mostSigBits ^ leastSigBits) * 0x9E3779B97F4A7C15L;
+		return (int) (h >>> 32);
+	}
+
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager;
+
+import java.time.Duration;
+
+
+/**
+ * The result of a cache warm-up, as returned by {@link WorldManager#warmUp(Duration)}.
+ *
+ * @param enabledWorlds the number of enabled worlds in the registry when the warm-up started
+ * @param warmedWorlds the number of worlds whose name and spawn location are now cached
+ * @param elapsed the time taken by the warm-up
+ * @param timedOut {@code true} if the time budget ran out before all enabled worlds were warmed
+ */
+public record WarmUpReport(int enabledWorlds, int warmedWorlds, Duration elapsed, boolean timedOut) { }
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager;
+
+import org.bukkit.Location;
+
+import java.util.UUID;
+
+
+/**
+ * An immutable description of a world, with its enabled state, display name and spawn location,
+ * as returned by {@link WorldManager#describe(org.bukkit.World)}.
+ * <p>
+ * The spawn location is copied when the record is created, and a new copy is returned by
+ * {@link #spawnLocation()}, so a record may be cached and shared, for example by a world selector menu.
+ *
+ * @param worldUid the unique id of the world
+ * @param enabled {@code true} if the world is enabled in the registry when the record was created
+ * @param name the Multiverse alias of the world if available, otherwise the world name
+ * @param spawnLocation the Multiverse spawn location of the world if available, otherwise the world spawn location
+ */
+public record WorldDescription(UUID worldUid, boolean enabled, String name, Location spawnLocation)
+{
+	public WorldDescription
+	{
+		spawnLocation = (spawnLocation != null) ? spawnLocation.clone() : null;
+	}
+
+
+	/**
+	 * get the spawn location of the world. A new location is returned on each call, so callers are free to modify it.
+	 *
+	 * @return a copy of the spawn location, or {@code null} if the world has no spawn location
+	 */
+	@Override
+	public Location spawnLocation()
+	{
+		return (spawnLocation != null) ? spawnLocation.clone() : null;
+	}
+
+}
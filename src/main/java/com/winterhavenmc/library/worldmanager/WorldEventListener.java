@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager;
+
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.server.ServerLoadEvent;
+import org.bukkit.event.world.SpawnChangeEvent;
+import org.bukkit.event.world.WorldLoadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+
+
+/**
+ * Listens for worlds being loaded or unloaded, and passes them on to a {@link WorldRegistryService}
+ * instance so that its per-world state, and that of its attached world managers, can be kept current.
+ * Also tells the service when the server has finished loading, so that caches can be warmed.
+ */
+final class WorldEventListener implements Listener
+{
+	private final WorldRegistryService registryService;
+
+
+	/**
+	 * Class constructor
+	 *
+	 * @param registryService the registry service notified of world events
+	 */
+	WorldEventListener(final WorldRegistryService registryService)
+	{
+		this.registryService = registryService;
+	}
+
+
+	/**
+	 * Notify registry service of a newly loaded world
+	 *
+	 * @param event the world load event
+	 */
+	@EventHandler(priority = EventPriority.MONITOR)
+	public void onWorldLoad(final WorldLoadEvent event)
+	{
+		registryService.worldLoaded(event.getWorld());
+	}
+
+
+	/**
+	 * Notify registry service of an unloaded world
+	 *
+	 * @param event the world unload event
+	 */
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onWorldUnload(final WorldUnloadEvent event)
+	{
+		registryService.worldUnloaded(event.getWorld());
+	}
+
+
+	/**
+	 * Notify registry service of a changed world spawn location
+	 *
+	 * @param event the spawn change event
+	 */
+	@EventHandler(priority = EventPriority.MONITOR)
+	public void onSpawnChange(final SpawnChangeEvent event)
+	{
+		registryService.spawnChanged(event.getWorld());
+	}
+
+
+	/**
+	 * Notify registry service that the server has finished loading
+	 *
+	 * @param event the server load event
+	 */
+	@EventHandler(priority = EventPriority.MONITOR)
+	public void onServerLoad(final ServerLoadEvent event)
+	{
+		registryService.serverLoaded();
+	}
+
+}
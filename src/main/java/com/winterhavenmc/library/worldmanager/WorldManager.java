@@ -17,16 +17,35 @@
 
 package com.winterhavenmc.library.worldmanager;
 
-import com.winterhavenmc.library.worldmanager.spawn.SpawnLocationResolver;
-import com.winterhavenmc.library.worldmanager.worldname.WorldNameResolver;
+import com.winterhavenmc.library.worldmanager.details.WorldDetails;
+import com.winterhavenmc.library.worldmanager.event.WorldDisabledEvent;
+import com.winterhavenmc.library.worldmanager.event.WorldEnabledEvent;
+import com.winterhavenmc.library.worldmanager.metrics.MetricsSink;
+import com.winterhavenmc.library.worldmanager.metrics.Operation;
+import com.winterhavenmc.library.worldmanager.scheduler.TaskScheduler;
+import com.winterhavenmc.library.worldmanager.spawn.SpawnSnapshot;
 import org.bukkit.Location;
+import org.bukkit.Server;
 import org.bukkit.World;
-import org.bukkit.generator.WorldInfo;
+import org.bukkit.entity.Entity;
 import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginManager;
 
 import org.jetbrains.annotations.Contract;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 
 @SuppressWarnings("unused")
@@ -34,258 +53,1675 @@ public final class WorldManager
 {
 	private final Plugin plugin;
 
-	// collection of enabled world names
-	private final Collection<UUID> enabledWorldRegistry = new HashSet<>();
+	// immutable snapshot of enabled world uids, replaced as a whole on each reload
+	private volatile RegistrySnapshot enabledWorldRegistry = RegistrySnapshot.EMPTY;
+
+	// version number assigned to the next published registry snapshot
+	private final AtomicLong registryVersion = new AtomicLong();
+
+	// incremented when a reload starts, so that an asynchronous reload can tell it has been superseded
+	private final AtomicLong reloadGeneration = new AtomicLong();
+
+	// guards updates to the registry; readers do not lock
+	private final Object registryLock = new Object();
+
+	// enabled and disabled world rules read from config on the last reload
+	private volatile WorldRules worldRules = WorldRules.ALL_ENABLED;
+
+	// whether the registry is updated as worlds are loaded and unloaded
+	private final UpdateMode updateMode;
+
+	// world name index, slot table, resolvers and caches, shared with the world managers of other plugins
+	private volatile WorldRegistryService registryService;
+
+	// compiled enabled and disabled chunk regions of loaded worlds that have any, keyed by world uid
+	private volatile Map<UUID, ChunkRegionIndex> worldRegions = Map.of();
+
+	// registered features in bit order, replaced as a whole when a feature is registered
+	private volatile List<Feature> features = List.of();
+
+	// callbacks notified with the diff each time the registry is replaced
+	private final CopyOnWriteArrayList<RegistryChangeListener> registryChangeListeners = new CopyOnWriteArrayList<>();
+
+	// runs world lookups on the thread that owns the world, and reload work on worker and server threads
+	private final TaskScheduler taskScheduler;
+
+	// world state read from the plugin data folder at construction, checked against live data when the server has loaded
+	private volatile Map<UUID, WorldStateFile.Entry> seededWorlds = Map.of();
+
+	// asynchronous lookups waiting on the server thread, keyed by world UID, shared by concurrent callers
+	private final Map<UUID, CompletableFuture<String>> pendingNameLookups = new ConcurrentHashMap<>();
+	private final Map<UUID, CompletableFuture<Location>> pendingSpawnLookups = new ConcurrentHashMap<>();
+
+	// destination for lookup timings and cache statistics; lookups are not timed while this is NOOP
+	private volatile MetricsSink metricsSink = MetricsSink.NOOP;
+	private final static long NOT_TIMED = Long.MIN_VALUE;
+
+	// default time allowed for warming caches when the server finishes loading
+	static final Duration DEFAULT_WARM_UP_BUDGET = Duration.ofMillis(50);
 
 	private final static String ENABLED_WORLDS_KEY = "enabled-worlds";
 	private final static String DISABLED_WORLDS_KEY = "disabled-worlds";
+	private final static String ENABLED_REGIONS_KEY = "enabled-regions";
+	private final static String DISABLED_REGIONS_KEY = "disabled-regions";
+	private final static String FEATURE_ENABLED_WORLDS_SUFFIX = "." + ENABLED_WORLDS_KEY;
+	private final static String FEATURE_DISABLED_WORLDS_SUFFIX = "." + DISABLED_WORLDS_KEY;
 	public static final String UNKNOWN_WORLD = "\uD83C\uDF10";
 	public static final String CONSOLE_SENDER = "console";
 
 
+	/**
+	 * Selects how the enabled world registry is kept up to date
+	 */
+	public enum UpdateMode
+	{
+		/**
+		 * The registry changes only when {@link WorldManager#reload()} is called
+		 */
+		RELOAD,
+
+		/**
+		 * In addition to reloads, worlds are added to or removed from the registry one at a time
+		 * as they are loaded or unloaded, using the enabled-worlds and disabled-worlds rules
+		 * read on the last reload
+		 */
+		INCREMENTAL
+	}
+
+
 	/**
 	 * Class constructor
 	 *
 	 * @param plugin passed reference to the plugin main class
 	 */
 	public WorldManager(final Plugin plugin)
+	{
+		this(plugin, UpdateMode.RELOAD);
+	}
+
+
+	/**
+	 * Class constructor
+	 *
+	 * @param plugin passed reference to the plugin main class
+	 * @param updateMode how the enabled world registry is kept up to date
+	 */
+	public WorldManager(final Plugin plugin, final UpdateMode updateMode)
 	{
 		// set reference to main class
 		this.plugin = plugin;
+		this.updateMode = updateMode;
+
+		// select scheduler for the current server
+		this.taskScheduler = TaskScheduler.get(plugin);
+
+		// use the registry service of the server, registering one provided by this plugin if there is none
+		this.registryService = WorldRegistryService.get(plugin);
+		this.registryService.attach(this);
+
+		// serve names and spawn locations saved on the last run until they can be resolved live; the caches are
+		// shared, so they are seeded only from the state file of the plugin that provides the registry service
+		if (this.registryService.isPrimary(this))
+		{
+			this.seedCaches();
+		}
 
 		// populate enabled world UID list field
 		this.reload();
+
+		// rebind to another registry service if the plugin providing this one is disabled
+		plugin.getServer().getPluginManager().registerEvents(new ServiceEventListener(this), plugin);
 	}
 
 
 	/**
-	 * update enabledWorlds collection from plugin config.yml file
+	 * get the plugin that created this world manager
+	 *
+	 * @return the plugin passed to the constructor
 	 */
-	@SuppressWarnings("WeakerAccess")
-	public void reload()
+	Plugin getPlugin()
+	{
+		return plugin;
+	}
+
+
+	/**
+	 * get the registry service that holds the world name index, resolvers and caches used by this world manager.
+	 * The service is shared by the world managers of all plugins that load the same copy of this library.
+	 *
+	 * @return the registry service currently in use
+	 */
+	public WorldRegistryService getRegistryService()
 	{
-		// remove all worlds from registry
-		this.enabledWorldRegistry.clear();
+		return registryService;
+	}
+
 
-		// if server.getWorlds() is empty, return without adding any worlds to registry and log warning
-		if (plugin.getServer().getWorlds().stream().map(WorldInfo::getName).toList().isEmpty())
+	/**
+	 * Attach to the registry service now registered with the server, or register a new one provided by this
+	 * plugin, and reload. Called by the service event listener when the service in use is unregistered.
+	 * Nothing is done if this plugin is itself being disabled.
+	 */
+	void rebindRegistryService()
+	{
+		if (!plugin.isEnabled())
 		{
-			plugin.getLogger().warning("the server has no worlds.");
 			return;
 		}
 
-		// if config list of enabled worlds is empty, add all server worlds to registry
-		if (plugin.getConfig().getStringList(ENABLED_WORLDS_KEY).isEmpty())
+		this.registryService.detach(this);
+
+		WorldRegistryService service = WorldRegistryService.get(plugin);
+		service.attach(this);
+		if (service.getPlugin() == plugin)
 		{
-			addAllServerWorlds();
+			service.setMetricsSink(metricsSink);
 		}
 
-		// otherwise, add only the worlds in the config enabled worlds list that are also server worlds
-		else
+		this.registryService = service;
+		this.reload();
+	}
+
+
+	/**
+	 * Apply a loaded world to this world manager's regions, and to its registry in incremental mode.
+	 * Called by the registry service after the world has been indexed.
+	 *
+	 * @param world the world that was loaded
+	 */
+	void applyWorldLoaded(final World world)
+	{
+		synchronized (registryLock)
+		{
+			this.worldRegions = withRegions(worldRegions, world, worldRules.regionRules());
+
+			// a world enabled on the last reload that is loaded again keeps its enabled state, with a new slot
+			if (updateMode == UpdateMode.RELOAD && enabledWorldRegistry.contains(world.getUID()))
+			{
+				this.enabledWorldRegistry = enabledWorldRegistry.withSlot(world, worldRules.featureRules().mask(world));
+			}
+		}
+
+		if (updateMode == UpdateMode.INCREMENTAL)
+		{
+			registerWorld(world);
+		}
+	}
+
+
+	/**
+	 * Remove an unloaded world from this world manager's regions, and from its registry in incremental mode.
+	 * Called by the registry service before the world is removed from the index.
+	 *
+	 * @param world the world that was unloaded
+	 */
+	void applyWorldUnloaded(final World world)
+	{
+		if (updateMode == UpdateMode.INCREMENTAL)
+		{
+			unregisterWorld(world);
+		}
+
+		synchronized (registryLock)
 		{
-			addAllEnabledConfigWorlds();
+			this.worldRegions = withoutRegions(worldRegions, world.getUID());
+
+			// release the slot, so the registry does not keep the unloaded world reachable
+			this.enabledWorldRegistry = enabledWorldRegistry.withoutSlot(world);
 		}
 
-		// remove all disabled worlds from registry
-		removeAllDisabledConfigWorlds();
+		worldRules.invalidate(world.getUID());
 	}
 
 
 	/**
-	 * Reload helper method adds all server worlds to the registry
+	 * Called when a world is loaded. The registry service indexes the world and notifies each
+	 * attached world manager.
+	 *
+	 * @param world the world that was loaded
 	 */
-	@SuppressWarnings("UnusedReturnValue")
-	private int addAllServerWorlds()
+	void worldLoaded(final World world)
 	{
-		int count = 0;
-		for (World world : plugin.getServer().getWorlds())
+		registryService.worldLoaded(world);
+	}
+
+
+	/**
+	 * Called when a world is unloaded. The registry service notifies each attached world manager
+	 * and removes the world from the index.
+	 *
+	 * @param world the world that was unloaded
+	 */
+	void worldUnloaded(final World world)
+	{
+		registryService.worldUnloaded(world);
+	}
+
+
+	/**
+	 * Discard cached data for a world, so that it is resolved again on next access.
+	 * Plugins that change a world alias outside of Multiverse commands can use this
+	 * to refresh the cached name. The caches are shared, so this affects the world
+	 * managers of all plugins using the same registry service.
+	 *
+	 * @param worldUID Unique Identifier for world
+	 */
+	public void invalidate(final UUID worldUID)
+	{
+		registryService.invalidate(worldUID);
+	}
+
+
+	/**
+	 * Called by the registry service when the server has finished loading, at startup or after a reload, on its
+	 * primary world manager only. World state read at construction is checked against live data, caches are
+	 * warmed, and the resolved state is saved for the next startup.
+	 */
+	void serverLoaded()
+	{
+		final int seeded = this.seededWorlds.size();
+		if (seeded > 0)
 		{
-			if (world != null)
+			int stale = verifySeededWorlds();
+			plugin.getLogger().info("Checked " + seeded + " worlds read from " + WorldStateFile.FILE_NAME
+					+ " against live data; " + stale + " were out of date.");
+		}
+
+		WarmUpReport report = warmUp(DEFAULT_WARM_UP_BUDGET);
+
+		// a warm-up that finished within its budget is routine, so it is only logged at FINE
+		plugin.getLogger().log(report.timedOut() ? Level.INFO : Level.FINE,
+				"Warmed world caches for " + report.warmedWorlds() + " of " + report.enabledWorlds()
+						+ " enabled worlds in " + report.elapsed().toMillis() + " ms"
+						+ (report.timedOut() ? " (time limit reached)." : "."));
+
+		saveWorldState();
+	}
+
+
+	/**
+	 * get the path of the world state file in the plugin data folder
+	 *
+	 * @return the path of the file, or null if the plugin has no data folder
+	 */
+	private Path worldStateFile()
+	{
+		File dataFolder = plugin.getDataFolder();
+		return (dataFolder != null) ? dataFolder.toPath().resolve(WorldStateFile.FILE_NAME) : null;
+	}
+
+
+	/**
+	 * Fill the name and spawn caches from the world state file, without replacing values that are already
+	 * cached. Entries for a loaded world whose name no longer matches are skipped.
+	 */
+	private void seedCaches()
+	{
+		final Path path = worldStateFile();
+		if (path == null)
+		{
+			return;
+		}
+
+		final WorldRegistryService service = this.registryService;
+		final Map<UUID, WorldStateFile.Entry> seeded = new HashMap<>();
+
+		for (WorldStateFile.Entry entry : WorldStateFile.read(path, plugin.getLogger()))
+		{
+			World world = plugin.getServer().getWorld(entry.worldUid());
+			if (world != null && !entry.worldName().equals(world.getName()))
 			{
-				this.enabledWorldRegistry.add(world.getUID());
-				count++;
+				continue;
+			}
+
+			if (!entry.alias().isBlank())
+			{
+				service.worldNameCache().putIfAbsent(entry.worldUid(), entry.alias());
 			}
+			service.spawnLocationCache().putIfAbsent(entry.worldUid(), entry.spawn());
+			seeded.put(entry.worldUid(), entry);
 		}
-		return count;
+
+		this.seededWorlds = Map.copyOf(seeded);
 	}
 
 
 	/**
-	 * Reload helper method adds all worlds to registry whose names are
-	 * contained in the config enabled-worlds string list and are also current server worlds
+	 * Resolve each loaded world read from the world state file again, replacing the cached values read from
+	 * the file. Must be called on the server thread.
+	 *
+	 * @return the number of worlds whose saved name, spawn location or enabled state was out of date
 	 */
-	@SuppressWarnings("UnusedReturnValue")
-	private int addAllEnabledConfigWorlds()
+	private int verifySeededWorlds()
 	{
-		int count = 0;
+		final Map<UUID, WorldStateFile.Entry> seeded = this.seededWorlds;
+		this.seededWorlds = Map.of();
+
+		final WorldRegistryService service = this.registryService;
+		int stale = 0;
 
-		for (String worldName : plugin.getConfig().getStringList(ENABLED_WORLDS_KEY))
+		for (WorldStateFile.Entry entry : seeded.values())
 		{
-			World world = plugin.getServer().getWorld(worldName);
+			World world = plugin.getServer().getWorld(entry.worldUid());
+			if (world == null || !taskScheduler.isOwnedByCurrentThread(world))
+			{
+				continue;
+			}
 
-			if (world != null)
+			// a world load invalidation or spawn change during the lookup must not be overwritten by its result
+			final long nameGeneration = service.worldNameCache().generation();
+			final long spawnGeneration = service.spawnLocationCache().generation();
+
+			WorldDetails details = service.worldDetailsResolver().resolve(world);
+			service.worldNameCache().put(entry.worldUid(), details.name(), nameGeneration);
+			service.spawnLocationCache().put(entry.worldUid(), details.spawnLocation(), spawnGeneration);
+
+			SpawnSnapshot spawn = (details.spawnLocation() != null) ? SpawnSnapshot.of(details.spawnLocation()) : null;
+			if (!entry.alias().equals(details.name())
+					|| !Objects.equals(entry.spawn(), spawn)
+					|| entry.enabled() != this.enabledWorldRegistry.isEnabled(world))
 			{
-				this.enabledWorldRegistry.add(world.getUID());
-				count++;
+				stale++;
 			}
 		}
-		return count;
+
+		return stale;
 	}
 
 
 	/**
-	 * Reload helper method removes all worlds from registry whose names are
-	 * contained in the config disabled-worlds string list
+	 * Save the cached name and spawn location and the enabled state of each loaded world to the world state
+	 * file. Values are collected on the calling thread, and the file is written on a worker thread.
 	 */
-	@SuppressWarnings("UnusedReturnValue")
-	private int removeAllDisabledConfigWorlds()
+	private void saveWorldState()
 	{
-		int count = 0;
-
-		for (String worldName : plugin.getConfig().getStringList(DISABLED_WORLDS_KEY))
+		final Path path = worldStateFile();
+		if (path == null)
 		{
-			World world = plugin.getServer().getWorld(worldName);
+			return;
+		}
 
-			if (world != null)
+		final WorldRegistryService service = this.registryService;
+		final List<WorldStateFile.Entry> entries = new ArrayList<>();
+
+		for (World world : plugin.getServer().getWorlds())
+		{
+			UUID worldUid = world.getUID();
+			Optional<String> name = service.worldNameCache().getIfPresent(worldUid);
+			if (name.isPresent())
 			{
-				this.enabledWorldRegistry.remove(world.getUID());
-				count++;
+				SpawnSnapshot spawn = service.spawnLocationCache().getIfPresent(world).map(SpawnSnapshot::of).orElse(null);
+				entries.add(new WorldStateFile.Entry(worldUid, world.getName(), name.get(),
+						this.enabledWorldRegistry.isEnabled(world), spawn));
 			}
 		}
-		return count;
+
+		try
+		{
+			taskScheduler.runAsync(() ->
+			{
+				try
+				{
+					WorldStateFile.write(path, entries);
+				}
+				catch (IOException e)
+				{
+					plugin.getLogger().warning("Could not write " + WorldStateFile.FILE_NAME + ": " + e.getMessage());
+				}
+			});
+		}
+		catch (RuntimeException e)
+		{
+			// the task could not be scheduled, for example because the plugin is disabled
+			plugin.getLogger().warning("Could not write " + WorldStateFile.FILE_NAME + ": " + e.getMessage());
+		}
 	}
 
 
 	/**
-	 * get collection of enabled world names from registry
+	 * Resolve and cache the name and spawn location of each enabled world, so that the first lookups for
+	 * a world do not wait on Multiverse. This is done automatically when the server finishes loading. Worlds
+	 * are described one at a time until all are cached or the time budget runs out; worlds left over are
+	 * resolved on first access as usual. Must be called on the server thread.
 	 *
-	 * @return a Collection of String containing enabled world names
+	 * @param budget the maximum time to spend warming caches
+	 * @return a report of the number of worlds warmed and the time taken
 	 */
-	public Collection<String> getEnabledWorldNames()
+	public WarmUpReport warmUp(final Duration budget)
 	{
-		Set<String> resultCollection = new HashSet<>();
+		final long start = System.nanoTime();
+		final long budgetNanos = (budget != null) ? budget.toNanos() : 0L;
+		final Set<UUID> worldUids = this.enabledWorldRegistry.worldUids();
+
+		int warmed = 0;
+		boolean timedOut = false;
 
-		for (UUID worldUID : enabledWorldRegistry)
+		for (UUID worldUid : worldUids)
 		{
-			World world = plugin.getServer().getWorld(worldUID);
+			if (System.nanoTime() - start >= budgetNanos)
+			{
+				timedOut = true;
+				break;
+			}
 
+			World world = plugin.getServer().getWorld(worldUid);
 			if (world != null)
 			{
-				resultCollection.add(world.getName());
+				describe(world);
+				warmed++;
 			}
 		}
 
-		return resultCollection;
+		return new WarmUpReport(worldUids.size(), warmed, Duration.ofNanos(System.nanoTime() - start), timedOut);
 	}
 
 
 	/**
-	 * Check if a world is enabled by bukkit world UID
+	 * update enabledWorlds collection from plugin config.yml file. The new registry is built
+	 * to the side and published as a whole, so concurrent readers never see a partial registry.
+	 */
+	@SuppressWarnings("WeakerAccess")
+	public void reload()
+	{
+		// supersede any asynchronous reload still in progress
+		reloadGeneration.incrementAndGet();
+		final long start = startTimer();
+
+		// read and compile enabled and disabled world rules from config
+		WorldRules rules = readWorldRules();
+
+		final RegistrySnapshot previous;
+		final RegistrySnapshot next;
+		synchronized (registryLock)
+		{
+			previous = this.enabledWorldRegistry;
+			publish(rules, plugin.getServer().getWorlds());
+			next = this.enabledWorldRegistry;
+		}
+
+		stopTimer(Operation.RELOAD, start);
+		registryChanged(previous, next);
+	}
+
+
+	/**
+	 * update enabledWorlds collection from plugin config.yml file, doing as little work as possible on
+	 * the server thread. The reload runs in five steps:
+	 * <ol>
+	 *   <li>config lists are copied on the calling thread, which should be the server thread</li>
+	 *   <li>the copied lists are compiled into patterns on a worker thread</li>
+	 *   <li>the uid and name of each loaded world are captured on the server thread</li>
+	 *   <li>the captured worlds are matched against the rules on a worker thread</li>
+	 *   <li>the registry is published on the server thread, matching any world loaded since step 3</li>
+	 * </ol>
+	 * If another reload is started before this one publishes, this one completes without publishing.
+	 * On Folia, the global region thread takes the place of the server thread. If the config cannot be
+	 * read or a step cannot be scheduled, the returned future completes exceptionally.
 	 *
-	 * @param worldUID Unique Identifier for world
-	 * @return {@code true} if world is enabled, {@code false} if disabled
+	 * @return a future that completes when the new registry has been published or superseded
 	 */
-	public boolean isEnabled(final UUID worldUID)
+	public CompletableFuture<Void> reloadAsync()
+	{
+		final long generation = reloadGeneration.incrementAndGet();
+		final long start = startTimer();
+		final Server server = plugin.getServer();
+		final CompletableFuture<Void> result = new CompletableFuture<>();
+		final Executor worker = rejectingInto(taskScheduler::runAsync, result);
+		final Executor serverThread = rejectingInto(taskScheduler::runGlobal, result);
+
+		result.whenComplete((ignored, throwable) ->
+		{
+			if (throwable != null)
+			{
+				plugin.getLogger().log(Level.WARNING, "an error occurred while reloading enabled worlds.", throwable);
+			}
+		});
+
+		// the config is not safe to read off the thread that may be editing or saving it
+		final WorldConfig config;
+		try
+		{
+			config = readWorldConfig();
+		}
+		catch (RuntimeException e)
+		{
+			result.completeExceptionally(e);
+			return result;
+		}
+
+		CompletableFuture
+				.supplyAsync(() -> config.compile(plugin.getLogger()), worker)
+				.thenApplyAsync(rules -> WorldCapture.of(rules, server.getWorlds()), serverThread)
+				.thenApplyAsync(WorldCapture::match, worker)
+				.thenAcceptAsync(rules ->
+				{
+					final RegistrySnapshot previous;
+					final RegistrySnapshot next;
+					synchronized (registryLock)
+					{
+						if (generation != reloadGeneration.get())
+						{
+							return;
+						}
+						previous = this.enabledWorldRegistry;
+						publish(rules, server.getWorlds());
+						next = this.enabledWorldRegistry;
+						stopTimer(Operation.RELOAD, start);
+					}
+					registryChanged(previous, next);
+				}, serverThread)
+				.whenComplete((ignored, throwable) ->
+				{
+					if (throwable != null)
+					{
+						result.completeExceptionally(throwable);
+					}
+					else
+					{
+						result.complete(null);
+					}
+				});
+
+		return result;
+	}
+
+
+	/**
+	 * Wrap an executor so that a task it refuses to run completes a future exceptionally, instead of the
+	 * exception escaping to the caller or to the thread that completed the previous stage
+	 */
+	private static Executor rejectingInto(final Executor executor, final CompletableFuture<?> future)
 	{
-		return worldUID != null && this.enabledWorldRegistry.contains(worldUID);
+		return task ->
+		{
+			try
+			{
+				executor.execute(task);
+			}
+			catch (RuntimeException e)
+			{
+				future.completeExceptionally(e);
+			}
+		};
 	}
 
 
 	/**
-	 * Check if a world is enabled by bukkit world object
+	 * Read and compile the enabled and disabled world rules from the plugin config
 	 *
-	 * @param world bukkit world object
-	 * @return {@code true} if world is enabled, {@code false} if disabled
+	 * @return a new {@code WorldRules}
 	 */
-	public boolean isEnabled(final World world)
+	private WorldRules readWorldRules()
 	{
-		return world != null && this.enabledWorldRegistry.contains(world.getUID());
+		return readWorldConfig().compile(plugin.getLogger());
 	}
 
 
 	/**
-	 * Check if a world is enabled by name
+	 * Copy the world, region and feature lists from the plugin config
 	 *
-	 * @param worldName name of world as string to check
-	 * @return {@code true} if world is enabled, {@code false} if disabled
+	 * @return a new {@code WorldConfig}
 	 */
-	public boolean isEnabled(final String worldName)
+	private WorldConfig readWorldConfig()
 	{
-		if (worldName == null || worldName.isBlank())
+		// read the enabled and disabled world lists of each registered feature, in bit order
+		List<Feature> registeredFeatures = this.features;
+		List<List<String>> featureEnabledWorlds = new ArrayList<>(registeredFeatures.size());
+		List<List<String>> featureDisabledWorlds = new ArrayList<>(registeredFeatures.size());
+		for (Feature feature : registeredFeatures)
 		{
-			return false;
+			featureEnabledWorlds.add(readStringList(feature.getName() + FEATURE_ENABLED_WORLDS_SUFFIX));
+			featureDisabledWorlds.add(readStringList(feature.getName() + FEATURE_DISABLED_WORLDS_SUFFIX));
 		}
 
-		World world = plugin.getServer().getWorld(worldName);
-
-		return world != null && this.enabledWorldRegistry.contains(world.getUID());
+		return new WorldConfig(readStringList(ENABLED_WORLDS_KEY), readStringList(DISABLED_WORLDS_KEY),
+				readStringList(ENABLED_REGIONS_KEY), readStringList(DISABLED_REGIONS_KEY),
+				List.copyOf(featureEnabledWorlds), List.copyOf(featureDisabledWorlds));
 	}
 
 
 	/**
-	 * Get world name from world object, using Multiverse alias if available
-	 *
-	 * @param world the world object to retrieve name
-	 * @return bukkit world name or multiverse alias as String
+	 * Copy a string list from the plugin config
 	 */
-	public String getWorldName(final World world)
+	private List<String> readStringList(final String key)
 	{
-		return getAliasOrName(world);
+		List<String> list = plugin.getConfig().getStringList(key);
+		return (list != null) ? List.copyOf(list) : List.of();
 	}
 
 
 	/**
-	 * Get world name from world object, using Multiverse alias if available
-	 *
-	 * @param world the world object to retrieve name
-	 * @return bukkit world name or multiverse alias as String
+	 * The world, region and feature lists copied from the plugin config, so that they can be compiled
+	 * on a worker thread without reading the config, which is not safe for use from multiple threads
 	 */
-	private String getAliasOrName(final World world)
+	private record WorldConfig(List<String> enabledWorlds, List<String> disabledWorlds,
+	                           List<String> enabledRegions, List<String> disabledRegions,
+	                           List<List<String>> featureEnabledWorlds, List<List<String>> featureDisabledWorlds)
 	{
-		if (world == null) { return UNKNOWN_WORLD; }
+		/**
+		 * Compile the lists into world rules
+		 *
+		 * @param logger the logger used to report invalid patterns and regions
+		 * @return a new {@code WorldRules}
+		 */
+		WorldRules compile(final Logger logger)
+		{
+			RegionRules regionRules = RegionRules.compile(enabledRegions, disabledRegions, logger);
 
-		WorldNameResolver resolver = WorldNameResolver.get(plugin.getServer().getPluginManager());
+			WorldRules[] rulesByBit = new WorldRules[featureEnabledWorlds.size()];
+			for (int bit = 0; bit < rulesByBit.length; bit++)
+			{
+				rulesByBit[bit] = new WorldRules(featureEnabledWorlds.get(bit), featureDisabledWorlds.get(bit), logger);
+			}
 
-		return resolver.resolve(world);
+			return new WorldRules(enabledWorlds, disabledWorlds, regionRules, new FeatureRules(rulesByBit), logger);
+		}
 	}
 
 
 	/**
-	 * Get world name from world name string, using Multiverse alias if available
+	 * Build and publish a new registry from the given rules and loaded worlds. Must be called while
+	 * holding the registry lock.
 	 *
-	 * @param worldName the bukkit world name as string
-	 * @return bukkit world name or multiverse alias as String
+	 * @param compiledRules the compiled config rules
+	 * @param worlds the loaded server worlds
 	 */
-	public String getAliasOrName(final String worldName)
+	private void publish(final WorldRules compiledRules, final List<World> worlds)
 	{
-		if (worldName == null || worldName.isBlank())
+		// rebuild world name index from loaded server worlds, keeping slots of worlds that are still loaded
+		final WorldRegistryService service = this.registryService;
+		service.update(worlds);
+		final WorldSlotTable worldSlotTable = service.worldSlotTable();
+
+		// rules read before a feature was registered keep that feature's rules from the current rules
+		final WorldRules rules = compiledRules.withFeatureRules(
+				compiledRules.featureRules().withMissing(this.worldRules.featureRules()));
+		this.worldRules = rules;
+
+		// compile regions of loaded worlds named in the region lists, copying the map once when done
+		final RegionRules regionRules = rules.regionRules();
+		final Map<UUID, ChunkRegionIndex> regions = new HashMap<>();
+		if (!regionRules.isEmpty())
 		{
-			return UNKNOWN_WORLD;
+			for (World world : worlds)
+			{
+				ChunkRegionIndex index = regionRules.get(world.getName());
+				if (index != null && world.getUID() != null)
+				{
+					regions.put(world.getUID(), index);
+				}
+			}
 		}
+		this.worldRegions = Map.copyOf(regions);
 
-		// get world
-		World world = plugin.getServer().getWorld(worldName);
+		// if server.getWorlds() is empty, publish empty registry and log warning
+		if (worlds.isEmpty())
+		{
+			plugin.getLogger().warning("the server has no worlds.");
+			this.enabledWorldRegistry = new RegistrySnapshot(Map.of(), new long[0], new long[0], worldSlotTable,
+					registryVersion.incrementAndGet());
+			return;
+		}
 
-		// if world is null, return null
-		if (world == null)
+		// add all server worlds that are enabled by the config rules, with the features enabled in each
+		Map<UUID, String> registry = new HashMap<>();
+		BitSet enabledSlots = new BitSet();
+		long[] featureMasks = new long[0];
+		for (World world : worlds)
 		{
-			return UNKNOWN_WORLD;
+			if (rules.isEnabled(world))
+			{
+				int worldSlot = worldSlotTable.slotOf(world);
+				registry.put(world.getUID(), world.getName());
+				enabledSlots.set(worldSlot);
+				if (worldSlot >= featureMasks.length)
+				{
+					featureMasks = Arrays.copyOf(featureMasks, Math.max(worldSlot + 1, featureMasks.length * 2));
+				}
+				featureMasks[worldSlot] = rules.featureRules().mask(world);
+			}
 		}
 
-		return getAliasOrName(world);
+		// publish completed registry
+		this.enabledWorldRegistry = new RegistrySnapshot(registry, enabledSlots.toLongArray(), featureMasks,
+				worldSlotTable, registryVersion.incrementAndGet());
 	}
 
 
 	/**
-	 * get world spawn location, preferring Multiverse spawn location if available
-	 *
-	 * @param world bukkit world object to retrieve spawn location
-	 * @return spawn location, or null if world is null
+	 * The uids and names of the loaded worlds, captured on the server thread so that they can be
+	 * matched against config rules on a worker thread
 	 */
-	public Location getSpawnLocation(final World world)
+	private record WorldCapture(WorldRules rules, UUID[] worldUids, String[] worldNames)
+	{
+		static WorldCapture of(final WorldRules rules, final List<World> worlds)
+		{
+			UUID[] worldUids = new UUID[worlds.size()];
+			String[] worldNames = new String[worlds.size()];
+			for (int i = 0; i < worlds.size(); i++)
+			{
+				worldUids[i] = worlds.get(i).getUID();
+				worldNames[i] = worlds.get(i).getName();
+			}
+			return new WorldCapture(rules, worldUids, worldNames);
+		}
+
+
+		/**
+		 * Match each captured world against the rules and feature rules, filling their per-world result caches
+		 *
+		 * @return the rules, with results cached for every captured world
+		 */
+		WorldRules match()
+		{
+			for (int i = 0; i < worldUids.length; i++)
+			{
+				rules.isEnabled(worldUids[i], worldNames[i]);
+				rules.featureRules().mask(worldUids[i], worldNames[i]);
+			}
+			return rules;
+		}
+	}
+
+
+	/**
+	 * Return a copy of a region map with the regions of a world added, or the same map if the world has none
+	 */
+	private static Map<UUID, ChunkRegionIndex> withRegions(final Map<UUID, ChunkRegionIndex> regions,
+	                                                       final World world,
+	                                                       final RegionRules regionRules)
+	{
+		if (regionRules.isEmpty() || world.getUID() == null)
+		{
+			return regions;
+		}
+
+		ChunkRegionIndex index = regionRules.get(world.getName());
+		if (index == null)
+		{
+			return regions;
+		}
+
+		Map<UUID, ChunkRegionIndex> result = new HashMap<>(regions);
+		result.put(world.getUID(), index);
+		return Map.copyOf(result);
+	}
+
+
+	/**
+	 * Return a copy of a region map with the regions of a world removed, or the same map if the world has none
+	 */
+	private static Map<UUID, ChunkRegionIndex> withoutRegions(final Map<UUID, ChunkRegionIndex> regions,
+	                                                          final UUID worldUid)
+	{
+		if (worldUid == null || !regions.containsKey(worldUid))
+		{
+			return regions;
+		}
+
+		Map<UUID, ChunkRegionIndex> result = new HashMap<>(regions);
+		result.remove(worldUid);
+		return Map.copyOf(result);
+	}
+
+
+	/**
+	 * Apply the current config rules to a single newly loaded world, without a full reload.
+	 * Used when the world manager was created with {@link UpdateMode#INCREMENTAL}.
+	 *
+	 * @param world the world that was loaded
+	 */
+	private void registerWorld(final World world)
+	{
+		final RegistrySnapshot previous;
+		final RegistrySnapshot next;
+		synchronized (registryLock)
+		{
+			if (!worldRules.isEnabled(world))
+			{
+				return;
+			}
+			previous = this.enabledWorldRegistry;
+			next = previous.with(world, worldRules.featureRules().mask(world), registryVersion.incrementAndGet());
+			this.enabledWorldRegistry = next;
+		}
+
+		registryChanged(previous, next);
+	}
+
+
+	/**
+	 * Remove a single unloaded world from the registry, without a full reload.
+	 * Used when the world manager was created with {@link UpdateMode#INCREMENTAL}.
+	 *
+	 * @param world the world that was unloaded
+	 */
+	private void unregisterWorld(final World world)
+	{
+		final RegistrySnapshot previous;
+		final RegistrySnapshot next;
+		synchronized (registryLock)
+		{
+			if (!enabledWorldRegistry.contains(world.getUID()))
+			{
+				return;
+			}
+			previous = this.enabledWorldRegistry;
+			next = previous.without(world, registryVersion.incrementAndGet());
+			this.enabledWorldRegistry = next;
+		}
+
+		registryChanged(previous, next);
+	}
+
+
+	/**
+	 * Add a listener to be notified with a {@link RegistryDiff} each time the registry is replaced by a reload,
+	 * or by a world being loaded or unloaded in incremental mode. The registry built when the world manager
+	 * is created is not reported. Adding a listener that is already added has no effect.
+	 *
+	 * @param listener the listener to add
+	 * @throws NullPointerException if the listener is null
+	 */
+	public void addRegistryChangeListener(final RegistryChangeListener listener)
+	{
+		Objects.requireNonNull(listener, "listener must not be null");
+		registryChangeListeners.addIfAbsent(listener);
+	}
+
+
+	/**
+	 * Remove a registry change listener
+	 *
+	 * @param listener the listener to remove
+	 */
+	public void removeRegistryChangeListener(final RegistryChangeListener listener)
+	{
+		registryChangeListeners.remove(listener);
+	}
+
+
+	/**
+	 * Report a replaced registry to the registry change listeners, then send a {@link WorldDisabledEvent}
+	 * for each world removed and a {@link WorldEnabledEvent} for each world added. Called after the
+	 * registry lock is released, on the thread that replaced the registry. The events are asynchronous
+	 * when that is not the server thread.
+	 *
+	 * @param previous the registry before the change
+	 * @param next the registry after the change
+	 */
+	private void registryChanged(final RegistrySnapshot previous, final RegistrySnapshot next)
+	{
+		// the first registry is built by the constructor, before anyone can be listening
+		if (previous == RegistrySnapshot.EMPTY || previous == next)
+		{
+			return;
+		}
+
+		final RegistryDiff diff = RegistryDiff.between(previous, next);
+
+		for (RegistryChangeListener listener : registryChangeListeners)
+		{
+			try
+			{
+				listener.registryChanged(diff);
+			}
+			catch (RuntimeException e)
+			{
+				plugin.getLogger().log(Level.WARNING, "a registry change listener threw an exception.", e);
+			}
+		}
+
+		if (diff.isEmpty())
+		{
+			return;
+		}
+
+		final boolean async = !plugin.getServer().isPrimaryThread();
+		final PluginManager pluginManager = plugin.getServer().getPluginManager();
+
+		for (UUID worldUid : diff.removed())
+		{
+			pluginManager.callEvent(new WorldDisabledEvent(plugin, worldUid, previous.worldName(worldUid), diff, async));
+		}
+
+		for (UUID worldUid : diff.added())
+		{
+			pluginManager.callEvent(new WorldEnabledEvent(plugin, worldUid, next.worldName(worldUid), diff, async));
+		}
+	}
+
+
+	/**
+	 * get collection of enabled world names from registry. The collection is computed once
+	 * each time the registry changes, and is returned as an unmodifiable view.
+	 *
+	 * @return an unmodifiable Collection of String containing enabled world names
+	 */
+	public Collection<String> getEnabledWorldNames()
+	{
+		return enabledWorldRegistry.worldNames();
+	}
+
+
+	/**
+	 * get the version number of the registry. The version increases each time the registry
+	 * changes, so callers can compare it with a previously read value to find out whether
+	 * the collection returned by {@link #getEnabledWorldNames()} has changed since.
+	 *
+	 * @return {@code long} the current registry version
+	 */
+	public long getRegistryVersion()
+	{
+		return enabledWorldRegistry.version();
+	}
+
+
+	/**
+	 * Check if a world is enabled by bukkit world UID
+	 *
+	 * @param worldUID Unique Identifier for world
+	 * @return {@code true} if world is enabled, {@code false} if disabled
+	 */
+	public boolean isEnabled(final UUID worldUID)
+	{
+		final long start = startTimer();
+		final boolean result = this.enabledWorldRegistry.contains(worldUID);
+		stopTimer(Operation.IS_ENABLED, start);
+		return result;
+	}
+
+
+	/**
+	 * Check if a world is enabled by the most and least significant bits of its UID, for callers that
+	 * already hold the raw bits and would otherwise have to create a {@code UUID}
+	 *
+	 * @param mostSigBits the most significant bits of the world UID
+	 * @param leastSigBits the least significant bits of the world UID
+	 * @return {@code true} if world is enabled, {@code false} if disabled
+	 */
+	public boolean isEnabled(final long mostSigBits, final long leastSigBits)
+	{
+		final long start = startTimer();
+		final boolean result = this.enabledWorldRegistry.contains(mostSigBits, leastSigBits);
+		stopTimer(Operation.IS_ENABLED, start);
+		return result;
+	}
+
+
+	/**
+	 * Check if a world is enabled by bukkit world object. Regions are not considered; a world with disabled
+	 * regions is still enabled. Use {@link #isEnabled(Location)} to check a location within a world.
+	 *
+	 * @param world bukkit world object
+	 * @return {@code true} if world is enabled, {@code false} if disabled
+	 */
+	public boolean isEnabled(final World world)
+	{
+		final long start = startTimer();
+		final boolean result = this.enabledWorldRegistry.isEnabled(world);
+		stopTimer(Operation.IS_ENABLED, start);
+		return result;
+	}
+
+
+	/**
+	 * Check if a location is enabled. The world of the location must be enabled, and the chunk containing the
+	 * location must be enabled by the enabled-regions and disabled-regions settings, if the world has any.
+	 *
+	 * @param location location to check
+	 * @return {@code true} if the location is enabled, {@code false} if disabled or if location or its world is null
+	 */
+	public boolean isEnabled(final Location location)
+	{
+		if (location == null)
+		{
+			return false;
+		}
+
+		return isEnabled(location.getWorld(), location.getBlockX() >> 4, location.getBlockZ() >> 4);
+	}
+
+
+	/**
+	 * Check if a chunk is enabled. The world must be enabled, and the chunk must be enabled by the enabled-regions
+	 * and disabled-regions settings, if the world has any. For worlds without regions, this costs the same as
+	 * {@link #isEnabled(World)}.
+	 *
+	 * @param world bukkit world object
+	 * @param chunkX the chunk x coordinate
+	 * @param chunkZ the chunk z coordinate
+	 * @return {@code true} if the chunk is enabled, {@code false} if disabled or if world is null
+	 */
+	public boolean isEnabled(final World world, final int chunkX, final int chunkZ)
+	{
+		final long start = startTimer();
+		boolean result = this.enabledWorldRegistry.isEnabled(world);
+
+		final Map<UUID, ChunkRegionIndex> regions = this.worldRegions;
+		if (result && !regions.isEmpty())
+		{
+			UUID worldUid = world.getUID();
+			ChunkRegionIndex index = (worldUid != null) ? regions.get(worldUid) : null;
+			result = (index == null) || index.isEnabled(chunkX, chunkZ);
+		}
+
+		stopTimer(Operation.IS_ENABLED, start);
+		return result;
+	}
+
+
+	/**
+	 * Get the slot assigned to a loaded world. Each loaded world is given a small integer slot that does
+	 * not change while the world stays loaded, and is not given to another world until the next reload.
+	 * Callers that check the same world every tick can cache the slot and pass it to {@link #isEnabled(int)}.
+	 * A reload may renumber the slots of a server that has loaded and unloaded many worlds, so a cached slot
+	 * should be fetched again after a reload, for example from a {@link RegistryChangeListener}.
+	 *
+	 * @param world bukkit world object
+	 * @return the slot of the world, or -1 if the world is null or not loaded, or was loaded since the last reload
+	 *         and is not enabled
+	 */
+	public int getWorldSlot(final World world)
+	{
+		return this.enabledWorldRegistry.slotOf(world);
+	}
+
+
+	/**
+	 * Check if a world is enabled by the slot returned for it by {@link #getWorldSlot(World)}
+	 *
+	 * @param worldSlot the slot of a world
+	 * @return {@code true} if world is enabled, {@code false} if disabled or if the slot is -1
+	 */
+	public boolean isEnabled(final int worldSlot)
+	{
+		final long start = startTimer();
+		final boolean result = this.enabledWorldRegistry.isSlotEnabled(worldSlot);
+		stopTimer(Operation.IS_ENABLED, start);
+		return result;
+	}
+
+
+	/**
+	 * Register a feature that can be enabled or disabled per world with the {@code <name>.enabled-worlds} and
+	 * {@code <name>.disabled-worlds} config settings. Only the settings of the new feature are read, and its bit
+	 * is set in the enabled worlds of the current registry, without a reload or registry change notification.
+	 * A feature is only enabled in worlds that are also enabled by the top level settings. If a feature with the
+	 * same name has already been registered, it is returned unchanged.
+	 * <p>
+	 * Features should be registered once, when the plugin is enabled, and the returned object kept for use with
+	 * {@link #isEnabled(World, Feature)}.
+	 *
+	 * @param name the feature name, used as the prefix of its config keys
+	 * @return the registered feature
+	 * @throws IllegalArgumentException if the name is null or blank
+	 * @throws IllegalStateException if {@value Feature#MAX_FEATURES} features have already been registered
+	 */
+	public Feature registerFeature(final String name)
+	{
+		if (name == null || name.isBlank())
+		{
+			throw new IllegalArgumentException("feature name must not be null or blank");
+		}
+
+		// read the feature's lists and the loaded worlds on the calling thread, which should be the server thread
+		final WorldRules featureWorldRules = new WorldRules(readStringList(name + FEATURE_ENABLED_WORLDS_SUFFIX),
+				readStringList(name + FEATURE_DISABLED_WORLDS_SUFFIX), plugin.getLogger());
+		final List<World> worlds = plugin.getServer().getWorlds();
+
+		final Feature feature;
+		synchronized (registryLock)
+		{
+			for (Feature registered : features)
+			{
+				if (registered.getName().equals(name))
+				{
+					return registered;
+				}
+			}
+
+			if (features.size() >= Feature.MAX_FEATURES)
+			{
+				throw new IllegalStateException("cannot register feature '" + name + "': the limit of "
+						+ Feature.MAX_FEATURES + " features has been reached");
+			}
+
+			feature = new Feature(name, features.size());
+			List<Feature> result = new ArrayList<>(features);
+			result.add(feature);
+			this.features = List.copyOf(result);
+
+			// add only the new feature's rules and bit; the enabled worlds and version are unchanged
+			this.worldRules = worldRules.withFeatureRules(worldRules.featureRules().with(featureWorldRules));
+			this.enabledWorldRegistry = enabledWorldRegistry.withFeature(feature.mask(), worlds, featureWorldRules);
+		}
+
+		return feature;
+	}
+
+
+	/**
+	 * get the features registered with this world manager, in registration order
+	 *
+	 * @return an unmodifiable list of the registered features
+	 */
+	public List<Feature> getFeatures()
+	{
+		return features;
+	}
+
+
+	/**
+	 * Check if a feature is enabled in a world. The world must be enabled, and the feature must be enabled
+	 * in it by the feature's enabled-worlds and disabled-worlds settings. The result is read from a mask built
+	 * on each reload, so this costs one lookup and one bit test.
+	 *
+	 * @param world bukkit world object
+	 * @param feature a feature registered with this world manager
+	 * @return {@code true} if the feature is enabled in the world, {@code false} if not or if world or feature
+	 *         is null or the world is not loaded
+	 */
+	public boolean isEnabled(final World world, final Feature feature)
+	{
+		if (feature == null)
+		{
+			return false;
+		}
+
+		final long start = startTimer();
+		final RegistrySnapshot snapshot = this.enabledWorldRegistry;
+		final boolean result = snapshot.hasFeature(snapshot.slotOf(world), feature.mask());
+		stopTimer(Operation.IS_ENABLED, start);
+		return result;
+	}
+
+
+	/**
+	 * Check if a feature is enabled in a world by the slot returned for it by {@link #getWorldSlot(World)}
+	 *
+	 * @param worldSlot the slot of a world
+	 * @param feature a feature registered with this world manager
+	 * @return {@code true} if the feature is enabled in the world, {@code false} if not or if feature is null
+	 *         or the slot is -1
+	 */
+	public boolean isEnabled(final int worldSlot, final Feature feature)
+	{
+		if (feature == null)
+		{
+			return false;
+		}
+
+		final long start = startTimer();
+		final boolean result = this.enabledWorldRegistry.hasFeature(worldSlot, feature.mask());
+		stopTimer(Operation.IS_ENABLED, start);
+		return result;
+	}
+
+
+	/**
+	 * Check if a world is enabled by name
+	 *
+	 * @param worldName name of world as string to check
+	 * @return {@code true} if world is enabled, {@code false} if disabled
+	 */
+	public boolean isEnabled(final String worldName)
+	{
+		if (worldName == null || worldName.isBlank())
+		{
+			return false;
+		}
+
+		final long start = startTimer();
+		final boolean result = this.enabledWorldRegistry.contains(registryService.worldNameIndex().get(worldName));
+		stopTimer(Operation.IS_ENABLED, start);
+		return result;
+	}
+
+
+	/**
+	 * Filter a collection of entities to those in enabled worlds. The registry is read once for the whole
+	 * collection, and the world of each entity is compared with the previous entity's world first, so
+	 * entities grouped by world cost one registry lookup per group.
+	 *
+	 * @param entities the entities to filter
+	 * @param <T> the entity type
+	 * @return a new list of the entities in enabled worlds, in iteration order
+	 */
+	public <T extends Entity> List<T> filterEnabled(final Collection<? extends T> entities)
+	{
+		if (entities == null || entities.isEmpty())
+		{
+			return new ArrayList<>();
+		}
+
+		final RegistrySnapshot snapshot = this.enabledWorldRegistry;
+		final List<T> result = new ArrayList<>(entities.size());
+
+		World lastWorld = null;
+		boolean lastEnabled = false;
+
+		for (T entity : entities)
+		{
+			if (entity == null)
+			{
+				continue;
+			}
+
+			World world = entity.getWorld();
+
+			if (world != lastWorld)
+			{
+				lastWorld = world;
+				lastEnabled = snapshot.isEnabled(world);
+			}
+
+			if (lastEnabled)
+			{
+				result.add(entity);
+			}
+		}
+
+		return result;
+	}
+
+
+	/**
+	 * Check an array of world uids against the registry in a single pass, writing the result for each
+	 * uid to the matching index of the result array. The registry is read once for the whole array.
+	 *
+	 * @param worldUIDs the world uids to check; null elements are not enabled, and a null array is treated as empty
+	 * @param results the array to receive the results, at least as long as {@code worldUIDs}
+	 * @return the number of uids that are enabled
+	 * @throws IllegalArgumentException if the result array is null or too short
+	 */
+	public int markEnabled(final UUID[] worldUIDs, final boolean[] results)
+	{
+		if (worldUIDs == null || worldUIDs.length == 0)
+		{
+			return 0;
+		}
+
+		if (results == null || results.length < worldUIDs.length)
+		{
+			throw new IllegalArgumentException("results array is shorter than worldUIDs array.");
+		}
+
+		final RegistrySnapshot snapshot = this.enabledWorldRegistry;
+		int count = 0;
+
+		for (int i = 0; i < worldUIDs.length; i++)
+		{
+			boolean enabled = snapshot.contains(worldUIDs[i]);
+			results[i] = enabled;
+			if (enabled)
+			{
+				count++;
+			}
+		}
+
+		return count;
+	}
+
+
+	/**
+	 * Check an array of world uids, given as pairs of most and least significant bits, against the registry
+	 * in a single pass, writing the result for pair {@code i} to index {@code i} of the result array. No
+	 * {@code UUID} objects are created.
+	 *
+	 * @param worldUidBits the world uids as {@code [msb0, lsb0, msb1, lsb1, ...]}; a null array is treated as empty
+	 * @param results the array to receive the results, at least half as long as {@code worldUidBits}
+	 * @return the number of uids that are enabled
+	 * @throws IllegalArgumentException if the bits array has an odd length, or the result array is null or too short
+	 */
+	public int markEnabled(final long[] worldUidBits, final boolean[] results)
+	{
+		if (worldUidBits == null || worldUidBits.length == 0)
+		{
+			return 0;
+		}
+
+		if (worldUidBits.length % 2 != 0)
+		{
+			throw new IllegalArgumentException("worldUidBits array must hold pairs of most and least significant bits.");
+		}
+
+		if (results == null || results.length < worldUidBits.length / 2)
+		{
+			throw new IllegalArgumentException("results array is shorter than the number of uid pairs.");
+		}
+
+		final RegistrySnapshot snapshot = this.enabledWorldRegistry;
+		int count = 0;
+
+		for (int i = 0; i < worldUidBits.length; i += 2)
+		{
+			boolean enabled = snapshot.contains(worldUidBits[i], worldUidBits[i + 1]);
+			results[i / 2] = enabled;
+			if (enabled)
+			{
+				count++;
+			}
+		}
+
+		return count;
+	}
+
+
+	/**
+	 * Get world name from world object, using Multiverse alias if available
+	 *
+	 * @param world the world object to retrieve name
+	 * @return bukkit world name or multiverse alias as String
+	 */
+	public String getWorldName(final World world)
+	{
+		final long start = startTimer();
+		final String result = getAliasOrName(world);
+		stopTimer(Operation.GET_WORLD_NAME, start);
+		return result;
+	}
+
+
+	/**
+	 * Get world name from world object, using Multiverse alias if available
+	 *
+	 * @param world the world object to retrieve name
+	 * @return bukkit world name or multiverse alias as String
+	 */
+	private String getAliasOrName(final World world)
+	{
+		if (world == null) { return UNKNOWN_WORLD; }
+
+		final WorldRegistryService service = this.registryService;
+		return service.worldNameCache().get(world, service.worldNameResolver());
+	}
+
+
+	/**
+	 * Get world name from world name string, using Multiverse alias if available
+	 *
+	 * @param worldName the bukkit world name as string
+	 * @return bukkit world name or multiverse alias as String
+	 */
+	public String getAliasOrName(final String worldName)
+	{
+		final long start = startTimer();
+		final String result = lookupAliasOrName(worldName);
+		stopTimer(Operation.GET_ALIAS_OR_NAME, start);
+		return result;
+	}
+
+
+	/**
+	 * Look up a world by name in the name index, and return its cached or resolved name
+	 */
+	private String lookupAliasOrName(final String worldName)
+	{
+		if (worldName == null || worldName.isBlank())
+		{
+			return UNKNOWN_WORLD;
+		}
+
+		// get world uid from name index
+		UUID worldUid = registryService.worldNameIndex().get(worldName);
+
+		// if no loaded world has the given name, return unknown world
+		if (worldUid == null)
+		{
+			return UNKNOWN_WORLD;
+		}
+
+		// return cached name if present, without looking up the world
+		Optional<String> cachedName = registryService.worldNameCache().getIfPresent(worldUid);
+		if (cachedName.isPresent())
+		{
+			return cachedName.get();
+		}
+
+		// get world
+		World world = plugin.getServer().getWorld(worldUid);
+
+		// if world is null, return unknown world
+		if (world == null)
+		{
+			return UNKNOWN_WORLD;
+		}
+
+		return getAliasOrName(world);
+	}
+
+
+	/**
+	 * get world spawn location, preferring Multiverse spawn location if available.
+	 * A new location is returned on each call, so callers are free to modify it.
+	 * <p>
+	 * On Folia, a call from a thread that does not own the world, made before the spawn location is cached,
+	 * returns the Bukkit world spawn while the Multiverse spawn location is resolved on the global region
+	 * thread. Use {@link #getSpawnLocationAsync(World)} to wait for the resolved spawn location instead.
+	 *
+	 * @param world bukkit world object to retrieve spawn location
+	 * @return spawn location, or null if world is null
+	 */
+	public Location getSpawnLocation(final World world)
+	{
+		if (world == null) { return null; }
+
+		final long start = startTimer();
+		final WorldRegistryService service = this.registryService;
+		final Location result = service.spawnLocationCache().get(world, service.spawnLocationResolver());
+		stopTimer(Operation.GET_SPAWN_LOCATION, start);
+		return result;
+	}
+
+
+	/**
+	 * get world name from world object, using Multiverse alias if available, without blocking the calling thread.
+	 * If the name is cached, the returned future is already complete. Otherwise the name is resolved on the
+	 * server thread, and concurrent calls for the same world share a single lookup. The future should not be
+	 * waited on from the server thread.
+	 *
+	 * @param world the world object to retrieve name
+	 * @return a future completed with the bukkit world name or multiverse alias
+	 */
+	public CompletableFuture<String> getWorldNameAsync(final World world)
+	{
+		if (world == null) { return CompletableFuture.completedFuture(UNKNOWN_WORLD); }
+
+		Optional<String> cachedName = registryService.worldNameCache().getIfPresent(world.getUID());
+		if (cachedName.isPresent())
+		{
+			return CompletableFuture.completedFuture(cachedName.get());
+		}
+
+		return lookupOnServerThread(pendingNameLookups, world, this::getWorldName).copy();
+	}
+
+
+	/**
+	 * get world spawn location, preferring Multiverse spawn location if available, without blocking the calling
+	 * thread. If the spawn location is cached, the returned future is already complete. Otherwise the spawn location
+	 * is resolved on the server thread, and concurrent calls for the same world share a single lookup. Each caller
+	 * receives its own location, so callers are free to modify it. The future should not be waited on from the
+	 * server thread.
+	 *
+	 * @param world bukkit world object to retrieve spawn location
+	 * @return a future completed with the spawn location, or with null if world is null
+	 */
+	public CompletableFuture<Location> getSpawnLocationAsync(final World world)
+	{
+		if (world == null) { return CompletableFuture.completedFuture(null); }
+
+		Optional<Location> cachedSpawn = registryService.spawnLocationCache().getIfPresent(world);
+		if (cachedSpawn.isPresent())
+		{
+			return CompletableFuture.completedFuture(cachedSpawn.get());
+		}
+
+		return lookupOnServerThread(pendingSpawnLookups, world, this::getSpawnLocation)
+				.thenApply(location -> (location != null) ? location.clone() : null);
+	}
+
+
+	/**
+	 * Run a lookup for a world on the server thread, or join a lookup for the same world that is already pending
+	 *
+	 * @param pending the pending lookups of this kind
+	 * @param world the world to look up
+	 * @param lookup the synchronous lookup, run on the server thread
+	 * @return the shared future of the pending lookup
+	 */
+	private <T> CompletableFuture<T> lookupOnServerThread(final Map<UUID, CompletableFuture<T>> pending,
+	                                                      final World world,
+	                                                      final Function<World, T> lookup)
+	{
+		final UUID worldUid = world.getUID();
+		final CompletableFuture<T> created = new CompletableFuture<>();
+		final CompletableFuture<T> existing = (worldUid != null) ? pending.putIfAbsent(worldUid, created) : null;
+
+		if (existing != null)
+		{
+			return existing;
+		}
+
+		try
+		{
+			taskScheduler.runGlobal(() ->
+			{
+				try
+				{
+					created.complete(lookup.apply(world));
+				}
+				catch (RuntimeException e)
+				{
+					created.completeExceptionally(e);
+				}
+				finally
+				{
+					if (worldUid != null) { pending.remove(worldUid, created); }
+				}
+			});
+		}
+		catch (RuntimeException e)
+		{
+			// the task could not be scheduled, for example because the plugin is disabled
+			if (worldUid != null) { pending.remove(worldUid, created); }
+			created.completeExceptionally(e);
+		}
+
+		return created;
+	}
+
+
+	/**
+	 * get the enabled state, display name and spawn location of a world together. If the name or spawn location
+	 * is not already cached, both are resolved with a single Multiverse lookup and cached, so a later call to
+	 * this method, {@link #getWorldName(World)} or {@link #getSpawnLocation(World)} is served from memory.
+	 *
+	 * @param world bukkit world object to describe
+	 * @return an immutable description of the world, or null if world is null
+	 */
+	public WorldDescription describe(final World world)
+	{
+		if (world == null) { return null; }
+
+		final long start = startTimer();
+
+		final WorldRegistryService service = this.registryService;
+		final UUID worldUid = world.getUID();
+		final boolean enabled = this.enabledWorldRegistry.isEnabled(world);
+
+		Optional<String> cachedName = service.worldNameCache().getIfPresent(worldUid);
+		Optional<Location> cachedSpawn = service.spawnLocationCache().getIfPresent(world);
+
+		final WorldDescription result;
+		if (cachedName.isPresent() && cachedSpawn.isPresent())
+		{
+			metricsSink.recordCacheAccess(Operation.DESCRIBE, true);
+			result = new WorldDescription(worldUid, enabled, cachedName.get(), cachedSpawn.get());
+		}
+		else if (!taskScheduler.isOwnedByCurrentThread(world))
+		{
+			// spawn location is resolved on the owning thread, and is the Bukkit world spawn here until it is cached
+			metricsSink.recordCacheAccess(Operation.DESCRIBE, false);
+			result = new WorldDescription(worldUid, enabled, getAliasOrName(world),
+					service.spawnLocationCache().get(world, service.spawnLocationResolver()));
+		}
+		else
+		{
+			metricsSink.recordCacheAccess(Operation.DESCRIBE, false);
+
+			// an invalidation or spawn refresh during the lookup must not be overwritten by its result
+			final long nameGeneration = service.worldNameCache().generation();
+			final long spawnGeneration = service.spawnLocationCache().generation();
+
+			final long resolveStart = startTimer();
+			final WorldDetails details = service.worldDetailsResolver().resolve(world);
+			stopTimer(Operation.RESOLVE_WORLD_DETAILS, resolveStart);
+
+			service.worldNameCache().put(worldUid, details.name(), nameGeneration);
+			service.spawnLocationCache().put(worldUid, details.spawnLocation(), spawnGeneration);
+
+			result = new WorldDescription(worldUid, enabled, details.name(), details.spawnLocation());
+		}
+
+		stopTimer(Operation.DESCRIBE, start);
+		return result;
+	}
+
+
+	/**
+	 * Set the sink that receives call counts, latencies and cache statistics for this world manager.
+	 * By default, nothing is recorded and lookups are not timed. Statistics of the shared name and spawn
+	 * caches are only sent to the sink of a world manager whose plugin provides the registry service.
+	 *
+	 * @param metricsSink the metrics sink, or {@code null} to stop recording
+	 */
+	public void setMetricsSink(final MetricsSink metricsSink)
+	{
+		this.metricsSink = (metricsSink != null) ? metricsSink : MetricsSink.NOOP;
+		if (registryService.getPlugin() == plugin)
+		{
+			registryService.setMetricsSink(this.metricsSink);
+		}
+	}
+
+
+	private long startTimer()
+	{
+		return (metricsSink != MetricsSink.NOOP) ? System.nanoTime() : NOT_TIMED;
+	}
+
+
+	private void stopTimer(final Operation operation, final long start)
+	{
+		if (start != NOT_TIMED)
+		{
+			metricsSink.recordLatency(operation, System.nanoTime() - start);
+		}
+	}
+
+
+	/**
+	 * get the number of spawn location lookups served from cache, by all world managers using the registry service
+	 *
+	 * @return {@code long} the spawn location cache hit count
+	 */
+	public long getSpawnCacheHitCount()
+	{
+		return registryService.spawnLocationCache().getHitCount();
+	}
+
+
+	/**
+	 * get the number of spawn location lookups that were resolved because no cached value was present, by all
+	 * world managers using the registry service
+	 *
+	 * @return {@code long} the spawn location cache miss count
+	 */
+	public long getSpawnCacheMissCount()
 	{
-		SpawnLocationResolver resolver = SpawnLocationResolver.get(plugin.getServer().getPluginManager());
-		return resolver.resolve(world);
+		return registryService.spawnLocationCache().getMissCount();
 	}
 
 
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager;
+
+import org.bukkit.World;
+import org.jetbrains.annotations.Contract;
+
+import java.util.*;
+
+
+/**
+ * An immutable index of loaded world names to world uids.
+ * <p>
+ * Names are looked up exactly first, then case-insensitively, matching the behavior of
+ * {@code Server.getWorld(String)}. Updates return a new index, which {@link WorldManager}
+ * publishes through a single volatile reference.
+ */
+final class WorldNameIndex
+{
+	static final WorldNameIndex EMPTY = new WorldNameIndex(Map.of(), Map.of());
+
+	private final Map<String, UUID> exactIndex;
+	private final Map<String, UUID> ignoreCaseIndex;
+
+
+	private WorldNameIndex(final Map<String, UUID> exactIndex, final Map<String, UUID> ignoreCaseIndex)
+	{
+		this.exactIndex = exactIndex;
+		this.ignoreCaseIndex = ignoreCaseIndex;
+	}
+
+
+	/**
+	 * Create an index of the given worlds
+	 *
+	 * @param worlds the currently loaded worlds
+	 * @return a new {@code WorldNameIndex}
+	 */
+	static WorldNameIndex of(final Collection<World> worlds)
+	{
+		Map<String, UUID> exactIndex = new HashMap<>();
+		Map<String, UUID> ignoreCaseIndex = new HashMap<>();
+
+		for (World world : worlds)
+		{
+			if (world != null && world.getName() != null && world.getUID() != null)
+			{
+				exactIndex.put(world.getName(), world.getUID());
+				ignoreCaseIndex.put(world.getName().toLowerCase(Locale.ROOT), world.getUID());
+			}
+		}
+
+		return new WorldNameIndex(Map.copyOf(exactIndex), Map.copyOf(ignoreCaseIndex));
+	}
+
+
+	/**
+	 * Return a new index that includes the given world
+	 *
+	 * @param world the world to add
+	 * @return a new {@code WorldNameIndex}, or this index if the world could not be indexed
+	 */
+	WorldNameIndex with(final World world)
+	{
+		if (world == null || world.getName() == null || world.getUID() == null)
+		{
+			return this;
+		}
+
+		Map<String, UUID> exact = new HashMap<>(exactIndex);
+		Map<String, UUID> ignoreCase = new HashMap<>(ignoreCaseIndex);
+		exact.put(world.getName(), world.getUID());
+		ignoreCase.put(world.getName().toLowerCase(Locale.ROOT), world.getUID());
+
+		return new WorldNameIndex(Map.copyOf(exact), Map.copyOf(ignoreCase));
+	}
+
+
+	/**
+	 * Return a new index that excludes the given world
+	 *
+	 * @param world the world to remove
+	 * @return a new {@code WorldNameIndex}, or this index if the world was not indexed
+	 */
+	WorldNameIndex without(final World world)
+	{
+		if (world == null || world.getName() == null)
+		{
+			return this;
+		}
+
+		Map<String, UUID> exact = new HashMap<>(exactIndex);
+		Map<String, UUID> ignoreCase = new HashMap<>(ignoreCaseIndex);
+
+		// remove only entries of this world, so a loaded world whose name differs only by case keeps its entries
+		String key = world.getName().toLowerCase(Locale.ROOT);
+		exact.remove(world.getName(), world.getUID());
+		if (ignoreCase.remove(key, world.getUID()))
+		{
+			for (Map.Entry<String, UUID> entry : exact.entrySet())
+			{
+				if (entry.getKey().toLowerCase(Locale.ROOT).equals(key))
+				{
+					ignoreCase.put(key, entry.getValue());
+					break;
+				}
+			}
+		}
+
+		return new WorldNameIndex(Map.copyOf(exact), Map.copyOf(ignoreCase));
+	}
+
+
+	/**
+	 * Look up the uid of a loaded world by name, trying an exact match before a case-insensitive match
+	 *
+	 * @param worldName the name of the world
+	 * @return the world uid, or {@code null} if no loaded world has the given name
+	 */
+	@Contract(pure = true)
+	UUID get(final String worldName)
+	{
+		if (worldName == null)
+		{
+			return null;
+		}
+
+		UUID worldUid = exactIndex.get(worldName);
+
+		return (worldUid != null)
+				? worldUid
+				: ignoreCaseIndex.get(worldName.toLowerCase(Locale.ROOT));
+	}
+
+
+	/**
+	 * get the number of indexed worlds
+	 *
+	 * @return {@code int} the number of indexed world names
+	 */
+	@Contract(pure = true)
+	int size()
+	{
+		return exactIndex.size();
+	}
+
+}
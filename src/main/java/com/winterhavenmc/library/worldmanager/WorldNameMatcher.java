@@ -0,0 +1,363 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager;
+
+import org.jetbrains.annotations.Contract;
+
+import java.util.*;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+
+/**
+ * A compiled matcher for a list of world name patterns from config.
+ * <p>
+ * Each entry in the list is one of:
+ * <ul>
+ *   <li>an exact world name, such as {@code world_nether}</li>
+ *   <li>a glob, where {@code *} matches any run of characters and {@code ?} matches a single
+ *   character, such as {@code dungeon_*}</li>
+ *   <li>a regular expression prefixed with {@code re:}, such as {@code re:^arena_\d+$}</li>
+ * </ul>
+ * Patterns are sorted by kind when compiled, so that matching a name costs one set lookup, one walk of
+ * a prefix trie, and at most one evaluation of each of two combined regular expressions, however many
+ * patterns are listed. All matching is case-insensitive.
+ */
+final class WorldNameMatcher
+{
+	static final String REGEX_PREFIX = "re:";
+
+	// backreferences and named groups would clash with other patterns in a single alternation
+	private static final Pattern NOT_COMBINABLE = Pattern.compile("\\\\(?:[1-9]|k<)|\\(\\?<[a-zA-Z]");
+
+	static final WorldNameMatcher EMPTY = new WorldNameMatcher(Set.of(), new PrefixTrie(), null, null, List.of());
+
+	private final Set<String> exactNames;
+	private final PrefixTrie prefixes;
+	private final Pattern globPattern;
+	private final Pattern regexPattern;
+	private final List<Pattern> separateRegexPatterns;
+
+
+	private WorldNameMatcher(final Set<String> exactNames,
+	                         final PrefixTrie prefixes,
+	                         final Pattern globPattern,
+	                         final Pattern regexPattern,
+	                         final List<Pattern> separateRegexPatterns)
+	{
+		this.exactNames = exactNames;
+		this.prefixes = prefixes;
+		this.globPattern = globPattern;
+		this.regexPattern = regexPattern;
+		this.separateRegexPatterns = separateRegexPatterns;
+	}
+
+
+	/**
+	 * Compile a list of world name patterns. Invalid regular expressions are logged and skipped.
+	 *
+	 * @param patterns the patterns read from config
+	 * @param logger the logger used to report invalid patterns
+	 * @return a new {@code WorldNameMatcher}
+	 */
+	static WorldNameMatcher compile(final Collection<String> patterns, final Logger logger)
+	{
+		if (patterns == null || patterns.isEmpty())
+		{
+			return EMPTY;
+		}
+
+		Set<String> exactNames = new HashSet<>();
+		PrefixTrie prefixes = new PrefixTrie();
+		List<String> globRegexes = new ArrayList<>();
+		List<String> regexes = new ArrayList<>();
+		List<Pattern> separateRegexPatterns = new ArrayList<>();
+
+		for (String entry : patterns)
+		{
+			if (entry == null || entry.isBlank())
+			{
+				continue;
+			}
+
+			if (entry.startsWith(REGEX_PREFIX))
+			{
+				String regex = entry.substring(REGEX_PREFIX.length());
+				try
+				{
+					Pattern pattern = Pattern.compile(regex, Pattern.CASE_INSENSITIVE);
+					if (!isCombinable(regex))
+					{
+						separateRegexPatterns.add(pattern);
+					}
+					else
+					{
+						regexes.add(regex);
+					}
+				}
+				catch (PatternSyntaxException e)
+				{
+					logger.warning("Ignoring invalid world name pattern '" + entry + "': " + e.getDescription());
+				}
+				continue;
+			}
+
+			String glob = entry.toLowerCase(Locale.ROOT);
+			int firstWildcard = indexOfWildcard(glob);
+
+			if (firstWildcard == -1)
+			{
+				exactNames.add(glob);
+			}
+			else if (firstWildcard == glob.length() - 1 && glob.charAt(firstWildcard) == '*')
+			{
+				prefixes.add(glob.substring(0, firstWildcard));
+			}
+			else
+			{
+				globRegexes.add(globToRegex(glob));
+			}
+		}
+
+		return new WorldNameMatcher(Set.copyOf(exactNames),
+				prefixes,
+				combine(globRegexes, separateRegexPatterns),
+				combine(regexes, separateRegexPatterns),
+				List.copyOf(separateRegexPatterns));
+	}
+
+
+	/**
+	 * check if a world name matches any pattern
+	 *
+	 * @param worldName the world name to match, which must already be lower case
+	 * @return {@code true} if the name matches at least one pattern, {@code false} if not
+	 */
+	@Contract(pure = true)
+	boolean matches(final String worldName)
+	{
+		if (exactNames.contains(worldName) || prefixes.matchesPrefixOf(worldName))
+		{
+			return true;
+		}
+
+		if (globPattern != null && globPattern.matcher(worldName).matches())
+		{
+			return true;
+		}
+
+		if (regexPattern != null && regexPattern.matcher(worldName).find())
+		{
+			return true;
+		}
+
+		for (Pattern pattern : separateRegexPatterns)
+		{
+			if (pattern.matcher(worldName).find())
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+
+	/**
+	 * check if the matcher has no patterns
+	 *
+	 * @return {@code true} if no patterns were compiled, {@code false} otherwise
+	 */
+	@Contract(pure = true)
+	boolean isEmpty()
+	{
+		return exactNames.isEmpty()
+				&& prefixes.isEmpty()
+				&& globPattern == null
+				&& regexPattern == null
+				&& separateRegexPatterns.isEmpty();
+	}
+
+
+	private static int indexOfWildcard(final String glob)
+	{
+		for (int i = 0; i < glob.length(); i++)
+		{
+			char c = glob.charAt(i);
+			if (c == '*' || c == '?')
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+
+	private static String globToRegex(final String glob)
+	{
+		StringBuilder regex = new StringBuilder();
+		StringBuilder literal = new StringBuilder();
+
+		for (char c : glob.toCharArray())
+		{
+			if (c == '*' || c == '?')
+			{
+				if (!literal.isEmpty())
+				{
+					regex.append(Pattern.quote(literal.toString()));
+					literal.setLength(0);
+				}
+				regex.append(c == '*' ? ".*" : ".");
+			}
+			else
+			{
+				literal.append(c);
+			}
+		}
+
+		if (!literal.isEmpty())
+		{
+			regex.append(Pattern.quote(literal.toString()));
+		}
+
+		return regex.toString();
+	}
+
+
+	/**
+	 * check if a regular expression can be combined with others in a single alternation. Backreferences and
+	 * named groups would clash with other patterns, and some expressions that are valid on their own, such as
+	 * an unterminated {@code \Q} quote or a comment in {@code (?x)} mode, do not compile when wrapped in a group.
+	 *
+	 * @param regex a regular expression that compiles on its own
+	 * @return {@code true} if the expression can be combined, {@code false} if it must be matched separately
+	 */
+	private static boolean isCombinable(final String regex)
+	{
+		if (NOT_COMBINABLE.matcher(regex).find())
+		{
+			return false;
+		}
+
+		try
+		{
+			Pattern.compile("(?:" + regex + ")");
+			return true;
+		}
+		catch (PatternSyntaxException e)
+		{
+			return false;
+		}
+	}
+
+
+	/**
+	 * Combine regular expressions into a single alternation. If the alternation does not compile, each
+	 * expression is added to the separate patterns instead, so one unusual expression cannot fail a reload.
+	 *
+	 * @param regexes the regular expressions to combine, each of which compiles on its own
+	 * @param separatePatterns the list that receives each expression if they cannot be combined
+	 * @return the combined pattern, or {@code null} if there are no expressions or they could not be combined
+	 */
+	private static Pattern combine(final List<String> regexes, final List<Pattern> separatePatterns)
+	{
+		if (regexes.isEmpty())
+		{
+			return null;
+		}
+
+		StringJoiner joiner = new StringJoiner("|");
+		for (String regex : regexes)
+		{
+			joiner.add("(?:" + regex + ")");
+		}
+
+		try
+		{
+			return Pattern.compile(joiner.toString(), Pattern.CASE_INSENSITIVE);
+		}
+		catch (PatternSyntaxException e)
+		{
+			for (String regex : regexes)
+			{
+				separatePatterns.add(Pattern.compile(regex, Pattern.CASE_INSENSITIVE));
+			}
+			return null;
+		}
+	}
+
+
+	/**
+	 * A trie of literal world name prefixes, compiled from globs with a single trailing {@code *}
+	 */
+	static final class PrefixTrie
+	{
+		private final Node root = new Node();
+
+
+		void add(final String prefix)
+		{
+			Node node = root;
+			for (int i = 0; i < prefix.length(); i++)
+			{
+				node = node.children.computeIfAbsent(prefix.charAt(i), c -> new Node());
+			}
+			node.terminal = true;
+		}
+
+
+		boolean matchesPrefixOf(final String worldName)
+		{
+			Node node = root;
+			for (int i = 0; ; i++)
+			{
+				if (node.terminal)
+				{
+					return true;
+				}
+
+				if (i == worldName.length())
+				{
+					return false;
+				}
+
+				node = node.children.get(worldName.charAt(i));
+
+				if (node == null)
+				{
+					return false;
+				}
+			}
+		}
+
+
+		boolean isEmpty()
+		{
+			return !root.terminal && root.children.isEmpty();
+		}
+
+
+		private static final class Node
+		{
+			private final Map<Character, Node> children = new HashMap<>(4);
+			private boolean terminal;
+		}
+	}
+
+}
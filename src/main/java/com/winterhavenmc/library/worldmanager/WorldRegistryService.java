@@ -0,0 +1,408 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager;
+
+import com.winterhavenmc.library.worldmanager.details.WorldDetailsResolver;
+import com.winterhavenmc.library.worldmanager.metrics.MetricsSink;
+import com.winterhavenmc.library.worldmanager.scheduler.TaskScheduler;
+import com.winterhavenmc.library.worldmanager.spawn.SpawnLocationCache;
+import com.winterhavenmc.library.worldmanager.spawn.SpawnLocationResolver;
+import com.winterhavenmc.library.worldmanager.worldname.WorldNameCache;
+import com.winterhavenmc.library.worldmanager.worldname.WorldNameResolver;
+import org.bukkit.World;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.ServicePriority;
+import org.bukkit.plugin.ServicesManager;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+
+/**
+ * The world state that does not depend on any plugin's config: the index of loaded world names, the world slot
+ * table, the Multiverse resolvers, the world name and spawn location caches, and the listeners that keep them
+ * current. One instance is registered with the Bukkit {@link ServicesManager} by the first world manager created,
+ * and world managers created later by any plugin attach to it, keeping only their own enabled world registry on
+ * top of it.
+ * <p>
+ * When the plugin that registered the service is disabled, Bukkit unregisters the service, and each attached
+ * world manager rebinds to another registered service, or registers a new one, and reloads.
+ * <p>
+ * The service can only be shared by plugins that see the same {@code WorldRegistryService} class. A plugin that
+ * shades this library under a relocated package has its own copy of the class, so it cannot find the service
+ * registered by another plugin, and registers its own instead. To share one service across a server, the library
+ * must be loaded once, for example as a plugin that the other plugins depend on, and not shaded by each plugin.
+ */
+public final class WorldRegistryService
+{
+	private final Plugin plugin;
+
+	// guards updates to the name index and slot table; readers do not lock
+	private final Object indexLock = new Object();
+
+	// index of loaded world names to world uids, rebuilt on reload and kept current by world events
+	private volatile WorldNameIndex worldNameIndex = WorldNameIndex.EMPTY;
+
+	// slots assigned to loaded worlds, for checking enabled state by bitset
+	private volatile WorldSlotTable worldSlotTable = WorldSlotTable.EMPTY;
+
+	// resolvers, rebound only when Multiverse-Core is enabled or disabled
+	private volatile WorldNameResolver worldNameResolver;
+	private volatile SpawnLocationResolver spawnLocationResolver;
+	private volatile WorldDetailsResolver worldDetailsResolver;
+
+	// caches of resolved world names and spawn locations, keyed by world UID
+	private final WorldNameCache worldNameCache = new WorldNameCache();
+	private final SpawnLocationCache spawnLocationCache;
+
+	// world managers notified of world events, in attach order
+	private final CopyOnWriteArrayList<WorldManager> worldManagers = new CopyOnWriteArrayList<>();
+
+
+	/**
+	 * Class constructor
+	 *
+	 * @param plugin the plugin that provides the service, used to register its listeners
+	 * @param taskScheduler the scheduler used to resolve spawn locations on the owning thread
+	 */
+	WorldRegistryService(final Plugin plugin, final TaskScheduler taskScheduler)
+	{
+		this.plugin = plugin;
+		this.spawnLocationCache = new SpawnLocationCache(taskScheduler);
+
+		// select resolvers for the current server environment, and index the loaded worlds
+		this.bindResolvers();
+		this.update(plugin.getServer().getWorlds());
+	}
+
+
+	/**
+	 * Get the service registered with the server, or create one provided by the given plugin, register it
+	 * and start its listeners if none is registered or the registered service cannot be seen by this copy
+	 * of the library
+	 *
+	 * @param plugin the plugin that provides the service if a new one is created
+	 * @return the registered service
+	 */
+	static synchronized WorldRegistryService get(final Plugin plugin)
+	{
+		ServicesManager servicesManager = plugin.getServer().getServicesManager();
+
+		WorldRegistryService registered = servicesManager.load(WorldRegistryService.class);
+		if (registered != null)
+		{
+			return registered;
+		}
+
+		WorldRegistryService service = new WorldRegistryService(plugin, TaskScheduler.get(plugin));
+		service.registerListeners();
+		servicesManager.register(WorldRegistryService.class, service, plugin, ServicePriority.Normal);
+
+		return service;
+	}
+
+
+	/**
+	 * Register the plugin and world event listeners of this service, under the plugin that provides it
+	 */
+	private void registerListeners()
+	{
+		// rebind resolvers when Multiverse-Core is enabled or disabled, and detach world managers of disabled plugins
+		PluginEventListener pluginEventListener = new PluginEventListener(this, plugin);
+		plugin.getServer().getPluginManager().registerEvents(pluginEventListener, plugin);
+		pluginEventListener.registerMultiverseEvents();
+
+		// keep per-world caches current as worlds are loaded and unloaded
+		plugin.getServer().getPluginManager().registerEvents(new WorldEventListener(this), plugin);
+	}
+
+
+	/**
+	 * get the plugin that provides this service
+	 *
+	 * @return the providing plugin
+	 */
+	public Plugin getPlugin()
+	{
+		return plugin;
+	}
+
+
+	/**
+	 * get the number of world managers attached to this service
+	 *
+	 * @return the number of attached world managers
+	 */
+	public int getWorldManagerCount()
+	{
+		return worldManagers.size();
+	}
+
+
+	/**
+	 * Attach a world manager, so that it is notified of world events
+	 *
+	 * @param worldManager the world manager to attach
+	 */
+	void attach(final WorldManager worldManager)
+	{
+		worldManagers.addIfAbsent(worldManager);
+	}
+
+
+	/**
+	 * Detach a world manager, so that it is no longer notified of world events
+	 *
+	 * @param worldManager the world manager to detach
+	 */
+	void detach(final WorldManager worldManager)
+	{
+		worldManagers.remove(worldManager);
+	}
+
+
+	/**
+	 * Detach all world managers created by a plugin. Called by the plugin event listener when a plugin is disabled.
+	 *
+	 * @param owner the plugin whose world managers are detached
+	 */
+	void detach(final Plugin owner)
+	{
+		worldManagers.removeIf(worldManager -> worldManager.getPlugin() == owner);
+	}
+
+
+	/**
+	 * Select resolvers based on the availability of Multiverse-Core. Called at construction,
+	 * and again by the plugin event listener when Multiverse-Core is enabled.
+	 */
+	void bindResolvers()
+	{
+		this.worldNameResolver = WorldNameResolver.get(plugin.getServer().getPluginManager());
+		this.spawnLocationResolver = SpawnLocationResolver.get(plugin.getServer().getPluginManager());
+		this.worldDetailsResolver = WorldDetailsResolver.get(plugin.getServer().getPluginManager());
+		this.invalidateAll();
+	}
+
+
+	/**
+	 * Replace resolvers with default implementations. Called by the plugin event listener
+	 * when Multiverse-Core is disabled.
+	 */
+	void unbindResolvers()
+	{
+		this.worldNameResolver = new com.winterhavenmc.library.worldmanager.worldname.DefaultResolver();
+		this.spawnLocationResolver = new com.winterhavenmc.library.worldmanager.spawn.DefaultResolver();
+		this.worldDetailsResolver = new com.winterhavenmc.library.worldmanager.details.DefaultResolver();
+		this.invalidateAll();
+	}
+
+
+	/**
+	 * Rebuild the world name index from the loaded worlds, keeping the slots of worlds that are still loaded
+	 *
+	 * @param worlds the loaded server worlds
+	 */
+	void update(final Collection<World> worlds)
+	{
+		synchronized (indexLock)
+		{
+			this.worldNameIndex = WorldNameIndex.of(worlds);
+			this.worldSlotTable = worldSlotTable.update(worlds);
+		}
+	}
+
+
+	/**
+	 * Called by the world event listener when a world is loaded. The world is indexed before attached
+	 * world managers are notified, so that they see its slot.
+	 *
+	 * @param world the world that was loaded
+	 */
+	void worldLoaded(final World world)
+	{
+		if (world != null)
+		{
+			synchronized (indexLock)
+			{
+				this.worldNameIndex = worldNameIndex.with(world);
+				this.worldSlotTable = worldSlotTable.with(world);
+			}
+			invalidate(world.getUID());
+
+			for (WorldManager worldManager : worldManagers)
+			{
+				worldManager.applyWorldLoaded(world);
+			}
+		}
+	}
+
+
+	/**
+	 * Called by the world event listener when a world is unloaded. Attached world managers are notified
+	 * before the world is removed from the index, so that they can still look up its slot.
+	 *
+	 * @param world the world that was unloaded
+	 */
+	void worldUnloaded(final World world)
+	{
+		if (world != null)
+		{
+			for (WorldManager worldManager : worldManagers)
+			{
+				worldManager.applyWorldUnloaded(world);
+			}
+
+			synchronized (indexLock)
+			{
+				this.worldNameIndex = worldNameIndex.without(world);
+				this.worldSlotTable = worldSlotTable.without(world);
+			}
+			invalidate(world.getUID());
+		}
+	}
+
+
+	/**
+	 * Called by the world event listener when the spawn location of a world is changed
+	 *
+	 * @param world the world whose spawn location changed
+	 */
+	void spawnChanged(final World world)
+	{
+		if (world != null)
+		{
+			spawnLocationCache.refresh(world, spawnLocationResolver);
+		}
+	}
+
+
+	/**
+	 * check if a world manager is the first attached world manager of the plugin that provides this service. The
+	 * caches and world state file are shared, so only this world manager seeds, warms and saves them.
+	 *
+	 * @param worldManager a world manager
+	 * @return {@code true} if the world manager is the primary world manager of this service
+	 */
+	boolean isPrimary(final WorldManager worldManager)
+	{
+		for (WorldManager attached : worldManagers)
+		{
+			if (attached.getPlugin() == plugin)
+			{
+				return attached == worldManager;
+			}
+		}
+		return false;
+	}
+
+
+	/**
+	 * Called by the world event listener when the server has finished loading, at startup or after a reload.
+	 * Only the primary world manager is notified, so the shared caches are warmed and saved once.
+	 */
+	void serverLoaded()
+	{
+		for (WorldManager worldManager : worldManagers)
+		{
+			if (isPrimary(worldManager))
+			{
+				worldManager.serverLoaded();
+				return;
+			}
+		}
+	}
+
+
+	/**
+	 * Discard cached data for a world, so that it is resolved again on next access
+	 *
+	 * @param worldUID Unique Identifier for world
+	 */
+	void invalidate(final UUID worldUID)
+	{
+		worldNameCache.invalidate(worldUID);
+		spawnLocationCache.invalidate(worldUID);
+	}
+
+
+	/**
+	 * Discard cached data for all worlds
+	 */
+	void invalidateAll()
+	{
+		worldNameCache.invalidateAll();
+		spawnLocationCache.invalidateAll();
+	}
+
+
+	/**
+	 * Set the sink that receives cache statistics for the shared caches
+	 *
+	 * @param metricsSink the metrics sink
+	 */
+	void setMetricsSink(final MetricsSink metricsSink)
+	{
+		worldNameCache.setMetricsSink(metricsSink);
+		spawnLocationCache.setMetricsSink(metricsSink);
+	}
+
+
+	WorldNameIndex worldNameIndex()
+	{
+		return worldNameIndex;
+	}
+
+
+	WorldSlotTable worldSlotTable()
+	{
+		return worldSlotTable;
+	}
+
+
+	WorldNameResolver worldNameResolver()
+	{
+		return worldNameResolver;
+	}
+
+
+	SpawnLocationResolver spawnLocationResolver()
+	{
+		return spawnLocationResolver;
+	}
+
+
+	WorldDetailsResolver worldDetailsResolver()
+	{
+		return worldDetailsResolver;
+	}
+
+
+	WorldNameCache worldNameCache()
+	{
+		return worldNameCache;
+	}
+
+
+	SpawnLocationCache spawnLocationCache()
+	{
+		return spawnLocationCache;
+	}
+
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager;
+
+import org.bukkit.World;
+import org.jetbrains.annotations.Contract;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+
+/**
+ * The enabled-worlds and disabled-worlds rules read from a plugin configuration, in a form that can be
+ * applied to one world at a time.
+ * <p>
+ * A world is enabled if the enabled list is empty or matches the world name, and the disabled list
+ * does not match the world name. List entries may be exact names, globs or regular expressions, and are
+ * compiled once into a {@link WorldNameMatcher} when the rules are created. Names are compared without
+ * regard to case, as they are by {@code Server.getWorld(String)}.
+ * <p>
+ * The enabled-regions and disabled-regions lists, which enable or disable parts of a world, are read
+ * at the same time and carried with these rules as {@link RegionRules}, as are the rules of each registered
+ * {@link Feature}.
+ * <p>
+ * The result for each world is cached by world uid, so a world that is loaded again is not re-evaluated.
+ * A new {@code WorldRules} instance, with an empty cache, is created on each reload.
+ */
+final class WorldRules
+{
+	static final WorldRules ALL_ENABLED = new WorldRules(List.of(), List.of(), Logger.getLogger(WorldRules.class.getName()));
+
+	private final WorldNameMatcher enabledMatcher;
+	private final WorldNameMatcher disabledMatcher;
+	private final RegionRules regionRules;
+	private final FeatureRules featureRules;
+	private final Map<UUID, Boolean> resultCache = new ConcurrentHashMap<>();
+
+
+	/**
+	 * Class constructor
+	 *
+	 * @param enabledPatterns the entries in the enabled-worlds list
+	 * @param disabledPatterns the entries in the disabled-worlds list
+	 * @param logger the logger used to report invalid patterns
+	 */
+	WorldRules(final Collection<String> enabledPatterns, final Collection<String> disabledPatterns, final Logger logger)
+	{
+		this(enabledPatterns, disabledPatterns, RegionRules.EMPTY, FeatureRules.NONE, logger);
+	}
+
+
+	/**
+	 * Class constructor
+	 *
+	 * @param enabledPatterns the entries in the enabled-worlds list
+	 * @param disabledPatterns the entries in the disabled-worlds list
+	 * @param regionRules the compiled enabled-regions and disabled-regions lists
+	 * @param featureRules the compiled rules of each registered feature
+	 * @param logger the logger used to report invalid patterns
+	 */
+	WorldRules(final Collection<String> enabledPatterns, final Collection<String> disabledPatterns,
+	           final RegionRules regionRules, final FeatureRules featureRules, final Logger logger)
+	{
+		this.enabledMatcher = WorldNameMatcher.compile(enabledPatterns, logger);
+		this.disabledMatcher = WorldNameMatcher.compile(disabledPatterns, logger);
+		this.regionRules = regionRules;
+		this.featureRules = featureRules;
+	}
+
+
+	/**
+	 * Class constructor for rules with the same patterns, regions and cached results as other rules,
+	 * and different feature rules
+	 */
+	private WorldRules(final WorldRules rules, final FeatureRules featureRules)
+	{
+		this.enabledMatcher = rules.enabledMatcher;
+		this.disabledMatcher = rules.disabledMatcher;
+		this.regionRules = rules.regionRules;
+		this.featureRules = featureRules;
+		this.resultCache.putAll(rules.resultCache);
+	}
+
+
+	/**
+	 * Return rules with the same world patterns and regions, and the given feature rules
+	 *
+	 * @param featureRules the compiled rules of each registered feature
+	 * @return a new {@code WorldRules}, or these rules if the feature rules are the same
+	 */
+	WorldRules withFeatureRules(final FeatureRules featureRules)
+	{
+		return (featureRules == this.featureRules) ? this : new WorldRules(this, featureRules);
+	}
+
+
+	/**
+	 * get the region rules read with these world rules
+	 *
+	 * @return the compiled region rules
+	 */
+	RegionRules regionRules()
+	{
+		return regionRules;
+	}
+
+
+	/**
+	 * get the feature rules read with these world rules
+	 *
+	 * @return the compiled feature rules
+	 */
+	FeatureRules featureRules()
+	{
+		return featureRules;
+	}
+
+
+	/**
+	 * check if a world is enabled by these rules, using the cached result if the world has been checked before
+	 *
+	 * @param world the world to check
+	 * @return {@code true} if the world is enabled, {@code false} if disabled
+	 */
+	boolean isEnabled(final World world)
+	{
+		if (world == null)
+		{
+			return false;
+		}
+
+		UUID worldUid = world.getUID();
+		Boolean result = (worldUid != null) ? resultCache.get(worldUid) : null;
+
+		return (result != null) ? result : isEnabled(worldUid, world.getName());
+	}
+
+
+	/**
+	 * check if a world with the given uid and name is enabled by these rules, using the cached result if
+	 * the world has been checked before. Unlike {@link #isEnabled(World)}, this makes no calls on a world
+	 * object, so it can be used off the main thread with values captured on the main thread.
+	 *
+	 * @param worldUid the unique id of the world
+	 * @param worldName the name of the world
+	 * @return {@code true} if the world is enabled, {@code false} if disabled
+	 */
+	boolean isEnabled(final UUID worldUid, final String worldName)
+	{
+		if (worldUid == null)
+		{
+			return isEnabled(worldName);
+		}
+
+		Boolean result = resultCache.get(worldUid);
+
+		if (result == null)
+		{
+			result = isEnabled(worldName);
+			resultCache.put(worldUid, result);
+		}
+
+		return result;
+	}
+
+
+	/**
+	 * Discard the cached results for a world, including those of each feature, so that the cache does not
+	 * keep entries for worlds that have been unloaded
+	 *
+	 * @param worldUid the unique id of the world
+	 */
+	void invalidate(final UUID worldUid)
+	{
+		if (worldUid != null)
+		{
+			resultCache.remove(worldUid);
+			featureRules.invalidate(worldUid);
+		}
+	}
+
+
+	/**
+	 * check if a world with the given name is enabled by these rules
+	 *
+	 * @param worldName the name of the world
+	 * @return {@code true} if the world is enabled, {@code false} if disabled
+	 */
+	@Contract(pure = true)
+	boolean isEnabled(final String worldName)
+	{
+		if (worldName == null)
+		{
+			return false;
+		}
+
+		String key = worldName.toLowerCase(Locale.ROOT);
+
+		return (enabledMatcher.isEmpty() || enabledMatcher.matches(key)) && !disabledMatcher.matches(key);
+	}
+
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager;
+
+import org.bukkit.World;
+import org.jetbrains.annotations.Contract;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * An immutable table assigning a dense integer slot to each loaded world, keyed by world object identity.
+ * <p>
+ * Slots are handed out in increasing order and are not reused by {@link #with(World)}, so between reloads a
+ * slot cached by a caller can never come to refer to a different world. Worlds are removed from the table
+ * when they are unloaded, so the table does not keep unloaded world objects reachable. To keep slots dense
+ * on servers that load and unload many worlds, {@link #update(Collection)} renumbers the loaded worlds from
+ * zero once more slots have been retired than are in use; otherwise a world keeps its slot across reloads
+ * for as long as it stays loaded. Changes return a new table, which is published through a volatile field.
+ */
+final class WorldSlotTable
+{
+	static final WorldSlotTable EMPTY = new WorldSlotTable(new IdentityHashMap<>(), 0);
+
+	static final int NO_SLOT = -1;
+
+	// retired slots tolerated before a table with few worlds is renumbered
+	static final int MIN_RETIRED_SLOTS = 64;
+
+	private final Map<World, Integer> slots;
+	private final int nextSlot;
+
+
+	private WorldSlotTable(final IdentityHashMap<World, Integer> slots, final int nextSlot)
+	{
+		this.slots = slots;
+		this.nextSlot = nextSlot;
+	}
+
+
+	/**
+	 * get the slot of a world
+	 *
+	 * @param world the world
+	 * @return the slot of the world, or {@link #NO_SLOT} if the world is null or not in the table
+	 */
+	@Contract(pure = true)
+	int slotOf(final World world)
+	{
+		Integer slot = slots.get(world);
+		return slot == null ? NO_SLOT : slot;
+	}
+
+
+	/**
+	 * Return a table holding exactly the given worlds. Worlds already in this table keep their slots,
+	 * and new worlds are given new slots, unless more slots have been retired than are in use, in which
+	 * case all worlds are renumbered from zero in the order of their previous slots.
+	 *
+	 * @param worlds the loaded worlds
+	 * @return a new {@code WorldSlotTable}
+	 */
+	WorldSlotTable update(final Collection<World> worlds)
+	{
+		IdentityHashMap<World, Integer> result = new IdentityHashMap<>(worlds.size());
+		int next = nextSlot;
+
+		for (World world : worlds)
+		{
+			if (world != null && !result.containsKey(world))
+			{
+				Integer slot = slots.get(world);
+				result.put(world, slot != null ? slot : next++);
+			}
+		}
+
+		if (next - result.size() > Math.max(MIN_RETIRED_SLOTS, result.size()))
+		{
+			return compact(result);
+		}
+
+		return new WorldSlotTable(result, next);
+	}
+
+
+	/**
+	 * Return a table holding the given worlds with slots renumbered from zero, keeping their order
+	 */
+	private static WorldSlotTable compact(final IdentityHashMap<World, Integer> slots)
+	{
+		List<Map.Entry<World, Integer>> entries = new ArrayList<>(slots.entrySet());
+		entries.sort(Map.Entry.comparingByValue(Comparator.naturalOrder()));
+
+		IdentityHashMap<World, Integer> result = new IdentityHashMap<>(entries.size());
+		for (Map.Entry<World, Integer> entry : entries)
+		{
+			result.put(entry.getKey(), result.size());
+		}
+
+		return new WorldSlotTable(result, result.size());
+	}
+
+
+	/**
+	 * Return a table that includes the given world, giving it a new slot if it does not already have one
+	 *
+	 * @param world the world to add
+	 * @return a new {@code WorldSlotTable}, or this table if the world already has a slot
+	 */
+	WorldSlotTable with(final World world)
+	{
+		if (world == null || slots.containsKey(world))
+		{
+			return this;
+		}
+
+		IdentityHashMap<World, Integer> result = new IdentityHashMap<>(slots);
+		result.put(world, nextSlot);
+		return new WorldSlotTable(result, nextSlot + 1);
+	}
+
+
+	/**
+	 * Return a table that excludes the given world. Its slot is not reused.
+	 *
+	 * @param world the world to remove
+	 * @return a new {@code WorldSlotTable}, or this table if the world has no slot
+	 */
+	WorldSlotTable without(final World world)
+	{
+		if (world == null || !slots.containsKey(world))
+		{
+			return this;
+		}
+
+		IdentityHashMap<World, Integer> result = new IdentityHashMap<>(slots);
+		result.remove(world);
+		return new WorldSlotTable(result, nextSlot);
+	}
+
+
+	/**
+	 * get the number of slots handed out by this table, including retired slots, which bounds every slot in it
+	 *
+	 * @return {@code int} one more than the highest slot ever assigned by this table
+	 */
+	@Contract(pure = true)
+	int slotCount()
+	{
+		return nextSlot;
+	}
+
+
+	/**
+	 * get the number of worlds in the table
+	 *
+	 * @return {@code int} the number of worlds
+	 */
+	@Contract(pure = true)
+	int size()
+	{
+		return slots.size();
+	}
+
+}
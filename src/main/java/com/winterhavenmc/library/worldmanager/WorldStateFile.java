@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager;
+
+import com.winterhavenmc.library.worldmanager.spawn.SpawnSnapshot;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+
+/**
+ * Reads and writes the resolved state of worlds to a small binary file in the plugin data folder, so that
+ * world names, aliases and spawn locations can be served from the caches as soon as a world manager is
+ * created, before Multiverse-Core is ready.
+ * <p>
+ * The file starts with a magic number and a format version, followed by the number of entries and then each
+ * entry in turn. Strings are written as a length and UTF-8 bytes. A file with a different magic number or version,
+ * or one that is truncated or malformed, is ignored as a whole. The file is read whole into a heap buffer, and
+ * written to a temporary file that then replaces the previous file.
+ * <p>
+ * The file is not memory mapped: a mapping cannot be released explicitly, and on Windows the mapped file stays
+ * locked until the mapping is garbage collected, so the next write could not replace it.
+ */
+final class WorldStateFile
+{
+	static final String FILE_NAME = "world-cache.bin";
+
+	static final int MAGIC = 0x574D4C53; // "WMLS"
+	static final short VERSION = 1;
+
+	// limits that a well-formed file never reaches, used to reject corrupt files before allocating
+	private static final int MAX_ENTRIES = 65_536;
+	private static final int MAX_STRING_BYTES = 4_096;
+
+	private static final byte FLAG_ENABLED = 0b01;
+	private static final byte FLAG_SPAWN = 0b10;
+
+
+	/**
+	 * The resolved state of a single world
+	 *
+	 * @param worldUid the unique id of the world
+	 * @param worldName the bukkit name of the world
+	 * @param alias the resolved display name of the world, which is the Multiverse alias if it has one
+	 * @param enabled whether the world was enabled when the file was written
+	 * @param spawn the resolved spawn location, or null if none was cached
+	 */
+	record Entry(UUID worldUid, String worldName, String alias, boolean enabled, SpawnSnapshot spawn) { }
+
+
+	private WorldStateFile() { }
+
+
+	/**
+	 * Read all entries from a file. A missing file is not an error; any other problem reading the file is
+	 * logged, and no entries are returned. The file is read into a heap buffer rather than mapped, so that it
+	 * is not left locked on Windows when it is replaced by the next write.
+	 *
+	 * @param path the path of the file
+	 * @param logger the logger used to report unreadable files
+	 * @return the entries in the file, or an empty list if the file is missing or cannot be read
+	 */
+	static List<Entry> read(final Path path, final Logger logger)
+	{
+		try
+		{
+			// read into a heap buffer; a mapped file stays locked on Windows until the mapping is collected,
+			// which would make the next write fail to replace it
+			return decode(ByteBuffer.wrap(Files.readAllBytes(path)));
+		}
+		catch (NoSuchFileException e)
+		{
+			return List.of();
+		}
+		catch (BufferUnderflowException e)
+		{
+			logger.warning("Could not read " + path.getFileName() + ", world caches will be resolved live: file is truncated");
+			return List.of();
+		}
+		catch (IOException | IllegalArgumentException e)
+		{
+			logger.warning("Could not read " + path.getFileName() + ", world caches will be resolved live: " + e.getMessage());
+			return List.of();
+		}
+	}
+
+
+	/**
+	 * Write entries to a file, replacing any previous file. The parent directory is created if needed.
+	 *
+	 * @param path the path of the file
+	 * @param entries the entries to write
+	 * @throws IOException if the file cannot be written
+	 */
+	static void write(final Path path, final Collection<Entry> entries) throws IOException
+	{
+		if (entries.size() > MAX_ENTRIES)
+		{
+			throw new IOException("too many worlds to write: " + entries.size());
+		}
+
+		ByteBuffer buffer = encode(entries);
+
+		Path directory = path.toAbsolutePath().getParent();
+		Files.createDirectories(directory);
+		Path temporary = Files.createTempFile(directory, FILE_NAME, ".tmp");
+
+		try
+		{
+			try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING))
+			{
+				while (buffer.hasRemaining())
+				{
+					channel.write(buffer);
+				}
+				channel.force(false);
+			}
+
+			try
+			{
+				Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch (AtomicMoveNotSupportedException e)
+			{
+				Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		finally
+		{
+			Files.deleteIfExists(temporary);
+		}
+	}
+
+
+	/**
+	 * Decode entries from a buffer holding a whole file
+	 *
+	 * @throws IllegalArgumentException if the buffer does not hold a well-formed file of the current version
+	 * @throws BufferUnderflowException if the buffer is truncated
+	 */
+	static List<Entry> decode(final ByteBuffer buffer)
+	{
+		if (buffer.getInt() != MAGIC)
+		{
+			throw new IllegalArgumentException("not a world cache file");
+		}
+
+		short version = buffer.getShort();
+		if (version != VERSION)
+		{
+			throw new IllegalArgumentException("unsupported version " + version);
+		}
+
+		int count = buffer.getInt();
+		if (count < 0 || count > MAX_ENTRIES)
+		{
+			throw new IllegalArgumentException("invalid entry count " + count);
+		}
+
+		List<Entry> entries = new ArrayList<>(count);
+		for (int i = 0; i < count; i++)
+		{
+			UUID worldUid = new UUID(buffer.getLong(), buffer.getLong());
+			byte flags = buffer.get();
+			String worldName = getString(buffer);
+			String alias = getString(buffer);
+			SpawnSnapshot spawn = ((flags & FLAG_SPAWN) != 0)
+					? new SpawnSnapshot(buffer.getDouble(), buffer.getDouble(), buffer.getDouble(), buffer.getFloat(), buffer.getFloat())
+					: null;
+
+			entries.add(new Entry(worldUid, worldName, alias, (flags & FLAG_ENABLED) != 0, spawn));
+		}
+
+		return entries;
+	}
+
+
+	/**
+	 * Encode entries as a whole file
+	 */
+	static ByteBuffer encode(final Collection<Entry> entries)
+	{
+		List<byte[]> strings = new ArrayList<>(entries.size() * 2);
+		int size = Integer.BYTES + Short.BYTES + Integer.BYTES;
+
+		for (Entry entry : entries)
+		{
+			byte[] worldName = toBytes(entry.worldName());
+			byte[] alias = toBytes(entry.alias());
+			strings.add(worldName);
+			strings.add(alias);
+
+			size += 2 * Long.BYTES + 1 + 2 * Short.BYTES + worldName.length + alias.length;
+			if (entry.spawn() != null)
+			{
+				size += 3 * Double.BYTES + 2 * Float.BYTES;
+			}
+		}
+
+		ByteBuffer buffer = ByteBuffer.allocate(size);
+		buffer.putInt(MAGIC).putShort(VERSION).putInt(entries.size());
+
+		int i = 0;
+		for (Entry entry : entries)
+		{
+			SpawnSnapshot spawn = entry.spawn();
+
+			buffer.putLong(entry.worldUid().getMostSignificantBits());
+			buffer.putLong(entry.worldUid().getLeastSignificantBits());
+			buffer.put((byte) ((entry.enabled() ? FLAG_ENABLED : 0) | (spawn != null ? FLAG_SPAWN : 0)));
+			putString(buffer, strings.get(i++));
+			putString(buffer, strings.get(i++));
+
+			if (spawn != null)
+			{
+				buffer.putDouble(spawn.x()).putDouble(spawn.y()).putDouble(spawn.z());
+				buffer.putFloat(spawn.yaw()).putFloat(spawn.pitch());
+			}
+		}
+
+		return buffer.flip();
+	}
+
+
+	private static byte[] toBytes(final String string)
+	{
+		byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+		return (bytes.length <= MAX_STRING_BYTES) ? bytes : new byte[0];
+	}
+
+
+	private static void putString(final ByteBuffer buffer, final byte[] bytes)
+	{
+		buffer.putShort((short) bytes.length);
+		buffer.put(bytes);
+	}
+
+
+	private static String getString(final ByteBuffer buffer)
+	{
+		int length = buffer.getShort() & 0xFFFF;
+		if (length > MAX_STRING_BYTES || length > buffer.remaining())
+		{
+			throw new IllegalArgumentException("invalid string length " + length);
+		}
+
+		byte[] bytes = new byte[length];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+}
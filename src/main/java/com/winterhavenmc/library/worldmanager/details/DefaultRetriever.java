@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager.details;
+
+import org.bukkit.World;
+
+import java.util.Optional;
+
+
+/**
+ * A {@link WorldDetailsRetriever} that returns the Bukkit world name and spawn location
+ */
+public final class DefaultRetriever implements WorldDetailsRetriever
+{
+	@Override
+	public Optional<WorldDetails> getWorldDetails(final World world)
+	{
+		return (world != null)
+				? Optional.of(new WorldDetails(world.getName(), world.getSpawnLocation()))
+				: Optional.empty();
+	}
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager.details;
+
+import com.winterhavenmc.library.worldmanager.multiverse.MultiverseWorldRecord;
+import com.winterhavenmc.library.worldmanager.multiverse.MultiverseWorlds;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.plugin.Plugin;
+
+
+/**
+ * A {@link WorldDetailsResolver} that reads world aliases and spawn locations from
+ * <strong>Multiverse-Core</strong>, falling back to the Bukkit world name or spawn location
+ * for any value that Multiverse does not provide.
+ */
+public final class PluginResolver implements WorldDetailsResolver
+{
+	private final MultiverseWorlds worlds;
+
+
+	/**
+	 * Class constructor. The Multiverse lookup for the installed plugin version is selected once, here.
+	 *
+	 * @param plugin the active Multiverse-Core plugin instance
+	 */
+	public PluginResolver(final Plugin plugin)
+	{
+		this.worlds = MultiverseWorlds.of(plugin);
+	}
+
+
+	@Override
+	public WorldDetails resolve(final World world)
+	{
+		if (world == null) { return null; }
+
+		MultiverseWorldRecord record = worlds.find(world).orElse(null);
+
+		String alias = (record != null) ? record.alias() : null;
+		String name = (alias != null && !alias.isBlank())
+				? alias
+				: world.getName();
+
+		Location multiverseSpawn = (record != null) ? record.spawnLocation() : null;
+		Location spawnLocation = (multiverseSpawn != null)
+				? multiverseSpawn
+				: world.getSpawnLocation();
+
+		return new WorldDetails(name, spawnLocation);
+	}
+
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager.details;
+
+import org.bukkit.Location;
+
+
+/**
+ * The display name and spawn location of a world, as resolved together by a {@link WorldDetailsResolver}.
+ *
+ * @param name the Multiverse alias of the world if available, otherwise the world name
+ * @param spawnLocation the Multiverse spawn location of the world if available, otherwise the world spawn location
+ */
+public record WorldDetails(String name, Location spawnLocation) { }
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager.details;
+
+import org.bukkit.World;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginManager;
+
+
+/**
+ * A runtime-resolvable strategy for obtaining the display name and spawn location of a {@link World}
+ * together, with a single lookup in <strong>Multiverse-Core</strong> when it is installed.
+ *
+ * @see WorldDetailsRetriever
+ * @see DefaultResolver
+ * @see PluginResolver
+ */
+public sealed interface WorldDetailsResolver permits DefaultResolver, PluginResolver
+{
+	/**
+	 * Resolves the display name and spawn location of a world
+	 *
+	 * @param world the {@link World} to resolve
+	 * @return the world details, or {@code null} if the world is {@code null}
+	 */
+	WorldDetails resolve(World world);
+
+
+	/**
+	 * Returns a {@link PluginResolver} if Multiverse-Core is installed and enabled,
+	 * otherwise a {@link DefaultResolver}
+	 *
+	 * @param pluginManager the server's {@link PluginManager}
+	 * @return a {@link WorldDetailsResolver} appropriate for the current server environment
+	 */
+	static WorldDetailsResolver get(final PluginManager pluginManager)
+	{
+		if (pluginManager == null) { return new DefaultResolver(); }
+
+		Plugin plugin = pluginManager.getPlugin("Multiverse-Core");
+
+		return (plugin != null && plugin.isEnabled())
+				? new PluginResolver(plugin)
+				: new DefaultResolver();
+	}
+
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager.details;
+
+import org.bukkit.World;
+
+import java.util.Optional;
+
+
+/**
+ * Strategy interface for retrieving the display name and spawn location of a {@link World}
+ * in a single lookup, so that a plugin such as <strong>Multiverse</strong> is asked for its
+ * world record only once.
+ *
+ * @see DefaultRetriever
+ * @see com.winterhavenmc.library.worldmanager.multiverse.MultiverseWorlds MultiverseWorlds
+ */
+public interface WorldDetailsRetriever
+{
+	Optional<WorldDetails> getWorldDetails(World world);
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager.event;
+
+import com.winterhavenmc.library.worldmanager.RegistryDiff;
+import org.bukkit.event.HandlerList;
+import org.bukkit.plugin.Plugin;
+
+import java.util.UUID;
+
+
+/**
+ * Sent when a world is enabled in the registry of a world manager, by a reload or, in incremental mode,
+ * by the world being loaded.
+ */
+public final class WorldEnabledEvent extends WorldRegistryEvent
+{
+	private static final HandlerList HANDLERS = new HandlerList();
+
+
+	/**
+	 * Class constructor
+	 *
+	 * @param plugin the plugin whose world manager changed
+	 * @param worldUid the unique id of the world
+	 * @param worldName the name of the world
+	 * @param diff the whole change this world is part of
+	 * @param async whether the event is sent from a thread other than the server thread
+	 */
+	public WorldEnabledEvent(final Plugin plugin, final UUID worldUid, final String worldName,
+	                    final RegistryDiff diff, final boolean async)
+	{
+		super(plugin, worldUid, worldName, diff, async);
+	}
+
+
+	@Override
+	public HandlerList getHandlers()
+	{
+		return HANDLERS;
+	}
+
+
+	public static HandlerList getHandlerList()
+	{
+		return HANDLERS;
+	}
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager.event;
+
+import com.winterhavenmc.library.worldmanager.RegistryDiff;
+import org.bukkit.event.Event;
+import org.bukkit.plugin.Plugin;
+
+import java.util.UUID;
+
+
+/**
+ * Base class of the events sent when a world is enabled or disabled in the registry of a world manager.
+ * Each plugin's world manager sends its own events, so listeners should check {@link #getPlugin()}.
+ */
+public abstract class WorldRegistryEvent extends Event
+{
+	private final Plugin plugin;
+	private final UUID worldUid;
+	private final String worldName;
+	private final RegistryDiff diff;
+
+
+	/**
+	 * Class constructor
+	 *
+	 * @param plugin the plugin whose world manager changed
+	 * @param worldUid the unique id of the world
+	 * @param worldName the name of the world
+	 * @param diff the whole change this world is part of
+	 * @param async whether the event is sent from a thread other than the server thread
+	 */
+	protected WorldRegistryEvent(final Plugin plugin, final UUID worldUid, final String worldName,
+	                             final RegistryDiff diff, final boolean async)
+	{
+		super(async);
+		this.plugin = plugin;
+		this.worldUid = worldUid;
+		this.worldName = worldName;
+		this.diff = diff;
+	}
+
+
+	/**
+	 * get the plugin whose world manager changed
+	 *
+	 * @return the plugin that created the world manager
+	 */
+	public Plugin getPlugin()
+	{
+		return plugin;
+	}
+
+
+	/**
+	 * get the unique id of the world
+	 *
+	 * @return the world uid
+	 */
+	public UUID getWorldUid()
+	{
+		return worldUid;
+	}
+
+
+	/**
+	 * get the name of the world. The world may no longer be loaded.
+	 *
+	 * @return the bukkit world name
+	 */
+	public String getWorldName()
+	{
+		return worldName;
+	}
+
+
+	/**
+	 * get the whole change this world is part of
+	 *
+	 * @return the registry diff
+	 */
+	public RegistryDiff getDiff()
+	{
+		return diff;
+	}
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * A {@link MetricsSink} that keeps call counts, latency histograms and cache hit counts in memory,
+ * for each {@link Operation}.
+ * <p>
+ * All counters are created when the sink is created, so recording does not allocate. Values can be
+ * read at any time, for example from a plugin debug command. This class is safe for use from multiple threads.
+ */
+public final class InMemoryMetricsSink implements MetricsSink
+{
+	private final Map<Operation, LatencyHistogram> histograms = new EnumMap<>(Operation.class);
+	private final Map<Operation, LongAdder> cacheHits = new EnumMap<>(Operation.class);
+	private final Map<Operation, LongAdder> cacheMisses = new EnumMap<>(Operation.class);
+
+
+	/**
+	 * Class constructor
+	 */
+	public InMemoryMetricsSink()
+	{
+		for (Operation operation : Operation.values())
+		{
+			histograms.put(operation, new LatencyHistogram());
+			cacheHits.put(operation, new LongAdder());
+			cacheMisses.put(operation, new LongAdder());
+		}
+	}
+
+
+	@Override
+	public void recordLatency(final Operation operation, final long nanos)
+	{
+		histograms.get(operation).record(nanos);
+	}
+
+
+	@Override
+	public void recordCacheAccess(final Operation operation, final boolean hit)
+	{
+		(hit ? cacheHits : cacheMisses).get(operation).increment();
+	}
+
+
+	/**
+	 * get the latency histogram of an operation
+	 *
+	 * @param operation the operation
+	 * @return the live histogram for the operation
+	 */
+	public LatencyHistogram getHistogram(final Operation operation)
+	{
+		return histograms.get(operation);
+	}
+
+
+	/**
+	 * get the number of recorded calls of an operation
+	 *
+	 * @param operation the operation
+	 * @return the call count
+	 */
+	public long getCallCount(final Operation operation)
+	{
+		return histograms.get(operation).getCount();
+	}
+
+
+	/**
+	 * get the number of cache lookups by an operation that were served from the cache
+	 *
+	 * @param operation the operation
+	 * @return the cache hit count
+	 */
+	public long getCacheHitCount(final Operation operation)
+	{
+		return cacheHits.get(operation).sum();
+	}
+
+
+	/**
+	 * get the number of cache lookups by an operation that required a value to be resolved
+	 *
+	 * @param operation the operation
+	 * @return the cache miss count
+	 */
+	public long getCacheMissCount(final Operation operation)
+	{
+		return cacheMisses.get(operation).sum();
+	}
+
+
+	/**
+	 * get the fraction of cache lookups by an operation that were served from the cache
+	 *
+	 * @param operation the operation
+	 * @return the hit ratio between {@code 0.0} and {@code 1.0}, or {@code 0.0} if there have been no lookups
+	 */
+	public double getCacheHitRatio(final Operation operation)
+	{
+		long hits = getCacheHitCount(operation);
+		long total = hits + getCacheMissCount(operation);
+
+		return (total == 0) ? 0.0 : (double) hits / total;
+	}
+
+
+	/**
+	 * Discard all recorded values
+	 */
+	public void reset()
+	{
+		for (Operation operation : Operation.values())
+		{
+			histograms.get(operation).reset();
+			cacheHits.get(operation).reset();
+			cacheMisses.get(operation).reset();
+		}
+	}
+
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager.metrics;
+
+import org.bukkit.plugin.Plugin;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+
+/**
+ * A {@link MetricsSink} that publishes the metrics of each {@link Operation} as a JMX MBean, so that they
+ * can be read with JConsole, VisualVM or a JMX exporter.
+ * <p>
+ * Values are kept in an {@link InMemoryMetricsSink}. MBeans are registered with the platform MBean server
+ * by {@link #register()}, under the name
+ * {@code com.winterhavenmc.library.worldmanager:type=WorldManager,plugin=<plugin name>,operation=<operation>},
+ * and should be unregistered with {@link #unregister()} when the plugin is disabled.
+ */
+public final class JmxMetricsSink implements MetricsSink
+{
+	static final String DOMAIN = "com.winterhavenmc.library.worldmanager";
+
+	private final Plugin plugin;
+	private final InMemoryMetricsSink delegate = new InMemoryMetricsSink();
+	private final List<ObjectName> registeredNames = new ArrayList<>();
+
+
+	/**
+	 * The attributes published for each operation
+	 */
+	public interface OperationMetricsMBean
+	{
+		long getCallCount();
+		double getMeanNanos();
+		long getP50Nanos();
+		long getP99Nanos();
+		long getMaxNanos();
+		long getCacheHitCount();
+		long getCacheMissCount();
+		double getCacheHitRatio();
+	}
+
+
+	/**
+	 * Class constructor
+	 *
+	 * @param plugin the plugin that owns the world manager, used to name the MBeans and log errors
+	 */
+	public JmxMetricsSink(final Plugin plugin)
+	{
+		this.plugin = plugin;
+	}
+
+
+	@Override
+	public void recordLatency(final Operation operation, final long nanos)
+	{
+		delegate.recordLatency(operation, nanos);
+	}
+
+
+	@Override
+	public void recordCacheAccess(final Operation operation, final boolean hit)
+	{
+		delegate.recordCacheAccess(operation, hit);
+	}
+
+
+	/**
+	 * get the in-memory sink holding the published values
+	 *
+	 * @return the in-memory sink
+	 */
+	public InMemoryMetricsSink getMetrics()
+	{
+		return delegate;
+	}
+
+
+	/**
+	 * Register an MBean for each operation with the platform MBean server. Errors are logged, and
+	 * do not prevent metrics from being recorded.
+	 */
+	public synchronized void register()
+	{
+		MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+		for (Operation operation : Operation.values())
+		{
+			try
+			{
+				ObjectName objectName = objectName(operation);
+				if (!mBeanServer.isRegistered(objectName))
+				{
+					mBeanServer.registerMBean(new StandardMBean(new OperationMetrics(operation),
+							OperationMetricsMBean.class), objectName);
+					registeredNames.add(objectName);
+				}
+			}
+			catch (JMException e)
+			{
+				plugin.getLogger().warning("Could not register metrics MBean for " + operation + ": " + e.getMessage());
+			}
+		}
+	}
+
+
+	/**
+	 * Unregister all MBeans registered by {@link #register()}
+	 */
+	public synchronized void unregister()
+	{
+		MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+		for (ObjectName objectName : registeredNames)
+		{
+			try
+			{
+				mBeanServer.unregisterMBean(objectName);
+			}
+			catch (JMException e)
+			{
+				plugin.getLogger().warning("Could not unregister metrics MBean " + objectName + ": " + e.getMessage());
+			}
+		}
+
+		registeredNames.clear();
+	}
+
+
+	/**
+	 * get the MBean name for an operation
+	 *
+	 * @param operation the operation
+	 * @return the object name
+	 * @throws JMException if the plugin name cannot be used in an object name
+	 */
+	ObjectName objectName(final Operation operation) throws JMException
+	{
+		return new ObjectName(DOMAIN + ":type=WorldManager"
+				+ ",plugin=" + ObjectName.quote(plugin.getName())
+				+ ",operation=" + operation.name().toLowerCase(Locale.ROOT));
+	}
+
+
+	private final class OperationMetrics implements OperationMetricsMBean
+	{
+		private final Operation operation;
+
+
+		private OperationMetrics(final Operation operation)
+		{
+			this.operation = operation;
+		}
+
+
+		@Override
+		public long getCallCount()
+		{
+			return delegate.getCallCount(operation);
+		}
+
+
+		@Override
+		public double getMeanNanos()
+		{
+			return delegate.getHistogram(operation).getMean();
+		}
+
+
+		@Override
+		public long getP50Nanos()
+		{
+			return delegate.getHistogram(operation).getValueAtPercentile(50.0);
+		}
+
+
+		@Override
+		public long getP99Nanos()
+		{
+			return delegate.getHistogram(operation).getValueAtPercentile(99.0);
+		}
+
+
+		@Override
+		public long getMaxNanos()
+		{
+			return delegate.getHistogram(operation).getMax();
+		}
+
+
+		@Override
+		public long getCacheHitCount()
+		{
+			return delegate.getCacheHitCount(operation);
+		}
+
+
+		@Override
+		public long getCacheMissCount()
+		{
+			return delegate.getCacheMissCount(operation);
+		}
+
+
+		@Override
+		public double getCacheHitRatio()
+		{
+			return delegate.getCacheHitRatio(operation);
+		}
+	}
+
+}
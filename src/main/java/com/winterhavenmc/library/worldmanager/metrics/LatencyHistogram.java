@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * A fixed-size, log-linear histogram of latencies in nanoseconds, in the style of HdrHistogram.
+ * <p>
+ * Values below 16 have their own buckets. Above that, each power of two is split into 16 equal
+ * buckets, so a recorded value is reported to within about 6%. Values above about an hour are
+ * counted in the last bucket. All buckets are allocated when the histogram is created, and recording
+ * a value only updates atomic counters, so recording does not allocate and does not lock.
+ * <p>
+ * This class is safe for use from multiple threads. Values read while other threads are recording
+ * are approximate.
+ */
+public final class LatencyHistogram
+{
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int MAX_EXPONENT = 41;
+
+	// linear buckets, then one set of sub-buckets per power of two up to MAX_EXPONENT, then an overflow bucket
+	static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT + 1;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+	private final LongAdder totalCount = new LongAdder();
+	private final LongAdder totalNanos = new LongAdder();
+	private final AtomicLong maxNanos = new AtomicLong();
+
+
+	/**
+	 * Record a single latency
+	 *
+	 * @param nanos the latency in nanoseconds; negative values are recorded as zero
+	 */
+	public void record(final long nanos)
+	{
+		final long value = Math.max(0L, nanos);
+
+		counts.incrementAndGet(bucketIndex(value));
+		totalCount.increment();
+		totalNanos.add(value);
+
+		if (value > maxNanos.get())
+		{
+			maxNanos.accumulateAndGet(value, Math::max);
+		}
+	}
+
+
+	/**
+	 * get the number of recorded values
+	 *
+	 * @return the count of recorded values
+	 */
+	public long getCount()
+	{
+		return totalCount.sum();
+	}
+
+
+	/**
+	 * get the largest recorded value
+	 *
+	 * @return the largest recorded value in nanoseconds, or {@code 0} if nothing has been recorded
+	 */
+	public long getMax()
+	{
+		return maxNanos.get();
+	}
+
+
+	/**
+	 * get the mean of the recorded values
+	 *
+	 * @return the mean in nanoseconds, or {@code 0.0} if nothing has been recorded
+	 */
+	public double getMean()
+	{
+		long count = totalCount.sum();
+		return (count == 0) ? 0.0 : (double) totalNanos.sum() / count;
+	}
+
+
+	/**
+	 * get the value at a percentile of the recorded values. The result is the highest value that falls in
+	 * the same bucket as the value at that percentile, capped at the largest recorded value.
+	 *
+	 * @param percentile the percentile, between {@code 0.0} and {@code 100.0}
+	 * @return the value at the percentile in nanoseconds, or {@code 0} if nothing has been recorded
+	 */
+	public long getValueAtPercentile(final double percentile)
+	{
+		long count = 0;
+		long[] snapshot = new long[BUCKET_COUNT];
+		for (int i = 0; i < BUCKET_COUNT; i++)
+		{
+			snapshot[i] = counts.get(i);
+			count += snapshot[i];
+		}
+
+		if (count == 0)
+		{
+			return 0L;
+		}
+
+		double clamped = Math.min(100.0, Math.max(0.0, percentile));
+		long target = Math.max(1L, (long) Math.ceil(clamped / 100.0 * count));
+
+		long seen = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++)
+		{
+			seen += snapshot[i];
+			if (seen >= target)
+			{
+				return Math.min(bucketUpperBound(i), getMax());
+			}
+		}
+
+		return getMax();
+	}
+
+
+	/**
+	 * Discard all recorded values
+	 */
+	public void reset()
+	{
+		for (int i = 0; i < BUCKET_COUNT; i++)
+		{
+			counts.set(i, 0L);
+		}
+		totalCount.reset();
+		totalNanos.reset();
+		maxNanos.set(0L);
+	}
+
+
+	static int bucketIndex(final long value)
+	{
+		if (value < SUB_BUCKET_COUNT)
+		{
+			return (int) value;
+		}
+
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+
+		if (exponent > MAX_EXPONENT)
+		{
+			return BUCKET_COUNT - 1;
+		}
+
+		int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+
+		return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+	}
+
+
+	static long bucketUpperBound(final int index)
+	{
+		if (index < SUB_BUCKET_COUNT)
+		{
+			return index;
+		}
+
+		if (index == BUCKET_COUNT - 1)
+		{
+			return Long.MAX_VALUE;
+		}
+
+		int exponent = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+		int subBucket = index % SUB_BUCKET_COUNT;
+		int shift = exponent - SUB_BUCKET_BITS;
+
+		return ((long) (SUB_BUCKET_COUNT + subBucket) << shift) + (1L << shift) - 1;
+	}
+
+}
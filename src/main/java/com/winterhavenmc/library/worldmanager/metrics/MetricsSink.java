@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager.metrics;
+
+
+/**
+ * A destination for call timings and cache statistics recorded by a {@code WorldManager}.
+ * <p>
+ * Methods are called on the thread performing the operation, often the server thread, so
+ * implementations must be thread-safe and should not block or allocate. When no sink is set,
+ * {@link #NOOP} is used and the world manager skips timing altogether.
+ *
+ * @see InMemoryMetricsSink
+ * @see JmxMetricsSink
+ */
+public interface MetricsSink
+{
+	/**
+	 * A sink that discards everything
+	 */
+	MetricsSink NOOP = new MetricsSink()
+	{
+		@Override
+		public void recordLatency(final Operation operation, final long nanos) { }
+
+		@Override
+		public void recordCacheAccess(final Operation operation, final boolean hit) { }
+	};
+
+
+	/**
+	 * Record one call of an operation
+	 *
+	 * @param operation the operation that was called
+	 * @param nanos the time taken by the call, in nanoseconds
+	 */
+	void recordLatency(Operation operation, long nanos);
+
+
+	/**
+	 * Record one cache lookup made by an operation
+	 *
+	 * @param operation the operation that made the lookup
+	 * @param hit {@code true} if the value was served from the cache, {@code false} if it was resolved
+	 */
+	void recordCacheAccess(Operation operation, boolean hit);
+
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager.metrics;
+
+
+/**
+ * The operations of a {@code WorldManager} that are reported to a {@link MetricsSink}.
+ */
+public enum Operation
+{
+	/** any of the {@code WorldManager.isEnabled} methods */
+	IS_ENABLED,
+
+	/** {@code WorldManager.getWorldName(World)}, including cache hits and misses */
+	GET_WORLD_NAME,
+
+	/** {@code WorldManager.getAliasOrName(String)} */
+	GET_ALIAS_OR_NAME,
+
+	/** {@code WorldManager.getSpawnLocation(World)}, including cache hits and misses */
+	GET_SPAWN_LOCATION,
+
+	/** {@code WorldManager.describe(World)}, including cache hits and misses */
+	DESCRIBE,
+
+	/** a synchronous or asynchronous reload of the enabled world registry */
+	RELOAD,
+
+	/** a call to a world name resolver on a cache miss, such as a Multiverse alias lookup */
+	RESOLVE_WORLD_NAME,
+
+	/** a call to a spawn location resolver on a cache miss, such as a Multiverse spawn lookup */
+	RESOLVE_SPAWN_LOCATION,
+
+	/** a call to a world details resolver when a world description is not fully cached */
+	RESOLVE_WORLD_DETAILS
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+
+package com.winterhavenmc.library.worldmanager.multiverse;
+
+import com.onarandombox.MultiverseCore.MultiverseCore;
+import com.onarandombox.MultiverseCore.api.MVWorldManager;
+import com.onarandombox.MultiverseCore.api.MultiverseWorld;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.Optional;
+
+
+/**
+ * A {@link MultiverseWorlds} lookup for Multiverse-Core version 4
+ */
+final class Multiverse4Worlds implements MultiverseWorlds
+{
+	private final MultiverseCore plugin;
+
+
+	Multiverse4Worlds(final MultiverseCore plugin)
+	{
+		this.plugin = plugin;
+	}
+
+
+	@Override
+	public Optional<MultiverseWorldRecord> find(final World world)
+	{
+		if (world == null || plugin == null)
+		{
+			return Optional.empty();
+		}
+
+		MVWorldManager worldManager = plugin.getMVWorldManager();
+
+		if (worldManager == null)
+		{
+			return Optional.empty();
+		}
+
+		MultiverseWorld multiverseWorld = worldManager.getMVWorld(world);
+
+		return (multiverseWorld != null)
+				? Optional.of(new Record(multiverseWorld))
+				: Optional.empty();
+	}
+
+
+	private record Record(MultiverseWorld world) implements MultiverseWorldRecord
+	{
+		@Override
+		public String alias()
+		{
+			return world.getAlias();
+		}
+
+		@Override
+		public Location spawnLocation()
+		{
+			return world.getSpawnLocation();
+		}
+	}
+
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+
+package com.winterhavenmc.library.worldmanager.multiverse;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.mvplugins.multiverse.core.MultiverseCoreApi;
+import org.mvplugins.multiverse.core.world.MultiverseWorld;
+import org.mvplugins.multiverse.core.world.WorldManager;
+import org.mvplugins.multiverse.external.vavr.control.Option;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+
+/**
+ * A {@link MultiverseWorlds} lookup for Multiverse-Core version 5.
+ * <p>
+ * The Multiverse world manager is acquired from the api on first use and kept for the life of
+ * the lookup, which is replaced whenever Multiverse-Core is enabled or disabled.
+ */
+final class Multiverse5Worlds implements MultiverseWorlds
+{
+	private static final Logger LOGGER = Logger.getLogger(MultiverseWorlds.class.getName());
+
+	private final AtomicBoolean failureLogged = new AtomicBoolean();
+	private volatile WorldManager worldManager;
+
+
+	@Override
+	public Optional<MultiverseWorldRecord> find(final World world)
+	{
+		if (world == null)
+		{
+			return Optional.empty();
+		}
+
+		WorldManager manager = getWorldManager();
+
+		if (manager == null)
+		{
+			return Optional.empty();
+		}
+
+		Option<MultiverseWorld> optionWorld = manager.getWorld(world);
+
+		if (optionWorld.isEmpty())
+		{
+			return Optional.empty();
+		}
+
+		MultiverseWorld multiverseWorld = optionWorld.getOrNull();
+
+		return (multiverseWorld != null)
+				? Optional.of(new Record(multiverseWorld))
+				: Optional.empty();
+	}
+
+
+	/**
+	 * get the Multiverse world manager, acquiring it from the Multiverse-Core api on first use. A failure to
+	 * acquire the api is logged once, and acquisition is retried on the next lookup.
+	 *
+	 * @return the Multiverse world manager, or {@code null} if it is not available
+	 */
+	private WorldManager getWorldManager()
+	{
+		WorldManager result = this.worldManager;
+
+		if (result != null)
+		{
+			return result;
+		}
+
+		try
+		{
+			result = MultiverseCoreApi.get().getWorldManager();
+		}
+		catch (IllegalStateException e)
+		{
+			if (failureLogged.compareAndSet(false, true))
+			{
+				LOGGER.warning("Multiverse-Core threw an exception while trying to get an instance of its api.");
+			}
+			return null;
+		}
+
+		if (result != null)
+		{
+			this.worldManager = result;
+			failureLogged.set(false);
+		}
+
+		return result;
+	}
+
+
+	private record Record(MultiverseWorld world) implements MultiverseWorldRecord
+	{
+		@Override
+		public String alias()
+		{
+			return world.getAliasOrName();
+		}
+
+		@Override
+		public Location spawnLocation()
+		{
+			return world.getSpawnLocation();
+		}
+	}
+
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+
+package com.winterhavenmc.library.worldmanager.multiverse;
+
+import org.bukkit.Location;
+
+
+/**
+ * The values read from a single <strong>Multiverse-Core</strong> world record. Each value is read
+ * from the record when it is requested.
+ */
+public interface MultiverseWorldRecord
+{
+	/**
+	 * Returns the Multiverse alias of the world
+	 *
+	 * @return the world alias, or {@code null} if Multiverse does not provide one
+	 */
+	String alias();
+
+
+	/**
+	 * Returns the Multiverse spawn location of the world
+	 *
+	 * @return the world spawn location, or {@code null} if Multiverse does not provide one
+	 */
+	Location spawnLocation();
+
+}
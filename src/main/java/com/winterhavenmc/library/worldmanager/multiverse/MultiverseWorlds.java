@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+
+package com.winterhavenmc.library.worldmanager.multiverse;
+
+import org.bukkit.World;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginDescriptionFile;
+
+import java.util.Optional;
+
+
+/**
+ * A lookup of the <strong>Multiverse-Core</strong> world record for a {@link World}, shared by the
+ * world name, spawn location and world details retrievers so that the plugin version is selected,
+ * and the Multiverse world manager acquired, in one place.
+ *
+ * @see MultiverseWorldRecord
+ */
+public interface MultiverseWorlds
+{
+	/**
+	 * A lookup that never finds a world, used when Multiverse-Core is missing or its version is not supported
+	 */
+	MultiverseWorlds NONE = world -> Optional.empty();
+
+
+	/**
+	 * Finds the Multiverse world record for a world
+	 *
+	 * @param world the Bukkit world to look up
+	 * @return the Multiverse world record, or an empty {@code Optional} if the world is {@code null},
+	 *         is not managed by Multiverse, or the Multiverse world manager is not available
+	 */
+	Optional<MultiverseWorldRecord> find(World world);
+
+
+	/**
+	 * Selects a lookup for the installed Multiverse-Core version. This is done once, when a resolver
+	 * is created, so that each lookup is a single call to the Multiverse world manager.
+	 *
+	 * @param plugin the Multiverse-Core plugin instance
+	 * @return a lookup for the plugin version, or {@link #NONE} if the version is not supported
+	 */
+	static MultiverseWorlds of(final Plugin plugin)
+	{
+		PluginDescriptionFile description = (plugin != null) ? plugin.getDescription() : null;
+		String version = (description != null) ? description.getVersion() : null;
+
+		if (version == null)
+		{
+			return NONE;
+		}
+		else if (version.startsWith("4.")
+				&& plugin instanceof com.onarandombox.MultiverseCore.MultiverseCore mvPlugin)
+		{
+			return version4(mvPlugin);
+		}
+		else if (version.startsWith("5.")
+				&& plugin instanceof org.mvplugins.multiverse.core.MultiverseCore)
+		{
+			return version5();
+		}
+		else
+		{
+			return NONE;
+		}
+	}
+
+
+	/**
+	 * Creates a lookup backed by the world manager of Multiverse-Core version 4
+	 *
+	 * @param plugin the active Multiverse-Core version 4 plugin instance
+	 * @return a lookup for Multiverse-Core version 4
+	 */
+	static MultiverseWorlds version4(final com.onarandombox.MultiverseCore.MultiverseCore plugin)
+	{
+		return new Multiverse4Worlds(plugin);
+	}
+
+
+	/**
+	 * Creates a lookup backed by the world manager of the Multiverse-Core version 5 api. The world manager
+	 * is acquired on first use and kept for the life of the lookup.
+	 *
+	 * @return a lookup for Multiverse-Core version 5
+	 */
+	static MultiverseWorlds version5()
+	{
+		return new Multiverse5Worlds();
+	}
+
+}
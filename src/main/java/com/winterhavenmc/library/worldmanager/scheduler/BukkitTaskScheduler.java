@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager.scheduler;
+
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.plugin.Plugin;
+
+
+/**
+ * A {@link TaskScheduler} for Bukkit and Paper servers, using the Bukkit scheduler.
+ * <p>
+ * Bukkit worlds are not owned by a region thread, and world lookups have always been made on the
+ * calling thread, so {@link #isOwnedByCurrentThread(World)} returns {@code true} and world tasks run
+ * immediately. Plugins are expected to make lookups from the server thread, as with other Bukkit api calls.
+ */
+public final class BukkitTaskScheduler implements TaskScheduler
+{
+	private final Plugin plugin;
+
+
+	/**
+	 * Class constructor
+	 *
+	 * @param plugin the plugin that owns scheduled tasks
+	 */
+	public BukkitTaskScheduler(final Plugin plugin)
+	{
+		this.plugin = plugin;
+	}
+
+
+	@Override
+	public boolean isOwnedByCurrentThread(final World world)
+	{
+		return true;
+	}
+
+
+	@Override
+	public void runForWorld(final World world, final Runnable task)
+	{
+		task.run();
+	}
+
+
+	@Override
+	public void runGlobal(final Runnable task)
+	{
+		Server server = plugin.getServer();
+
+		if (server.isPrimaryThread())
+		{
+			task.run();
+		}
+		else
+		{
+			server.getScheduler().runTask(plugin, task);
+		}
+	}
+
+
+	@Override
+	public void runAsync(final Runnable task)
+	{
+		plugin.getServer().getScheduler().runTaskAsynchronously(plugin, task);
+	}
+
+}
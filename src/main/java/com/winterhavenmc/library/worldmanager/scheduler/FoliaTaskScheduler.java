@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager.scheduler;
+
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.plugin.Plugin;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.function.Consumer;
+
+
+/**
+ * A {@link TaskScheduler} for Folia servers.
+ * <p>
+ * World spawn locations and the Multiverse world manager are world-level state, owned by the global region
+ * thread, so world tasks are sent to the global region scheduler unless already running on that thread.
+ * Worker tasks use the async scheduler, since the Bukkit scheduler is not available on Folia.
+ * <p>
+ * The Folia schedulers are not part of the Bukkit api this library is compiled against, so they are
+ * looked up by reflection once, when the scheduler is created.
+ */
+public final class FoliaTaskScheduler implements TaskScheduler
+{
+	private static final String REGIONIZED_SERVER_CLASS = "io.papermc.paper.threadedregions.RegionizedServer";
+	private static final String GLOBAL_SCHEDULER_CLASS = "io.papermc.paper.threadedregions.scheduler.GlobalRegionScheduler";
+	private static final String ASYNC_SCHEDULER_CLASS = "io.papermc.paper.threadedregions.scheduler.AsyncScheduler";
+
+	private final Plugin plugin;
+	private final Server server;
+	private final Method isGlobalTickThread;
+	private final Object globalScheduler;
+	private final Method globalExecute;
+	private final Object asyncScheduler;
+	private final Method asyncRunNow;
+
+
+	/**
+	 * Class constructor
+	 *
+	 * @param plugin the plugin that owns scheduled tasks
+	 * @throws ReflectiveOperationException if the Folia schedulers cannot be found
+	 */
+	public FoliaTaskScheduler(final Plugin plugin) throws ReflectiveOperationException
+	{
+		this.plugin = plugin;
+		this.server = plugin.getServer();
+
+		this.isGlobalTickThread = Server.class.getMethod("isGlobalTickThread");
+
+		this.globalScheduler = Server.class.getMethod("getGlobalRegionScheduler").invoke(server);
+		this.globalExecute = Class.forName(GLOBAL_SCHEDULER_CLASS).getMethod("execute", Plugin.class, Runnable.class);
+
+		this.asyncScheduler = Server.class.getMethod("getAsyncScheduler").invoke(server);
+		this.asyncRunNow = Class.forName(ASYNC_SCHEDULER_CLASS).getMethod("runNow", Plugin.class, Consumer.class);
+	}
+
+
+	/**
+	 * Check if the server is running Folia
+	 *
+	 * @return {@code true} if the Folia regionized server class is present
+	 */
+	public static boolean isFolia()
+	{
+		try
+		{
+			Class.forName(REGIONIZED_SERVER_CLASS);
+			return true;
+		}
+		catch (ClassNotFoundException e)
+		{
+			return false;
+		}
+	}
+
+
+	@Override
+	public boolean isOwnedByCurrentThread(final World world)
+	{
+		return (boolean) invoke(isGlobalTickThread, server);
+	}
+
+
+	@Override
+	public void runForWorld(final World world, final Runnable task)
+	{
+		runGlobal(task);
+	}
+
+
+	@Override
+	public void runGlobal(final Runnable task)
+	{
+		if ((boolean) invoke(isGlobalTickThread, server))
+		{
+			task.run();
+		}
+		else
+		{
+			invoke(globalExecute, globalScheduler, plugin, task);
+		}
+	}
+
+
+	@Override
+	public void runAsync(final Runnable task)
+	{
+		Consumer<Object> consumer = scheduledTask -> task.run();
+		invoke(asyncRunNow, asyncScheduler, plugin, consumer);
+	}
+
+
+	private static Object invoke(final Method method, final Object target, final Object... args)
+	{
+		try
+		{
+			return method.invoke(target, args);
+		}
+		catch (InvocationTargetException e)
+		{
+			throw (e.getCause() instanceof RuntimeException runtimeException)
+					? runtimeException
+					: new IllegalStateException(e.getCause());
+		}
+		catch (IllegalAccessException e)
+		{
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
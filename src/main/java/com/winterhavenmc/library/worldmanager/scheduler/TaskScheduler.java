@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager.scheduler;
+
+import org.bukkit.World;
+import org.bukkit.plugin.Plugin;
+
+import java.util.logging.Level;
+
+
+/**
+ * Runs work on the thread that is allowed to read world and Multiverse state.
+ * <p>
+ * On Bukkit and Paper, that is the server thread. On Folia, worlds are ticked by several region threads,
+ * and world-level state such as spawn locations and the Multiverse world manager is owned by the global
+ * region thread, so work must be sent there rather than run on the calling thread.
+ *
+ * @see BukkitTaskScheduler
+ * @see FoliaTaskScheduler
+ */
+public interface TaskScheduler
+{
+	/**
+	 * A scheduler that runs all work immediately on the calling thread, for use in tests and by
+	 * components created without a plugin
+	 */
+	TaskScheduler INLINE = new TaskScheduler()
+	{
+		@Override
+		public boolean isOwnedByCurrentThread(final World world) { return true; }
+
+		@Override
+		public void runForWorld(final World world, final Runnable task) { task.run(); }
+
+		@Override
+		public void runGlobal(final Runnable task) { task.run(); }
+
+		@Override
+		public void runAsync(final Runnable task) { task.run(); }
+	};
+
+
+	/**
+	 * Check if the current thread may read the state of a world, such as its spawn location or Multiverse settings
+	 *
+	 * @param world the world to be read
+	 * @return {@code true} if the world may be read on the current thread
+	 */
+	boolean isOwnedByCurrentThread(World world);
+
+
+	/**
+	 * Run a task on the thread that owns a world. The task is run immediately if the current thread owns the world.
+	 *
+	 * @param world the world read by the task
+	 * @param task the task to run
+	 */
+	void runForWorld(World world, Runnable task);
+
+
+	/**
+	 * Run a task on the server thread, or the global region thread on Folia. The task is run immediately
+	 * if called on that thread.
+	 *
+	 * @param task the task to run
+	 */
+	void runGlobal(Runnable task);
+
+
+	/**
+	 * Run a task on a worker thread
+	 *
+	 * @param task the task to run
+	 */
+	void runAsync(Runnable task);
+
+
+	/**
+	 * Returns a {@link FoliaTaskScheduler} if the server is running Folia, otherwise a {@link BukkitTaskScheduler}
+	 *
+	 * @param plugin the plugin that owns scheduled tasks
+	 * @return a scheduler for the current server
+	 */
+	static TaskScheduler get(final Plugin plugin)
+	{
+		if (FoliaTaskScheduler.isFolia())
+		{
+			try
+			{
+				return new FoliaTaskScheduler(plugin);
+			}
+			catch (ReflectiveOperationException e)
+			{
+				plugin.getLogger().log(Level.WARNING, "Could not access the Folia schedulers; "
+						+ "falling back to the Bukkit scheduler.", e);
+			}
+		}
+
+		return new BukkitTaskScheduler(plugin);
+	}
+
+}
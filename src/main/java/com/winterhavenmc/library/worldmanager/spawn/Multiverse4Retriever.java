@@ -18,6 +18,8 @@
 package com.winterhavenmc.library.worldmanager.spawn;
 
 import com.onarandombox.MultiverseCore.MultiverseCore;
+import com.winterhavenmc.library.worldmanager.multiverse.MultiverseWorldRecord;
+import com.winterhavenmc.library.worldmanager.multiverse.MultiverseWorlds;
 import org.bukkit.Location;
 import org.bukkit.World;
 
@@ -25,26 +27,18 @@ import java.util.Optional;
 
 public class Multiverse4Retriever implements SpawnLocationRetriever
 {
-	private final MultiverseCore plugin;
+	private final MultiverseWorlds worlds;
 
 
 	public Multiverse4Retriever(MultiverseCore plugin)
 	{
-		this.plugin = plugin;
+		this.worlds = MultiverseWorlds.version4(plugin);
 	}
 
 
 	public Optional<Location> getSpawnLocation(final World world)
 	{
-		if (plugin != null
-			&& plugin.getMVWorldManager() != null
-			&& plugin.getMVWorldManager().getMVWorld(world) != null)
-		{
-			return Optional.ofNullable(plugin.getMVWorldManager().getMVWorld(world).getSpawnLocation());
-		}
-		else {
-			return Optional.empty();
-		}
+		return worlds.find(world).map(MultiverseWorldRecord::spawnLocation);
 	}
 
 }
@@ -17,53 +17,23 @@
 
 package com.winterhavenmc.library.worldmanager.spawn;
 
+import com.winterhavenmc.library.worldmanager.multiverse.MultiverseWorldRecord;
+import com.winterhavenmc.library.worldmanager.multiverse.MultiverseWorlds;
 import org.bukkit.Location;
 import org.bukkit.World;
-import org.mvplugins.multiverse.core.MultiverseCoreApi;
-import org.mvplugins.multiverse.core.world.MultiverseWorld;
-import org.mvplugins.multiverse.core.world.WorldManager;
-import org.mvplugins.multiverse.external.vavr.control.Option;
 
 import java.util.Optional;
-import java.util.logging.Logger;
 
 
 public class Multiverse5Retriever implements SpawnLocationRetriever
 {
+	private final MultiverseWorlds worlds = MultiverseWorlds.version5();
+
+
 	@Override
 	public Optional<Location> getSpawnLocation(World world)
 	{
-		MultiverseCoreApi multiverseCoreApi;
-
-		try
-		{
-			multiverseCoreApi = MultiverseCoreApi.get();
-		}
-		catch (IllegalStateException e)
-		{
-			Logger.getLogger(this.getClass().getName()).warning( "Multiverse threw an exception while trying to get an instance of its api.");
-			return Optional.empty();
-		}
-
-		WorldManager worldManager = multiverseCoreApi.getWorldManager();
-
-		if (worldManager == null)
-		{
-			return Optional.empty();
-		}
-
-		Option<MultiverseWorld> optionWorld = worldManager.getWorld(world);
-
-		if (optionWorld.isEmpty())
-		{
-			return Optional.empty();
-		}
-
-		MultiverseWorld multiverseWorld = optionWorld.getOrNull();
-
-		return (multiverseWorld != null)
-				? Optional.ofNullable(multiverseWorld.getSpawnLocation())
-				: Optional.empty();
+		return worlds.find(world).map(MultiverseWorldRecord::spawnLocation);
 	}
 
 }
@@ -17,6 +17,8 @@
 
 package com.winterhavenmc.library.worldmanager.spawn;
 
+import com.winterhavenmc.library.worldmanager.multiverse.MultiverseWorldRecord;
+import com.winterhavenmc.library.worldmanager.multiverse.MultiverseWorlds;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.plugin.Plugin;
@@ -26,12 +28,13 @@ import java.util.Optional;
 
 public final class PluginBasedResolver implements SpawnLocationResolver
 {
-	private final Plugin plugin;
+	private final MultiverseWorlds worlds;
 
 
 	public PluginBasedResolver(final Plugin plugin)
 	{
-		this.plugin = plugin;
+		// select Multiverse lookup once, so that each resolve is a single lookup
+		this.worlds = MultiverseWorlds.of(plugin);
 	}
 
 
@@ -39,24 +42,7 @@ public final class PluginBasedResolver implements SpawnLocationResolver
 	{
 		if (world == null) { return null; }
 
-		Optional<Location> result;
-
-		if (plugin != null
-				&& plugin.getDescription().getVersion().startsWith("4")
-				&& plugin instanceof com.onarandombox.MultiverseCore.MultiverseCore mvPlugin)
-		{
-			result = new Multiverse4Retriever(mvPlugin).getSpawnLocation(world);
-		}
-		else if (plugin != null
-				&& plugin.getDescription().getVersion().startsWith("5")
-				&& plugin instanceof org.mvplugins.multiverse.core.MultiverseCore)
-		{
-			result = new Multiverse5Retriever().getSpawnLocation(world);
-		}
-		else
-		{
-			result = new DefaultRetriever().getSpawnLocation(world);
-		}
+		Optional<Location> result = worlds.find(world).map(MultiverseWorldRecord::spawnLocation);
 
 		return result.orElseGet(world::getSpawnLocation);
 	}
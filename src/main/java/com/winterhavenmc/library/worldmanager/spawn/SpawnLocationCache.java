@@ -0,0 +1,361 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager.spawn;
+
+import com.winterhavenmc.library.worldmanager.metrics.MetricsSink;
+import com.winterhavenmc.library.worldmanager.metrics.Operation;
+import com.winterhavenmc.library.worldmanager.scheduler.TaskScheduler;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * A cache of resolved spawn locations, keyed by world UID.
+ * <p>
+ * Spawn locations are stored as immutable {@link SpawnSnapshot} records, and each call to
+ * {@link #get(World, SpawnLocationResolver)} returns a new {@link Location}, so a caller that
+ * modifies the returned location cannot affect the cached value or other callers.
+ * <p>
+ * Spawn locations are resolved on the thread that owns the world, as given by a {@link TaskScheduler}.
+ * Cached entries are immutable, so they may be read from any thread. A spawn location resolved while an
+ * invalidation or refresh is requested is returned to its caller but not cached, so the invalidation or
+ * refresh always wins over a lookup that started before it.
+ * <p>
+ * Hit and miss counts are recorded for each lookup, and are also reported to a {@link MetricsSink} if one
+ * is set, along with the time taken by the resolver on each miss. This class is safe for use from multiple threads.
+ *
+ * @see SpawnLocationResolver
+ * @see SpawnSnapshot
+ */
+public final class SpawnLocationCache
+{
+	private final Map<UUID, SpawnSnapshot> snapshotMap = new ConcurrentHashMap<>();
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final Set<UUID> pendingRefresh = ConcurrentHashMap.newKeySet();
+
+	// incremented by each invalidation or refresh, so that a spawn resolved before it is not cached after it
+	private final AtomicLong generation = new AtomicLong();
+	private final TaskScheduler scheduler;
+	private volatile MetricsSink metricsSink = MetricsSink.NOOP;
+
+
+	/**
+	 * Class constructor, for a cache that resolves spawn locations on the calling thread
+	 */
+	public SpawnLocationCache()
+	{
+		this(TaskScheduler.INLINE);
+	}
+
+
+	/**
+	 * Class constructor
+	 *
+	 * @param scheduler the scheduler used to resolve spawn locations on the thread that owns each world
+	 */
+	public SpawnLocationCache(final TaskScheduler scheduler)
+	{
+		this.scheduler = scheduler;
+	}
+
+
+	/**
+	 * Set the sink that receives cache hits and misses, and the time taken by the resolver on each miss
+	 *
+	 * @param metricsSink the metrics sink, or {@code null} to stop recording
+	 */
+	public void setMetricsSink(final MetricsSink metricsSink)
+	{
+		this.metricsSink = (metricsSink != null) ? metricsSink : MetricsSink.NOOP;
+	}
+
+
+	/**
+	 * Returns a new location for the cached spawn of a world, resolving and caching it with the given
+	 * resolver if no entry is present.
+	 * <p>
+	 * If no entry is present and the current thread does not own the world, as on a Folia region thread,
+	 * the spawn location is resolved on the owning thread, and the Bukkit world spawn is returned until it
+	 * is cached. Callers that need the resolved spawn location on such a thread should wait for it
+	 * asynchronously instead.
+	 *
+	 * @param world the {@link World} whose spawn location should be returned
+	 * @param resolver the resolver used when the spawn location is not already cached
+	 * @return a new {@link Location} for the world spawn, or {@code null} if the resolver returned {@code null}
+	 */
+	public Location get(final World world, final SpawnLocationResolver resolver)
+	{
+		UUID worldUid = world.getUID();
+
+		SpawnSnapshot snapshot = (worldUid != null) ? snapshotMap.get(worldUid) : null;
+		final MetricsSink sink = this.metricsSink;
+
+		if (snapshot != null)
+		{
+			hitCount.increment();
+			sink.recordCacheAccess(Operation.GET_SPAWN_LOCATION, true);
+			return snapshot.toLocation(world);
+		}
+
+		missCount.increment();
+		sink.recordCacheAccess(Operation.GET_SPAWN_LOCATION, false);
+
+		if (!scheduler.isOwnedByCurrentThread(world))
+		{
+			refresh(world, resolver);
+			return world.getSpawnLocation();
+		}
+
+		snapshot = resolve(world, resolver, generation.get());
+
+		return (snapshot != null)
+				? snapshot.toLocation(world)
+				: null;
+	}
+
+
+	/**
+	 * Resolves the spawn location of a world again on the thread that owns the world, and replaces the cached
+	 * entry when done. Readers on other threads are served the previous entry until it is replaced. A refresh
+	 * requested while one is already pending for the same world is ignored.
+	 *
+	 * @param world the {@link World} whose spawn location should be refreshed
+	 * @param resolver the resolver used to resolve the spawn location
+	 */
+	public void refresh(final World world, final SpawnLocationResolver resolver)
+	{
+		UUID worldUid = world.getUID();
+
+		if (worldUid == null)
+		{
+			return;
+		}
+
+		// a lookup already in progress must not overwrite the refreshed entry
+		generation.incrementAndGet();
+
+		if (!pendingRefresh.add(worldUid))
+		{
+			return;
+		}
+
+		scheduler.runForWorld(world, () ->
+		{
+			// a refresh requested from here on schedules another task, rather than being ignored
+			pendingRefresh.remove(worldUid);
+			final long resolveGeneration = generation.get();
+			if (resolve(world, resolver, resolveGeneration) == null && generation.get() == resolveGeneration)
+			{
+				snapshotMap.remove(worldUid);
+			}
+		});
+	}
+
+
+	/**
+	 * Resolve a spawn location with the resolver and cache it, unless the cache has been invalidated or refreshed
+	 * since the given generation. Must be called on the thread that owns the world.
+	 */
+	private SpawnSnapshot resolve(final World world, final SpawnLocationResolver resolver, final long resolveGeneration)
+	{
+		final MetricsSink sink = this.metricsSink;
+
+		// resolve outside the map so a slow Multiverse lookup does not block other entries
+		final long start = (sink != MetricsSink.NOOP) ? System.nanoTime() : 0L;
+		Location location = resolver.resolve(world);
+		if (sink != MetricsSink.NOOP)
+		{
+			sink.recordLatency(Operation.RESOLVE_SPAWN_LOCATION, System.nanoTime() - start);
+		}
+
+		if (location == null)
+		{
+			return null;
+		}
+
+		SpawnSnapshot snapshot = SpawnSnapshot.of(location);
+		store(world.getUID(), snapshot, resolveGeneration);
+		return snapshot;
+	}
+
+
+	/**
+	 * Cache a snapshot, unless the cache has been invalidated or refreshed since the given generation
+	 */
+	private boolean store(final UUID worldUid, final SpawnSnapshot snapshot, final long expectedGeneration)
+	{
+		if (worldUid == null || generation.get() != expectedGeneration)
+		{
+			return false;
+		}
+
+		snapshotMap.put(worldUid, snapshot);
+
+		// an invalidation or refresh requested during the lookup may have come before the put; undo it
+		if (generation.get() != expectedGeneration)
+		{
+			snapshotMap.remove(worldUid, snapshot);
+			return false;
+		}
+
+		return true;
+	}
+
+
+	/**
+	 * Returns a new location for the cached spawn of a world, without resolving it. Hit and miss counts are not recorded.
+	 *
+	 * @param world the {@link World} whose spawn location should be returned
+	 * @return an {@code Optional} containing a new {@link Location}, or an empty {@code Optional} if not cached
+	 */
+	public Optional<Location> getIfPresent(final World world)
+	{
+		UUID worldUid = (world != null) ? world.getUID() : null;
+		SpawnSnapshot snapshot = (worldUid != null) ? snapshotMap.get(worldUid) : null;
+
+		return (snapshot != null)
+				? Optional.of(snapshot.toLocation(world))
+				: Optional.empty();
+	}
+
+
+	/**
+	 * Returns the current generation of the cache, which is advanced by each invalidation or refresh. A caller
+	 * that resolves a spawn location itself reads the generation before resolving, and passes it to
+	 * {@link #put(UUID, Location, long)}.
+	 *
+	 * @return the current generation
+	 */
+	public long generation()
+	{
+		return generation.get();
+	}
+
+
+	/**
+	 * Stores a spawn location resolved elsewhere, such as together with a world name, replacing any cached
+	 * location, unless the cache has been invalidated or refreshed since the given generation was read.
+	 *
+	 * @param worldUid the unique id of the world
+	 * @param location the resolved spawn location; a {@code null} location is not cached
+	 * @param expectedGeneration the generation read before the spawn location was resolved
+	 * @return {@code true} if the location was cached, {@code false} if it was not
+	 */
+	public boolean put(final UUID worldUid, final Location location, final long expectedGeneration)
+	{
+		return location != null && store(worldUid, SpawnSnapshot.of(location), expectedGeneration);
+	}
+
+
+	/**
+	 * Stores a spawn location resolved elsewhere, such as one read from a file at startup, unless a location
+	 * is already cached for the world.
+	 *
+	 * @param worldUid the unique id of the world
+	 * @param snapshot the spawn location; a {@code null} snapshot is not cached
+	 */
+	public void putIfAbsent(final UUID worldUid, final SpawnSnapshot snapshot)
+	{
+		if (worldUid != null && snapshot != null)
+		{
+			snapshotMap.putIfAbsent(worldUid, snapshot);
+		}
+	}
+
+
+	/**
+	 * Removes the cached spawn location for a single world, so it will be resolved again on next access.
+	 *
+	 * @param worldUid the unique id of the world
+	 */
+	public void invalidate(final UUID worldUid)
+	{
+		if (worldUid != null)
+		{
+			generation.incrementAndGet();
+			snapshotMap.remove(worldUid);
+		}
+	}
+
+
+	/**
+	 * Removes all cached spawn locations.
+	 */
+	public void invalidateAll()
+	{
+		generation.incrementAndGet();
+		snapshotMap.clear();
+	}
+
+
+	/**
+	 * Returns the number of cached spawn locations.
+	 *
+	 * @return the number of entries in the cache
+	 */
+	public int size()
+	{
+		return snapshotMap.size();
+	}
+
+
+	/**
+	 * Returns the number of lookups that were served from the cache.
+	 *
+	 * @return the cache hit count
+	 */
+	public long getHitCount()
+	{
+		return hitCount.sum();
+	}
+
+
+	/**
+	 * Returns the number of lookups that required the spawn location to be resolved.
+	 *
+	 * @return the cache miss count
+	 */
+	public long getMissCount()
+	{
+		return missCount.sum();
+	}
+
+
+	/**
+	 * Returns the fraction of lookups that were served from the cache.
+	 *
+	 * @return the hit ratio between {@code 0.0} and {@code 1.0}, or {@code 0.0} if there have been no lookups
+	 */
+	public double getHitRatio()
+	{
+		long hits = hitCount.sum();
+		long total = hits + missCount.sum();
+
+		return (total == 0) ? 0.0 : (double) hits / total;
+	}
+
+}
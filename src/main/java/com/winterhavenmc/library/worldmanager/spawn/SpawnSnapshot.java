@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager.spawn;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+
+
+/**
+ * An immutable copy of the coordinates and orientation of a spawn location.
+ * <p>
+ * Bukkit {@link Location} objects are mutable, so a cached spawn location is stored as a
+ * snapshot and a new {@code Location} is created for each caller.
+ *
+ * @param x the x coordinate
+ * @param y the y coordinate
+ * @param z the z coordinate
+ * @param yaw the yaw angle
+ * @param pitch the pitch angle
+ */
+public record SpawnSnapshot(double x, double y, double z, float yaw, float pitch)
+{
+	/**
+	 * Create a snapshot from the current values of a location
+	 *
+	 * @param location the location to copy
+	 * @return a new {@code SpawnSnapshot} holding the location's coordinates and orientation
+	 */
+	public static SpawnSnapshot of(final Location location)
+	{
+		return new SpawnSnapshot(location.getX(), location.getY(), location.getZ(), location.getYaw(), location.getPitch());
+	}
+
+
+	/**
+	 * Create a new location in the given world from this snapshot
+	 *
+	 * @param world the world of the new location
+	 * @return a new {@link Location} instance
+	 */
+	public Location toLocation(final World world)
+	{
+		return new Location(world, x, y, z, yaw, pitch);
+	}
+
+}
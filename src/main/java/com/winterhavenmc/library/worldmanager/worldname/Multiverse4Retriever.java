@@ -18,6 +18,8 @@
 package com.winterhavenmc.library.worldmanager.worldname;
 
 import com.onarandombox.MultiverseCore.MultiverseCore;
+import com.winterhavenmc.library.worldmanager.multiverse.MultiverseWorldRecord;
+import com.winterhavenmc.library.worldmanager.multiverse.MultiverseWorlds;
 import org.bukkit.World;
 
 import java.util.Optional;
@@ -43,7 +45,7 @@ import java.util.Optional;
  */
 public class Multiverse4Retriever implements WorldNameRetriever
 {
-	private final MultiverseCore plugin;
+	private final MultiverseWorlds worlds;
 
 
 	/**
@@ -53,7 +55,7 @@ public class Multiverse4Retriever implements WorldNameRetriever
 	 */
 	public Multiverse4Retriever(MultiverseCore plugin)
 	{
-		this.plugin = plugin;
+		this.worlds = MultiverseWorlds.version4(plugin);
 	}
 
 
@@ -70,11 +72,7 @@ public class Multiverse4Retriever implements WorldNameRetriever
 	@Override
 	public Optional<String> getWorldName(World world)
 	{
-		return (world != null
-				&& plugin.getMVWorldManager() != null
-				&& plugin.getMVWorldManager().getMVWorld(world) != null)
-			? Optional.ofNullable(plugin.getMVWorldManager().getMVWorld(world).getAlias())
-			: Optional.empty();
+		return worlds.find(world).map(MultiverseWorldRecord::alias);
 	}
 
 }
@@ -17,15 +17,12 @@
 
 package com.winterhavenmc.library.worldmanager.worldname;
 
+import com.winterhavenmc.library.worldmanager.multiverse.MultiverseWorldRecord;
+import com.winterhavenmc.library.worldmanager.multiverse.MultiverseWorlds;
 import org.bukkit.World;
 import org.mvplugins.multiverse.core.MultiverseCore;
-import org.mvplugins.multiverse.core.MultiverseCoreApi;
-import org.mvplugins.multiverse.core.world.MultiverseWorld;
-import org.mvplugins.multiverse.core.world.WorldManager;
-import org.mvplugins.multiverse.external.vavr.control.Option;
 
 import java.util.Optional;
-import java.util.logging.Logger;
 
 
 /**
@@ -39,6 +36,9 @@ import java.util.logging.Logger;
  * If the world is not managed by Multiverse, or if any part of the plugin's world
  * management system is unavailable, this retriever returns {@code null}.
  * <p>
+ * The Multiverse world manager is acquired by a {@link MultiverseWorlds} lookup on first use and kept
+ * for the life of the retriever, which is replaced whenever Multiverse-Core is enabled or disabled.
+ * <p>
  * Typically used internally by {@link PluginResolver}, and not intended
  * to be used directly unless fine-grained access to Multiverse aliases is needed.
  *
@@ -49,17 +49,16 @@ import java.util.logging.Logger;
  */
 public class Multiverse5Retriever implements WorldNameRetriever
 {
-	private final MultiverseCore plugin;
+	private final MultiverseWorlds worlds = MultiverseWorlds.version5();
 
 
 	/**
-	 * Constructs a {@code Multiverse4Retriever} with the given Multiverse-Core instance.
+	 * Constructs a {@code Multiverse5Retriever} for the given Multiverse-Core instance.
 	 *
 	 * @param plugin the active {@link MultiverseCore} plugin instance
 	 */
 	public Multiverse5Retriever(MultiverseCore plugin)
 	{
-		this.plugin = plugin;
 	}
 
 
@@ -76,37 +75,7 @@ public class Multiverse5Retriever implements WorldNameRetriever
 	@Override
 	public Optional<String> getWorldName(final World world)
 	{
-		MultiverseCoreApi multiverseCoreApi;
-
-		try
-		{
-			multiverseCoreApi = MultiverseCoreApi.get();
-		}
-		catch (IllegalStateException e)
-		{
-			Logger.getLogger(this.getClass().getName()).warning(plugin.getName() + " threw an exception while trying to get an instance of its api.");
-			return Optional.empty();
-		}
-
-		WorldManager worldManager = multiverseCoreApi.getWorldManager();
-
-		if (worldManager == null)
-		{
-			return Optional.empty();
-		}
-
-		Option<MultiverseWorld> optionWorld = worldManager.getWorld(world);
-
-		if (optionWorld.isEmpty())
-		{
-			return Optional.empty();
-		}
-
-		MultiverseWorld multiverseWorld = optionWorld.getOrNull();
-
-		return (multiverseWorld != null)
-				? Optional.of(multiverseWorld.getAliasOrName())
-				: Optional.empty();
+		return worlds.find(world).map(MultiverseWorldRecord::alias);
 	}
 
 }
@@ -17,6 +17,8 @@
 
 package com.winterhavenmc.library.worldmanager.worldname;
 
+import com.winterhavenmc.library.worldmanager.multiverse.MultiverseWorldRecord;
+import com.winterhavenmc.library.worldmanager.multiverse.MultiverseWorlds;
 import org.bukkit.World;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.PluginManager;
@@ -47,24 +49,25 @@ import java.util.Optional;
  */
 public final class PluginResolver implements WorldNameResolver
 {
-	private final Plugin plugin;
+	private final MultiverseWorlds worlds;
 
 
 	/**
 	 * Constructs a {@code MultiverseV4WorldNameResolver} using the given instance
-	 * of {@link org.mvplugins.multiverse.core.MultiverseCore}.
+	 * of {@link org.mvplugins.multiverse.core.MultiverseCore}. The Multiverse lookup for the installed
+	 * plugin version is selected once, here, so that each call to {@link #resolve(World)} is a single lookup.
 	 *
 	 * @param plugin the active Multiverse-Core plugin instance
 	 */
 	public PluginResolver(Plugin plugin)
 	{
-		this.plugin = plugin;
+		this.worlds = MultiverseWorlds.of(plugin);
 	}
 
 
 	/**
-	 * Attempts to retrieve the alias name of the specified world using
-	 * {@link Multiverse4Retriever}. If the alias is null or blank,
+	 * Attempts to retrieve the alias name of the specified world using the
+	 * lookup selected for the Multiverse-Core version. If the alias is null or blank,
 	 * falls back to {@code world.getName()}.
 	 *
 	 * @param world the {@link World} whose alias or name should be returned
@@ -76,24 +79,7 @@ public final class PluginResolver implements WorldNameResolver
 	{
 		if (world == null) { return "NULL"; }
 
-		Optional<String> result;
-
-		if (plugin != null
-				&& plugin.getDescription().getVersion().startsWith("4.")
-				&& plugin instanceof com.onarandombox.MultiverseCore.MultiverseCore mvPlugin)
-		{
-			result = new Multiverse4Retriever(mvPlugin).getWorldName(world);
-		}
-		else if (plugin != null
-				&& plugin.getDescription().getVersion().startsWith("5.")
-				&& plugin instanceof org.mvplugins.multiverse.core.MultiverseCore mvPlugin)
-		{
-			result = new Multiverse5Retriever(mvPlugin).getWorldName(world);
-		}
-		else
-		{
-			result = new DefaultRetriever().getWorldName(world);
-		}
+		Optional<String> result = worlds.find(world).map(MultiverseWorldRecord::alias);
 
 		return (result.isPresent() && !result.get().isBlank())
 				? result.get()
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager.worldname;
+
+import com.winterhavenmc.library.worldmanager.metrics.MetricsSink;
+import com.winterhavenmc.library.worldmanager.metrics.Operation;
+import org.bukkit.World;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * A cache of resolved world names, keyed by world UID.
+ * <p>
+ * World aliases rarely change, so once a name has been resolved by a {@link WorldNameResolver}
+ * it is served from memory until the entry is invalidated. Entries are expected to be invalidated
+ * when a world is loaded or unloaded, when Multiverse reloads its configuration, or when the
+ * resolver itself is replaced. A name resolved while an invalidation is in progress is returned to
+ * its caller but not cached, so an invalidation always wins over a lookup that started before it.
+ * <p>
+ * If a {@link MetricsSink} is set, each lookup is reported as a hit or miss, and each call to the
+ * resolver is timed.
+ * <p>
+ * This class is safe for use from multiple threads.
+ *
+ * @see WorldNameResolver
+ */
+public final class WorldNameCache
+{
+	private final Map<UUID, String> nameMap = new ConcurrentHashMap<>();
+
+	// incremented by each invalidation, so that a name resolved before it is not cached after it
+	private final AtomicLong generation = new AtomicLong();
+	private volatile MetricsSink metricsSink = MetricsSink.NOOP;
+
+
+	/**
+	 * Set the sink that receives cache hits and misses, and the time taken by the resolver on each miss
+	 *
+	 * @param metricsSink the metrics sink, or {@code null} to stop recording
+	 */
+	public void setMetricsSink(final MetricsSink metricsSink)
+	{
+		this.metricsSink = (metricsSink != null) ? metricsSink : MetricsSink.NOOP;
+	}
+
+
+	/**
+	 * Returns the cached name for a world, resolving and caching it with the given
+	 * resolver if no entry is present.
+	 *
+	 * @param world the {@link World} whose name should be returned
+	 * @param resolver the resolver used when the name is not already cached
+	 * @return the cached or newly resolved name, or {@code null} if the resolver returned {@code null}
+	 */
+	public String get(final World world, final WorldNameResolver resolver)
+	{
+		UUID worldUid = world.getUID();
+
+		// a world without a uid cannot be cached, so it falls through to the resolver
+		String name = (worldUid != null) ? nameMap.get(worldUid) : null;
+		final MetricsSink sink = this.metricsSink;
+
+		sink.recordCacheAccess(Operation.GET_WORLD_NAME, name != null);
+
+		if (name == null)
+		{
+			final long resolveGeneration = generation.get();
+
+			// resolve outside the map so a slow Multiverse lookup does not block other entries
+			final long start = (sink != MetricsSink.NOOP) ? System.nanoTime() : 0L;
+			name = resolver.resolve(world);
+			if (sink != MetricsSink.NOOP)
+			{
+				sink.recordLatency(Operation.RESOLVE_WORLD_NAME, System.nanoTime() - start);
+			}
+
+			put(worldUid, name, resolveGeneration);
+		}
+
+		return name;
+	}
+
+
+	/**
+	 * Returns the cached name for a world UID, without resolving it.
+	 *
+	 * @param worldUid the unique id of the world
+	 * @return an {@code Optional} containing the cached name, or an empty {@code Optional} if not cached
+	 */
+	public Optional<String> getIfPresent(final UUID worldUid)
+	{
+		return (worldUid != null)
+				? Optional.ofNullable(nameMap.get(worldUid))
+				: Optional.empty();
+	}
+
+
+	/**
+	 * Returns the current generation of the cache, which is advanced by each invalidation. A caller that
+	 * resolves a name itself reads the generation before resolving, and passes it to
+	 * {@link #put(UUID, String, long)}.
+	 *
+	 * @return the current generation
+	 */
+	public long generation()
+	{
+		return generation.get();
+	}
+
+
+	/**
+	 * Stores a name resolved elsewhere, such as together with a spawn location, replacing any cached name,
+	 * unless the cache has been invalidated since the given generation was read.
+	 *
+	 * @param worldUid the unique id of the world
+	 * @param name the resolved name; a {@code null} name is not cached
+	 * @param expectedGeneration the generation read before the name was resolved
+	 * @return {@code true} if the name was cached, {@code false} if it was not
+	 */
+	public boolean put(final UUID worldUid, final String name, final long expectedGeneration)
+	{
+		if (worldUid == null || name == null || generation.get() != expectedGeneration)
+		{
+			return false;
+		}
+
+		nameMap.put(worldUid, name);
+
+		// an invalidation that ran during the lookup may have come before the put; undo it
+		if (generation.get() != expectedGeneration)
+		{
+			nameMap.remove(worldUid, name);
+			return false;
+		}
+
+		return true;
+	}
+
+
+	/**
+	 * Stores a world name resolved elsewhere, such as one read from a file at startup, unless a name
+	 * is already cached for the world.
+	 *
+	 * @param worldUid the unique id of the world
+	 * @param name the world name; a {@code null} name is not cached
+	 */
+	public void putIfAbsent(final UUID worldUid, final String name)
+	{
+		if (worldUid != null && name != null)
+		{
+			nameMap.putIfAbsent(worldUid, name);
+		}
+	}
+
+
+	/**
+	 * Removes the cached name for a single world, so it will be resolved again on next access.
+	 *
+	 * @param worldUid the unique id of the world
+	 */
+	public void invalidate(final UUID worldUid)
+	{
+		if (worldUid != null)
+		{
+			generation.incrementAndGet();
+			nameMap.remove(worldUid);
+		}
+	}
+
+
+	/**
+	 * Removes all cached names.
+	 */
+	public void invalidateAll()
+	{
+		generation.incrementAndGet();
+		nameMap.clear();
+	}
+
+
+	/**
+	 * Returns the number of cached names.
+	 *
+	 * @return the number of entries in the cache
+	 */
+	public int size()
+	{
+		return nameMap.size();
+	}
+
+}
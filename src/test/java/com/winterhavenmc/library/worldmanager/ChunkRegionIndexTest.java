@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class ChunkRegionIndexTest
+{
+	@Test
+	void of_empty_lists_returns_empty_index()
+	{
+		// Arrange & Act
+		ChunkRegionIndex index = ChunkRegionIndex.of(List.of(), List.of());
+
+		// Assert
+		assertSame(ChunkRegionIndex.EMPTY, index);
+		assertTrue(index.isEnabled(0, 0));
+		assertTrue(index.isEnabled(Integer.MIN_VALUE, Integer.MAX_VALUE));
+	}
+
+
+	@Test
+	void disabled_regions_are_inclusive()
+	{
+		// Arrange
+		ChunkRegionIndex index = ChunkRegionIndex.of(List.of(), List.of(new int[] { -2, -2, 2, 2 }));
+
+		// Assert
+		assertFalse(index.isEnabled(-2, -2));
+		assertFalse(index.isEnabled(2, 2));
+		assertFalse(index.isEnabled(0, 0));
+		assertTrue(index.isEnabled(3, 0));
+		assertTrue(index.isEnabled(0, -3));
+	}
+
+
+	@Test
+	void enabled_regions_limit_the_world_and_disabled_regions_override()
+	{
+		// Arrange
+		ChunkRegionIndex index = ChunkRegionIndex.of(
+				List.of(new int[] { 0, 0, 9, 9 }),
+				List.of(new int[] { 4, 4, 5, 5 }));
+
+		// Assert
+		assertTrue(index.isEnabled(0, 0));
+		assertTrue(index.isEnabled(9, 9));
+		assertFalse(index.isEnabled(10, 0));
+		assertFalse(index.isEnabled(-1, 5));
+		assertFalse(index.isEnabled(4, 5));
+		assertEquals(2, index.size());
+	}
+
+
+	@Test
+	void matches_brute_force_for_many_regions()
+	{
+		// Arrange
+		Random random = new Random(42);
+		List<int[]> disabled = new ArrayList<>();
+		for (int i = 0; i < 50; i++)
+		{
+			int x = random.nextInt(200) - 100;
+			int z = random.nextInt(200) - 100;
+			disabled.add(new int[] { x, z, x + random.nextInt(10), z + random.nextInt(10) });
+		}
+		ChunkRegionIndex index = ChunkRegionIndex.of(List.of(), disabled);
+
+		// Act & Assert
+		for (int x = -110; x <= 110; x++)
+		{
+			for (int z = -110; z <= 110; z++)
+			{
+				boolean expected = true;
+				for (int[] region : disabled)
+				{
+					if (x >= region[0] && x <= region[2] && z >= region[1] && z <= region[3])
+					{
+						expected = false;
+						break;
+					}
+				}
+				assertEquals(expected, index.isEnabled(x, z), "chunk " + x + "," + z);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager;
+
+import org.bukkit.World;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+
+class FeatureRulesTest
+{
+	private static final Logger LOGGER = Logger.getLogger(FeatureRulesTest.class.getName());
+
+
+	@Test
+	void mask_sets_bit_of_each_enabled_feature()
+	{
+		// Arrange
+		FeatureRules featureRules = new FeatureRules(new WorldRules[] {
+				new WorldRules(List.of(), List.of(), LOGGER),
+				new WorldRules(List.of(), List.of("nether"), LOGGER),
+				new WorldRules(List.of("nether"), List.of(), LOGGER)
+		});
+
+		// Act & Assert
+		assertEquals(0b011L, featureRules.mask(new UUID(1, 0), "world"));
+		assertEquals(0b101L, featureRules.mask(new UUID(1, 1), "nether"));
+	}
+
+
+	@Test
+	void mask_by_world_matches_mask_by_uid_and_name()
+	{
+		// Arrange
+		World world = mock(World.class);
+		when(world.getUID()).thenReturn(new UUID(1, 2));
+		when(world.getName()).thenReturn("the_end");
+
+		FeatureRules featureRules = new FeatureRules(new WorldRules[] {
+				new WorldRules(List.of("the_*"), List.of(), LOGGER),
+				new WorldRules(List.of(), List.of("the_end"), LOGGER)
+		});
+
+		// Act & Assert
+		assertEquals(0b01L, featureRules.mask(world));
+		assertEquals(0b01L, featureRules.mask(new UUID(1, 2), "the_end"));
+	}
+
+
+	@Test
+	void mask_highest_bit()
+	{
+		// Arrange
+		WorldRules[] rulesByBit = new WorldRules[Feature.MAX_FEATURES];
+		for (int bit = 0; bit < rulesByBit.length; bit++)
+		{
+			rulesByBit[bit] = new WorldRules(List.of(), List.of("world"), LOGGER);
+		}
+		rulesByBit[Feature.MAX_FEATURES - 1] = WorldRules.ALL_ENABLED;
+
+		// Act & Assert
+		assertEquals(Long.MIN_VALUE, new FeatureRules(rulesByBit).mask(new UUID(1, 0), "world"));
+	}
+
+
+	@Test
+	void none_has_empty_mask()
+	{
+		assertEquals(0L, FeatureRules.NONE.mask(new UUID(1, 0), "world"));
+	}
+
+}
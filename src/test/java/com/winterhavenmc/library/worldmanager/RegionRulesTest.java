@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class RegionRulesTest
+{
+	private static final Logger LOGGER = Logger.getLogger(RegionRulesTest.class.getName());
+
+
+	@Test
+	void compile_empty_lists_returns_empty_rules()
+	{
+		// Act
+		RegionRules rules = RegionRules.compile(List.of(), List.of(), LOGGER);
+
+		// Assert
+		assertSame(RegionRules.EMPTY, rules);
+		assertTrue(rules.isEmpty());
+		assertNull(rules.get("world"));
+	}
+
+
+	@Test
+	void compile_parses_ranges_and_single_chunks()
+	{
+		// Act
+		RegionRules rules = RegionRules.compile(List.of(), List.of("hub 3,3 -4,-4", "hub 12,7"), LOGGER);
+		ChunkRegionIndex index = rules.get("hub");
+
+		// Assert
+		assertNotNull(index);
+		assertEquals(2, index.size());
+		assertFalse(index.isEnabled(-4, -4));
+		assertFalse(index.isEnabled(3, 3));
+		assertFalse(index.isEnabled(12, 7));
+		assertTrue(index.isEnabled(12, 8));
+	}
+
+
+	@Test
+	void world_names_ignore_case()
+	{
+		// Act
+		RegionRules rules = RegionRules.compile(List.of("Arena 0,0 1,1"), List.of(), LOGGER);
+
+		// Assert
+		assertNotNull(rules.get("arena"));
+		assertNotNull(rules.get("ARENA"));
+		assertNull(rules.get("hub"));
+		assertNull(rules.get(null));
+	}
+
+
+	@Test
+	void invalid_entries_are_skipped()
+	{
+		// Act
+		RegionRules rules = RegionRules.compile(List.of(),
+				List.of("hub", "hub a,b", "hub 1,2 3", "hub 99999999999,0", "hub 0,0"), LOGGER);
+
+		// Assert
+		assertEquals(1, rules.get("hub").size());
+	}
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class RegistryDiffTest
+{
+	private final static UUID WORLD_0_UUID = new UUID(1, 0);
+	private final static UUID WORLD_1_UUID = new UUID(1, 1);
+	private final static UUID WORLD_2_UUID = new UUID(1, 2);
+
+
+	private static RegistrySnapshot snapshot(final Map<UUID, String> worlds, final long version)
+	{
+		return new RegistrySnapshot(worlds, new long[0], new long[0], WorldSlotTable.EMPTY, version);
+	}
+
+
+	@Test
+	void between_sorts_worlds_into_added_removed_and_unchanged()
+	{
+		// Arrange
+		RegistrySnapshot previous = snapshot(Map.of(WORLD_0_UUID, "world", WORLD_1_UUID, "nether"), 4);
+		RegistrySnapshot next = snapshot(Map.of(WORLD_0_UUID, "world", WORLD_2_UUID, "the_end"), 5);
+
+		// Act
+		RegistryDiff diff = RegistryDiff.between(previous, next);
+
+		// Assert
+		assertEquals(4, diff.previousVersion());
+		assertEquals(5, diff.version());
+		assertEquals(Set.of(WORLD_2_UUID), diff.added());
+		assertEquals(Set.of(WORLD_1_UUID), diff.removed());
+		assertEquals(Set.of(WORLD_0_UUID), diff.unchanged());
+		assertFalse(diff.isEmpty());
+		assertTrue(diff.isAffected(WORLD_1_UUID));
+		assertTrue(diff.isAffected(WORLD_2_UUID));
+		assertFalse(diff.isAffected(WORLD_0_UUID));
+		assertFalse(diff.isAffected(null));
+	}
+
+
+	@Test
+	void between_equal_snapshots_is_empty()
+	{
+		// Arrange
+		RegistrySnapshot previous = snapshot(Map.of(WORLD_0_UUID, "world", WORLD_1_UUID, "nether"), 1);
+		RegistrySnapshot next = snapshot(Map.of(WORLD_0_UUID, "world", WORLD_1_UUID, "nether"), 2);
+
+		// Act
+		RegistryDiff diff = RegistryDiff.between(previous, next);
+
+		// Assert
+		assertTrue(diff.isEmpty());
+		assertEquals(Set.of(WORLD_0_UUID, WORLD_1_UUID), diff.unchanged());
+	}
+
+
+	@Test
+	void between_empty_and_populated_snapshot_adds_all_worlds()
+	{
+		// Arrange
+		RegistrySnapshot next = snapshot(Map.of(WORLD_0_UUID, "world", WORLD_1_UUID, "nether"), 1);
+
+		// Act
+		RegistryDiff diff = RegistryDiff.between(RegistrySnapshot.EMPTY, next);
+
+		// Assert
+		assertEquals(Set.of(WORLD_0_UUID, WORLD_1_UUID), diff.added());
+		assertTrue(diff.removed().isEmpty());
+		assertTrue(diff.unchanged().isEmpty());
+	}
+
+
+	@Test
+	void sets_are_unmodifiable()
+	{
+		// Arrange
+		RegistryDiff diff = RegistryDiff.between(RegistrySnapshot.EMPTY, snapshot(Map.of(WORLD_0_UUID, "world"), 1));
+
+		// Act & Assert
+		assertThrows(UnsupportedOperationException.class, () -> diff.added().add(WORLD_1_UUID));
+	}
+
+}
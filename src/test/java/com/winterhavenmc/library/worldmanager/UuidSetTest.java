@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class UuidSetTest
+{
+	@Test
+	void of_empty_collection_returns_empty_set()
+	{
+		// Arrange & Act
+		UuidSet uuidSet = UuidSet.of(List.of());
+
+		// Assert
+		assertSame(UuidSet.EMPTY, uuidSet);
+		assertEquals(0, uuidSet.size());
+		assertFalse(uuidSet.contains(new UUID(1, 1)));
+		assertFalse(uuidSet.contains(0L, 0L));
+	}
+
+
+	@ParameterizedTest
+	@ValueSource(ints = { 1, 2, 3, 10, 100, 1000 })
+	void contains_all_added_and_no_others(final int count)
+	{
+		// Arrange
+		Random random = new Random(count);
+		Set<UUID> added = new HashSet<>();
+		while (added.size() < count)
+		{
+			added.add(new UUID(random.nextLong(), random.nextLong()));
+		}
+
+		// Act
+		UuidSet uuidSet = UuidSet.of(added);
+
+		// Assert
+		assertEquals(count, uuidSet.size());
+		for (UUID uuid : added)
+		{
+			assertTrue(uuidSet.contains(uuid));
+			assertTrue(uuidSet.contains(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits()));
+		}
+		for (int i = 0; i < 1000; i++)
+		{
+			UUID other = new UUID(random.nextLong(), random.nextLong());
+			assertEquals(added.contains(other), uuidSet.contains(other));
+		}
+	}
+
+
+	@Test
+	void contains_sequential_uuids()
+	{
+		// Arrange
+		List<UUID> added = new ArrayList<>();
+		for (int i = 0; i < 100; i++)
+		{
+			added.add(new UUID(1, i));
+		}
+
+		// Act
+		UuidSet uuidSet = UuidSet.of(added);
+
+		// Assert
+		assertEquals(100, uuidSet.size());
+		assertTrue(uuidSet.contains(new UUID(1, 99)));
+		assertFalse(uuidSet.contains(new UUID(1, 100)));
+		assertFalse(uuidSet.contains(new UUID(2, 0)));
+	}
+
+
+	@Test
+	void contains_nil_uuid_only_when_added()
+	{
+		// Arrange
+		UUID nil = new UUID(0, 0);
+
+		// Act
+		UuidSet withNil = UuidSet.of(List.of(nil, new UUID(1, 1)));
+		UuidSet withoutNil = UuidSet.of(List.of(new UUID(1, 1)));
+
+		// Assert
+		assertTrue(withNil.contains(nil));
+		assertEquals(2, withNil.size());
+		assertFalse(withoutNil.contains(nil));
+	}
+
+
+	@Test
+	void of_ignores_duplicates_and_nulls()
+	{
+		// Arrange
+		List<UUID> uuids = Arrays.asList(new UUID(1, 1), null, new UUID(1, 1), new UUID(0, 0), new UUID(0, 0));
+
+		// Act
+		UuidSet uuidSet = UuidSet.of(uuids);
+
+		// Assert
+		assertEquals(2, uuidSet.size());
+	}
+
+
+	@Test
+	void contains_null_returns_false()
+	{
+		// Arrange
+		UuidSet uuidSet = UuidSet.of(List.of(new UUID(1, 1)));
+
+		// Act & Assert
+		assertFalse(uuidSet.contains(null));
+	}
+
+}
@@ -17,19 +17,46 @@
 
 package com.winterhavenmc.library.worldmanager;
 
+import com.winterhavenmc.library.worldmanager.event.WorldDisabledEvent;
+import com.winterhavenmc.library.worldmanager.event.WorldEnabledEvent;
+import com.winterhavenmc.library.worldmanager.metrics.InMemoryMetricsSink;
+import com.winterhavenmc.library.worldmanager.metrics.Operation;
+import com.winterhavenmc.library.worldmanager.spawn.SpawnSnapshot;
 import org.bukkit.Location;
 import org.bukkit.Server;
 import org.bukkit.World;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.entity.Player;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.event.server.PluginEnableEvent;
+import org.bukkit.event.server.ServerLoadEvent;
+import org.bukkit.event.server.ServiceUnregisterEvent;
+import org.bukkit.event.world.SpawnChangeEvent;
+import org.bukkit.event.world.WorldLoadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.PluginManager;
+import org.bukkit.plugin.RegisteredServiceProvider;
+import org.bukkit.plugin.ServicesManager;
+import org.bukkit.scheduler.BukkitScheduler;
 
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Logger;
 
 import static com.winterhavenmc.library.worldmanager.WorldManager.UNKNOWN_WORLD;
@@ -48,6 +75,7 @@ public class WorldManagerTests
 	private final Player mockPlayer = mock(Player.class);
 	private final static UUID mockPlayerUUID = new UUID(0,1);
 	private final PluginManager mockPluginManager = mock(PluginManager.class);
+	private final ServicesManager mockServicesManager = mock(ServicesManager.class);
 	private final FileConfiguration mockConfiguration = mock(FileConfiguration.class);
 
 	private final static UUID mockWorld0UUID = new UUID(1,0);
@@ -118,6 +146,31 @@ public class WorldManagerTests
 		}
 
 
+		@Test
+		@DisplayName("enabled world names collection is unmodifiable.")
+		void getEnabledWorldNamesTest_unmodifiable()
+		{
+			assertThrows(UnsupportedOperationException.class, () -> worldManager.getEnabledWorldNames().add("world2"));
+		}
+
+
+		@Test
+		@DisplayName("enabled world names collection is not recomputed between registry changes.")
+		void getEnabledWorldNamesTest_same_instance_until_reload()
+		{
+			Collection<String> first = worldManager.getEnabledWorldNames();
+			long version = worldManager.getRegistryVersion();
+
+			assertSame(first, worldManager.getEnabledWorldNames());
+			assertEquals(version, worldManager.getRegistryVersion());
+
+			worldManager.reload();
+
+			assertNotSame(first, worldManager.getEnabledWorldNames());
+			assertTrue(worldManager.getRegistryVersion() > version, "registry version did not increase after reload.");
+		}
+
+
 		@Test
 		@DisplayName("test world name 'world' is in the enabled worlds registry.")
 		void getEnabledWorldNamesTest_list_contains_null_world()
@@ -203,7 +256,7 @@ public class WorldManagerTests
 						"a world not in the config enabled-worlds list is enabled.");
 				assertFalse(worldManager.isEnabled(mockWorld[2]),
 						"a world not in the config enabled-worlds list is enabled.");
-				verify(mockConfiguration, atLeast(3)).getStringList(ENABLED_WORLDS_CONFIG_KEY);
+				verify(mockConfiguration, atLeast(2)).getStringList(ENABLED_WORLDS_CONFIG_KEY);
 			}
 
 
@@ -225,6 +278,16 @@ public class WorldManagerTests
 			}
 
 
+			@Test
+			void isEnabledTest_by_uid_bits()
+			{
+				assertTrue(worldManager.isEnabled(mockWorld0UUID.getMostSignificantBits(),
+						mockWorld0UUID.getLeastSignificantBits()));
+				assertFalse(worldManager.isEnabled(mockPlayerUUID.getMostSignificantBits(),
+						mockPlayerUUID.getLeastSignificantBits()));
+			}
+
+
 			@SuppressWarnings("ConstantValue")
 			@Test
 			void isEnabledTest_by_uid_null()
@@ -263,6 +326,40 @@ public class WorldManagerTests
 		{
 			assertFalse(worldManager.isEnabled("nonexistent"));
 		}
+
+
+		@Test
+		@DisplayName("world name lookup ignores case, like Server.getWorld(String)")
+		void isEnabledTest_by_name_ignore_case()
+		{
+			assertTrue(worldManager.isEnabled("WORLD"));
+		}
+
+
+		@Test
+		@DisplayName("world name lookup does not query the server")
+		void isEnabledTest_by_name_uses_index()
+		{
+			clearInvocations(mockServer);
+
+			assertTrue(worldManager.isEnabled("nether"));
+
+			verify(mockServer, never()).getWorld(anyString());
+		}
+
+
+		@Test
+		@DisplayName("world name index is updated when a world is unloaded")
+		void isEnabledTest_by_name_after_unload()
+		{
+			WorldUnloadEvent event = mock(WorldUnloadEvent.class);
+			when(event.getWorld()).thenReturn(mockWorld[2]);
+
+			new WorldEventListener(worldManager.getRegistryService()).onWorldUnload(event);
+
+			assertFalse(worldManager.isEnabled("the_end"));
+			assertEquals(UNKNOWN_WORLD, worldManager.getAliasOrName("the_end"));
+		}
 	}
 
 
@@ -281,94 +378,1816 @@ public class WorldManagerTests
 		{
 			assertNull(worldManager.getSpawnLocation(null));
 		}
+
+
+		@Test
+		@DisplayName("spawn location is resolved once and a new location is returned for each call")
+		void getSpawnLocationTest_cached_copy()
+		{
+			Location first = worldManager.getSpawnLocation(mockWorld[1]);
+			first.setY(64.0);
+			Location second = worldManager.getSpawnLocation(mockWorld[1]);
+
+			assertNotSame(first, second);
+			assertEquals(0.0, second.getY());
+			assertEquals(1, worldManager.getSpawnCacheMissCount());
+			assertEquals(1, worldManager.getSpawnCacheHitCount());
+		}
+
+
+		@Test
+		@DisplayName("spawn location is resolved again after spawn change event")
+		void getSpawnLocationTest_refreshed_on_spawn_change()
+		{
+			worldManager.getSpawnLocation(mockWorld[2]);
+			when(mockWorld[2].getSpawnLocation()).thenReturn(new Location(mockWorld[2], 10.0, 70.0, 10.0));
+			SpawnChangeEvent event = mock(SpawnChangeEvent.class);
+			when(event.getWorld()).thenReturn(mockWorld[2]);
+
+			new WorldEventListener(worldManager.getRegistryService()).onSpawnChange(event);
+
+			assertEquals(70.0, worldManager.getSpawnLocation(mockWorld[2]).getY());
+		}
 	}
 
 
 	@Nested
-	class reloadTests
+	class WorldNameCacheTests
 	{
 		@Test
-		@DisplayName("when config enabled-worlds is empty list")
-		void reloadTest_default()
+		@DisplayName("world name is served from cache until invalidated")
+		void getWorldName_is_cached_until_invalidated()
 		{
-			//TODO: FIX THIS! it appears to be a bug in the isEnabled(String name) method
-			// fixed for now by using isEnabled(UUID worldUid) method instead
-			worldManager.reload();
-			assertTrue(worldManager.isEnabled(mockWorld0UUID));
-			assertTrue(worldManager.isEnabled(mockWorld1UUID));
-			assertTrue(worldManager.isEnabled(mockWorld2UUID));
-			assertEquals(3, worldManager.size(), "there should be 3 worlds in the registry.");
-			verify(mockConfiguration, atLeastOnce()).getStringList(ENABLED_WORLDS_CONFIG_KEY);
+			assertEquals("world", worldManager.getWorldName(mockWorld[0]));
+			when(mockWorld[0].getName()).thenReturn("renamed");
+
+			assertEquals("world", worldManager.getWorldName(mockWorld[0]));
+
+			worldManager.invalidate(mockWorld0UUID);
+			assertEquals("renamed", worldManager.getWorldName(mockWorld[0]));
 		}
 
 
 		@Test
-		@DisplayName("that registry is not null after reload")
-		void reloadTest_not_null()
+		@DisplayName("world name by string is served from cache without looking up world")
+		void getAliasOrName_by_string_is_cached()
 		{
-			worldManager.reload();
-			assertNotNull(worldManager, "world manager registry is null after reload.");
+			assertEquals("world", worldManager.getAliasOrName("world"));
+			clearInvocations(mockServer);
+
+			assertEquals("world", worldManager.getAliasOrName("world"));
+
+			verify(mockServer, never()).getWorld(any(UUID.class));
+			verify(mockServer, never()).getWorld(anyString());
 		}
 
 
 		@Test
-		@DisplayName("that registry is not empty after reload")
-		void reloadTest_not_empty()
+		@DisplayName("world name is resolved again after world is loaded")
+		void getWorldName_is_refreshed_on_world_load()
 		{
-			worldManager.reload();
-			assertNotNull(worldManager, "world manager registry is empty after reload.");
+			assertEquals("world", worldManager.getWorldName(mockWorld[0]));
+			when(mockWorld[0].getName()).thenReturn("renamed");
+			WorldLoadEvent event = mock(WorldLoadEvent.class);
+			when(event.getWorld()).thenReturn(mockWorld[0]);
+
+			new WorldEventListener(worldManager.getRegistryService()).onWorldLoad(event);
+
+			assertEquals("renamed", worldManager.getWorldName(mockWorld[0]));
 		}
 
 
 		@Test
-		@DisplayName("when config disabled-worlds list contains valid world name")
-		void reloadTest_disabled_worlds_config_contains_valid_world()
+		@DisplayName("invalidate with null uid does not throw")
+		void invalidate_null_uid()
 		{
-			when(mockConfiguration.getStringList(DISABLED_WORLDS_CONFIG_KEY)).thenReturn(List.of("nether", "nonexistent_world"));
-			worldManager.reload();
-			assertTrue(worldManager.isEnabled("world"));
-			assertFalse(worldManager.isEnabled("nether"));
-			assertTrue(worldManager.isEnabled("the_end"));
-			verify(mockConfiguration, atLeastOnce()).getStringList(DISABLED_WORLDS_CONFIG_KEY);
+			assertDoesNotThrow(() -> worldManager.invalidate(null));
 		}
+	}
 
 
+	@Nested
+	class DescribeTests
+	{
 		@Test
-		@DisplayName("when config disabled-worlds list contains valid world name")
-		void reloadTest_disabled_worlds_config_contains_valid_world2()
+		@DisplayName("describe returns enabled state, name and spawn location")
+		void describe_returns_world_description()
 		{
-			when(mockConfiguration.getStringList(ENABLED_WORLDS_CONFIG_KEY)).thenReturn(List.of("world", "nether", "the_end"));
-			when(mockConfiguration.getStringList(DISABLED_WORLDS_CONFIG_KEY)).thenReturn(List.of("nether", "nonexistent_world"));
-			worldManager.reload();
-			assertTrue(worldManager.isEnabled("world"));
-			assertFalse(worldManager.isEnabled("nether"));
-			assertTrue(worldManager.isEnabled("the_end"));
-			verify(mockConfiguration, atLeastOnce()).getStringList(ENABLED_WORLDS_CONFIG_KEY);
-			verify(mockConfiguration, atLeastOnce()).getStringList(DISABLED_WORLDS_CONFIG_KEY);
+			// Act
+			WorldDescription result = worldManager.describe(mockWorld[0]);
+
+			// Assert
+			assertEquals(mockWorld0UUID, result.worldUid());
+			assertTrue(result.enabled());
+			assertEquals("world", result.name());
+			assertEquals(0.0, result.spawnLocation().getY());
 		}
 
 
 		@Test
-		@DisplayName("when server has no worlds")
-		void reloadTest_no_server_worlds()
+		void describe_null_world()
 		{
-			when(mockServer.getWorlds()).thenReturn(Collections.emptyList());
-			worldManager.reload();
-			assertTrue(worldManager.getEnabledWorldNames().isEmpty(), "the world manager registry is not empty after reload when server has no worlds.");
-			verify(mockServer, atLeastOnce()).getWorlds();
+			assertNull(worldManager.describe(null));
 		}
 
 
 		@Test
-		@DisplayName("when config enabled-worlds list contains valid world name")
-		void reloadTest_enabled_worlds_populated()
+		@DisplayName("describe fills the name and spawn caches, and is then served from them")
+		void describe_fills_caches()
 		{
-			when(mockConfiguration.getStringList(ENABLED_WORLDS_CONFIG_KEY)).thenReturn(List.of("world", "nonexistent_world_name"));
-			worldManager.reload();
-			assertTrue(worldManager.isEnabled("world"), "world 'world' is not enabled.");
-			assertFalse(worldManager.getEnabledWorldNames().isEmpty(), "the enabled worlds list is empty.");
-			assertEquals(1, worldManager.getEnabledWorldNames().size(), "there should be only one enabled world.");
-			verify(mockConfiguration, atLeastOnce()).getStringList(ENABLED_WORLDS_CONFIG_KEY);
+			// Arrange
+			worldManager.describe(mockWorld[1]);
+			clearInvocations(mockWorld[1]);
+
+			// Act
+			WorldDescription result = worldManager.describe(mockWorld[1]);
+			String name = worldManager.getWorldName(mockWorld[1]);
+			Location spawn = worldManager.getSpawnLocation(mockWorld[1]);
+
+			// Assert
+			assertEquals("nether", result.name());
+			assertEquals("nether", name);
+			assertNotNull(spawn);
+			assertEquals(0, worldManager.getSpawnCacheMissCount());
+
+			// Verify
+			verify(mockWorld[1], never()).getName();
+			verify(mockWorld[1], never()).getSpawnLocation();
+		}
+
+
+		@Test
+		@DisplayName("describe does not cache details resolved while the world is invalidated")
+		void describe_does_not_cache_details_resolved_during_invalidation()
+		{
+			// Arrange
+			when(mockWorld[1].getSpawnLocation()).thenAnswer(invocation ->
+			{
+				worldManager.invalidate(mockWorld1UUID);
+				return new Location(mockWorld[1], 0.0, 0.0, 0.0);
+			});
+
+			// Act
+			WorldDescription result = worldManager.describe(mockWorld[1]);
+
+			// Assert
+			assertEquals("nether", result.name());
+			assertTrue(worldManager.getRegistryService().worldNameCache().getIfPresent(mockWorld1UUID).isEmpty());
+			assertTrue(worldManager.getRegistryService().spawnLocationCache().getIfPresent(mockWorld[1]).isEmpty());
+
+			when(mockWorld[1].getSpawnLocation()).thenReturn(new Location(mockWorld[1], 0.0, 0.0, 0.0));
+		}
+
+
+		@Test
+		@DisplayName("spawn location of a world description cannot be modified by callers")
+		void describe_spawn_location_is_copied()
+		{
+			// Arrange
+			WorldDescription result = worldManager.describe(mockWorld[2]);
+
+			// Act
+			result.spawnLocation().setY(64.0);
+
+			// Assert
+			assertEquals(0.0, result.spawnLocation().getY());
+		}
+	}
+
+
+	@Nested
+	class WarmUpTests
+	{
+		@Test
+		@DisplayName("warm up caches name and spawn location of all enabled worlds")
+		void warmUp_caches_all_enabled_worlds()
+		{
+			// Act
+			WarmUpReport report = worldManager.warmUp(Duration.ofSeconds(10));
+			clearInvocations((Object[]) mockWorld);
+			worldManager.getWorldName(mockWorld[2]);
+			worldManager.getSpawnLocation(mockWorld[2]);
+
+			// Assert
+			assertEquals(3, report.enabledWorlds());
+			assertEquals(3, report.warmedWorlds());
+			assertFalse(report.timedOut());
+			assertEquals(0, worldManager.getSpawnCacheMissCount());
+
+			// Verify
+			verify(mockWorld[2], never()).getName();
+			verify(mockWorld[2], never()).getSpawnLocation();
+		}
+
+
+		@Test
+		@DisplayName("warm up stops when the time budget runs out")
+		void warmUp_stops_at_budget()
+		{
+			// Act
+			WarmUpReport report = worldManager.warmUp(Duration.ZERO);
+
+			// Assert
+			assertEquals(3, report.enabledWorlds());
+			assertEquals(0, report.warmedWorlds());
+			assertTrue(report.timedOut());
+		}
+
+
+		@Test
+		@DisplayName("server load event warms caches")
+		void serverLoad_warms_caches()
+		{
+			// Arrange
+			ServerLoadEvent event = mock(ServerLoadEvent.class);
+
+			// Act
+			new WorldEventListener(worldManager.getRegistryService()).onServerLoad(event);
+			worldManager.getSpawnLocation(mockWorld[0]);
+
+			// Assert
+			assertEquals(0, worldManager.getSpawnCacheMissCount());
+			assertEquals(1, worldManager.getSpawnCacheHitCount());
+		}
+	}
+
+
+	@Nested
+	class WorldStateFileTests
+	{
+		private final BukkitScheduler mockScheduler = mock(BukkitScheduler.class);
+		private Path dataFolder;
+
+
+		@BeforeEach
+		void setUpDataFolder() throws IOException
+		{
+			dataFolder = Files.createTempDirectory("world-manager-test");
+			when(mockPlugin.getDataFolder()).thenReturn(dataFolder.toFile());
+			when(mockServer.getScheduler()).thenReturn(mockScheduler);
+			when(mockScheduler.runTaskAsynchronously(any(Plugin.class), any(Runnable.class))).thenAnswer(invocation ->
+			{
+				invocation.<Runnable>getArgument(1).run();
+				return null;
+			});
+		}
+
+
+		@AfterEach
+		void tearDownDataFolder() throws IOException
+		{
+			when(mockPlugin.getDataFolder()).thenReturn(null);
+			Files.deleteIfExists(dataFolder.resolve(WorldStateFile.FILE_NAME));
+			Files.deleteIfExists(dataFolder);
+		}
+
+
+		@Test
+		@DisplayName("names and spawn locations saved on the last run are served before they are resolved live")
+		void worldState_seeds_caches() throws IOException
+		{
+			// Arrange
+			WorldStateFile.write(dataFolder.resolve(WorldStateFile.FILE_NAME), List.of(
+					new WorldStateFile.Entry(mockWorld0UUID, "world", "Overworld", true,
+							new SpawnSnapshot(8.0, 72.0, 8.0, 0.0f, 0.0f))));
+
+			// Act
+			WorldManager seededWorldManager = new WorldManager(mockPlugin);
+
+			// Assert
+			assertEquals("Overworld", seededWorldManager.getWorldName(mockWorld[0]));
+			assertEquals(72.0, seededWorldManager.getSpawnLocation(mockWorld[0]).getY());
+			assertEquals(0, seededWorldManager.getSpawnCacheMissCount());
+		}
+
+
+		@Test
+		@DisplayName("saved state is replaced by live data when the server has loaded")
+		void worldState_checked_when_server_loaded() throws IOException
+		{
+			// Arrange
+			WorldStateFile.write(dataFolder.resolve(WorldStateFile.FILE_NAME), List.of(
+					new WorldStateFile.Entry(mockWorld0UUID, "world", "Overworld", true,
+							new SpawnSnapshot(8.0, 72.0, 8.0, 0.0f, 0.0f))));
+			WorldManager seededWorldManager = new WorldManager(mockPlugin);
+
+			// Act
+			seededWorldManager.serverLoaded();
+
+			// Assert
+			assertEquals("world", seededWorldManager.getWorldName(mockWorld[0]));
+			assertEquals(0.0, seededWorldManager.getSpawnLocation(mockWorld[0]).getY());
+		}
+
+
+		@Test
+		@DisplayName("saved state of a world whose name has changed is ignored")
+		void worldState_skips_renamed_world() throws IOException
+		{
+			// Arrange
+			WorldStateFile.write(dataFolder.resolve(WorldStateFile.FILE_NAME), List.of(
+					new WorldStateFile.Entry(mockWorld0UUID, "old_world", "Old World", true, null)));
+
+			// Act
+			WorldManager seededWorldManager = new WorldManager(mockPlugin);
+
+			// Assert
+			assertEquals("world", seededWorldManager.getWorldName(mockWorld[0]));
+		}
+
+
+		@Test
+		@DisplayName("resolved state is saved when the server has loaded")
+		void worldState_saved_when_server_loaded()
+		{
+			// Arrange
+			when(mockConfiguration.getStringList(DISABLED_WORLDS_CONFIG_KEY)).thenReturn(List.of("nether"));
+			WorldManager savingWorldManager = new WorldManager(mockPlugin);
+			savingWorldManager.getWorldName(mockWorld[1]);
+
+			// Act
+			savingWorldManager.serverLoaded();
+
+			// Assert
+			List<WorldStateFile.Entry> entries = WorldStateFile.read(dataFolder.resolve(WorldStateFile.FILE_NAME),
+					Logger.getLogger(this.getClass().getName()));
+			assertEquals(3, entries.size());
+			assertTrue(entries.contains(new WorldStateFile.Entry(mockWorld0UUID, "world", "world", true,
+					new SpawnSnapshot(0.0, 0.0, 0.0, 0.0f, 0.0f))));
+			assertTrue(entries.contains(new WorldStateFile.Entry(mockWorld1UUID, "nether", "nether", false, null)));
+
+			when(mockConfiguration.getStringList(DISABLED_WORLDS_CONFIG_KEY)).thenReturn(List.of("disabled_world1", "disabled_world2"));
+		}
+
+
+		@Test
+		@DisplayName("nothing is saved when the plugin has no data folder")
+		void worldState_not_saved_without_data_folder()
+		{
+			// Arrange
+			when(mockPlugin.getDataFolder()).thenReturn(null);
+			clearInvocations(mockScheduler);
+
+			// Act
+			worldManager.serverLoaded();
+
+			// Assert
+			assertFalse(Files.exists(dataFolder.resolve(WorldStateFile.FILE_NAME)));
+
+			// Verify
+			verify(mockScheduler, never()).runTaskAsynchronously(any(Plugin.class), any(Runnable.class));
+		}
+	}
+
+
+	@Nested
+	class ResolverBindingTests
+	{
+		@Test
+		@DisplayName("resolver is not rebuilt on each world name lookup")
+		void getWorldName_does_not_query_plugin_manager()
+		{
+			clearInvocations(mockPluginManager);
+
+			for (int i = 0; i < 10; i++)
+			{
+				assertEquals("world", worldManager.getWorldName(mockWorld[0]));
+			}
+
+			verify(mockPluginManager, never()).getPlugin("Multiverse-Core");
+		}
+
+
+		@Test
+		@DisplayName("resolver is rebound when Multiverse-Core is enabled")
+		void onPluginEnable_rebinds_resolver()
+		{
+			Plugin multiversePlugin = mock(Plugin.class);
+			when(multiversePlugin.getName()).thenReturn("Multiverse-Core");
+			PluginEnableEvent event = mock(PluginEnableEvent.class);
+			when(event.getPlugin()).thenReturn(multiversePlugin);
+			clearInvocations(mockPluginManager);
+
+			new PluginEventListener(worldManager.getRegistryService(), mockPlugin).onPluginEnable(event);
+
+			verify(mockPluginManager, atLeastOnce()).getPlugin("Multiverse-Core");
+		}
+
+
+		@Test
+		@DisplayName("resolver is not rebound when an unrelated plugin is enabled")
+		void onPluginEnable_ignores_other_plugins()
+		{
+			Plugin otherPlugin = mock(Plugin.class);
+			when(otherPlugin.getName()).thenReturn("OtherPlugin");
+			PluginEnableEvent event = mock(PluginEnableEvent.class);
+			when(event.getPlugin()).thenReturn(otherPlugin);
+			clearInvocations(mockPluginManager);
+
+			new PluginEventListener(worldManager.getRegistryService(), mockPlugin).onPluginEnable(event);
+
+			verify(mockPluginManager, never()).getPlugin("Multiverse-Core");
+		}
+
+
+		@Test
+		@DisplayName("default resolver is used after Multiverse-Core is disabled")
+		void onPluginDisable_falls_back_to_default_resolver()
+		{
+			Plugin multiversePlugin = mock(Plugin.class);
+			when(multiversePlugin.getName()).thenReturn("Multiverse-Core");
+			PluginDisableEvent event = mock(PluginDisableEvent.class);
+			when(event.getPlugin()).thenReturn(multiversePlugin);
+
+			new PluginEventListener(worldManager.getRegistryService(), mockPlugin).onPluginDisable(event);
+
+			assertEquals("world", worldManager.getWorldName(mockWorld[0]));
+		}
+	}
+
+
+	@Nested
+	class RegistryServiceTests
+	{
+		private final Plugin otherPlugin = mock(Plugin.class);
+		private final FileConfiguration otherConfiguration = mock(FileConfiguration.class);
+
+
+		@BeforeEach
+		void setUpOtherPlugin()
+		{
+			when(otherPlugin.getServer()).thenReturn(mockServer);
+			when(otherPlugin.getConfig()).thenReturn(otherConfiguration);
+			when(otherPlugin.getLogger()).thenReturn(Logger.getLogger(this.getClass().getName()));
+			when(otherConfiguration.getStringList(DISABLED_WORLDS_CONFIG_KEY)).thenReturn(List.of("nether"));
+		}
+
+
+		@AfterEach
+		void tearDownPluginState()
+		{
+			when(mockPlugin.isEnabled()).thenReturn(false);
+		}
+
+
+		@Test
+		@DisplayName("a world manager created while a registry service is registered shares it")
+		void registryService_is_shared()
+		{
+			// Arrange
+			WorldRegistryService service = worldManager.getRegistryService();
+			when(mockServicesManager.load(WorldRegistryService.class)).thenReturn(service);
+			clearInvocations(mockServicesManager, mockPluginManager);
+
+			// Act
+			WorldManager otherWorldManager = new WorldManager(otherPlugin);
+
+			// Assert
+			assertSame(service, otherWorldManager.getRegistryService());
+			assertEquals(2, service.getWorldManagerCount());
+			assertSame(mockPlugin, service.getPlugin());
+
+			// Verify
+			verify(mockServicesManager, never()).register(any(), any(), any(), any());
+			verify(mockPluginManager, never()).getPlugin("Multiverse-Core");
+		}
+
+
+		@Test
+		@DisplayName("only the world manager of the providing plugin reads and saves world state")
+		void registryService_world_state_is_kept_by_provider()
+		{
+			// Arrange
+			WorldRegistryService service = worldManager.getRegistryService();
+			when(mockServicesManager.load(WorldRegistryService.class)).thenReturn(service);
+			WorldManager otherWorldManager = new WorldManager(otherPlugin);
+
+			// Act
+			service.serverLoaded();
+
+			// Assert
+			assertTrue(service.isPrimary(worldManager));
+			assertFalse(service.isPrimary(otherWorldManager));
+
+			// Verify
+			verify(otherPlugin, never()).getDataFolder();
+			verify(mockPlugin, atLeastOnce()).getDataFolder();
+		}
+
+
+		@Test
+		@DisplayName("world managers sharing a registry service share its caches")
+		void registryService_shares_caches()
+		{
+			// Arrange
+			when(mockServicesManager.load(WorldRegistryService.class)).thenReturn(worldManager.getRegistryService());
+			WorldManager otherWorldManager = new WorldManager(otherPlugin);
+
+			// Act
+			worldManager.getSpawnLocation(mockWorld[0]);
+			otherWorldManager.getSpawnLocation(mockWorld[0]);
+
+			// Assert
+			assertEquals(1, otherWorldManager.getSpawnCacheMissCount());
+			assertEquals(1, otherWorldManager.getSpawnCacheHitCount());
+		}
+
+
+		@Test
+		@DisplayName("world managers sharing a registry service keep their own enabled worlds")
+		void registryService_keeps_enabled_worlds_per_plugin()
+		{
+			// Arrange
+			when(mockServicesManager.load(WorldRegistryService.class)).thenReturn(worldManager.getRegistryService());
+
+			// Act
+			WorldManager otherWorldManager = new WorldManager(otherPlugin);
+
+			// Assert
+			assertTrue(worldManager.isEnabled(mockWorld[1]));
+			assertFalse(otherWorldManager.isEnabled(mockWorld[1]));
+			assertTrue(otherWorldManager.isEnabled(mockWorld[0]));
+			assertEquals(worldManager.getWorldSlot(mockWorld[0]), otherWorldManager.getWorldSlot(mockWorld[0]));
+		}
+
+
+		@Test
+		@DisplayName("a world loaded once is applied to every world manager sharing the registry service")
+		void registryService_notifies_world_managers()
+		{
+			// Arrange
+			WorldManager incrementalWorldManager = new WorldManager(mockPlugin, WorldManager.UpdateMode.INCREMENTAL);
+			when(mockServicesManager.load(WorldRegistryService.class)).thenReturn(incrementalWorldManager.getRegistryService());
+			WorldManager otherWorldManager = new WorldManager(otherPlugin, WorldManager.UpdateMode.INCREMENTAL);
+			World loadedWorld = mock(World.class);
+			when(loadedWorld.getName()).thenReturn("dungeon_0001");
+			when(loadedWorld.getUID()).thenReturn(new UUID(1, 3));
+			WorldLoadEvent event = mock(WorldLoadEvent.class);
+			when(event.getWorld()).thenReturn(loadedWorld);
+
+			// Act
+			new WorldEventListener(incrementalWorldManager.getRegistryService()).onWorldLoad(event);
+
+			// Assert
+			assertTrue(incrementalWorldManager.isEnabled(loadedWorld));
+			assertTrue(otherWorldManager.isEnabled(loadedWorld));
+		}
+
+
+		@Test
+		@DisplayName("world managers of a disabled plugin are detached from the registry service")
+		void registryService_detaches_disabled_plugin()
+		{
+			// Arrange
+			WorldRegistryService service = worldManager.getRegistryService();
+			when(mockServicesManager.load(WorldRegistryService.class)).thenReturn(service);
+			new WorldManager(otherPlugin);
+			PluginDisableEvent event = mock(PluginDisableEvent.class);
+			when(event.getPlugin()).thenReturn(otherPlugin);
+
+			// Act
+			new PluginEventListener(service, mockPlugin).onPluginDisable(event);
+
+			// Assert
+			assertEquals(1, service.getWorldManagerCount());
+		}
+
+
+		@Test
+		@DisplayName("world manager rebinds to a new registry service when its service is unregistered")
+		void registryService_rebinds_on_unregister()
+		{
+			// Arrange
+			when(mockPlugin.isEnabled()).thenReturn(true);
+			WorldRegistryService service = worldManager.getRegistryService();
+			RegisteredServiceProvider<?> provider = mock(RegisteredServiceProvider.class);
+			doReturn(service).when(provider).getProvider();
+			ServiceUnregisterEvent event = mock(ServiceUnregisterEvent.class);
+			doReturn(provider).when(event).getProvider();
+			clearInvocations(mockServicesManager);
+
+			// Act
+			new ServiceEventListener(worldManager).onServiceUnregister(event);
+
+			// Assert
+			assertNotSame(service, worldManager.getRegistryService());
+			assertEquals(0, service.getWorldManagerCount());
+			assertTrue(worldManager.isEnabled(mockWorld[0]));
+			assertTrue(worldManager.isEnabled(worldManager.getWorldSlot(mockWorld[0])));
+
+			// Verify
+			verify(mockServicesManager, times(1)).register(eq(WorldRegistryService.class),
+					same(worldManager.getRegistryService()), eq(mockPlugin), any());
+		}
+
+
+		@Test
+		@DisplayName("world manager of a disabled plugin does not rebind when its service is unregistered")
+		void registryService_does_not_rebind_when_plugin_disabled()
+		{
+			// Arrange
+			WorldRegistryService service = worldManager.getRegistryService();
+			RegisteredServiceProvider<?> provider = mock(RegisteredServiceProvider.class);
+			doReturn(service).when(provider).getProvider();
+			ServiceUnregisterEvent event = mock(ServiceUnregisterEvent.class);
+			doReturn(provider).when(event).getProvider();
+			clearInvocations(mockServicesManager);
+
+			// Act
+			new ServiceEventListener(worldManager).onServiceUnregister(event);
+
+			// Assert
+			assertSame(service, worldManager.getRegistryService());
+
+			// Verify
+			verify(mockServicesManager, never()).register(any(), any(), any(), any());
+		}
+
+
+		@Test
+		@DisplayName("unregistering an unrelated service does not rebind")
+		void registryService_ignores_other_services()
+		{
+			// Arrange
+			when(mockPlugin.isEnabled()).thenReturn(true);
+			WorldRegistryService service = worldManager.getRegistryService();
+			RegisteredServiceProvider<?> provider = mock(RegisteredServiceProvider.class);
+			doReturn(new Object()).when(provider).getProvider();
+			ServiceUnregisterEvent event = mock(ServiceUnregisterEvent.class);
+			doReturn(provider).when(event).getProvider();
+
+			// Act
+			new ServiceEventListener(worldManager).onServiceUnregister(event);
+
+			// Assert
+			assertSame(service, worldManager.getRegistryService());
+		}
+	}
+
+
+	@Nested
+	class reloadTests
+	{
+		@Test
+		@DisplayName("when config enabled-worlds is empty list")
+		void reloadTest_default()
+		{
+			//TODO: FIX THIS! it appears to be a bug in the isEnabled(String name) method
+			// fixed for now by using isEnabled(UUID worldUid) method instead
+			worldManager.reload();
+			assertTrue(worldManager.isEnabled(mockWorld0UUID));
+			assertTrue(worldManager.isEnabled(mockWorld1UUID));
+			assertTrue(worldManager.isEnabled(mockWorld2UUID));
+			assertEquals(3, worldManager.size(), "there should be 3 worlds in the registry.");
+			verify(mockConfiguration, atLeastOnce()).getStringList(ENABLED_WORLDS_CONFIG_KEY);
+		}
+
+
+		@Test
+		@DisplayName("that registry is not null after reload")
+		void reloadTest_not_null()
+		{
+			worldManager.reload();
+			assertNotNull(worldManager, "world manager registry is null after reload.");
+		}
+
+
+		@Test
+		@DisplayName("that registry is not empty after reload")
+		void reloadTest_not_empty()
+		{
+			worldManager.reload();
+			assertNotNull(worldManager, "world manager registry is empty after reload.");
+		}
+
+
+		@Test
+		@DisplayName("when config disabled-worlds list contains valid world name")
+		void reloadTest_disabled_worlds_config_contains_valid_world()
+		{
+			when(mockConfiguration.getStringList(DISABLED_WORLDS_CONFIG_KEY)).thenReturn(List.of("nether", "nonexistent_world"));
+			worldManager.reload();
+			assertTrue(worldManager.isEnabled("world"));
+			assertFalse(worldManager.isEnabled("nether"));
+			assertTrue(worldManager.isEnabled("the_end"));
+			verify(mockConfiguration, atLeastOnce()).getStringList(DISABLED_WORLDS_CONFIG_KEY);
+		}
+
+
+		@Test
+		@DisplayName("when config disabled-worlds list contains valid world name")
+		void reloadTest_disabled_worlds_config_contains_valid_world2()
+		{
+			when(mockConfiguration.getStringList(ENABLED_WORLDS_CONFIG_KEY)).thenReturn(List.of("world", "nether", "the_end"));
+			when(mockConfiguration.getStringList(DISABLED_WORLDS_CONFIG_KEY)).thenReturn(List.of("nether", "nonexistent_world"));
+			worldManager.reload();
+			assertTrue(worldManager.isEnabled("world"));
+			assertFalse(worldManager.isEnabled("nether"));
+			assertTrue(worldManager.isEnabled("the_end"));
+			verify(mockConfiguration, atLeastOnce()).getStringList(ENABLED_WORLDS_CONFIG_KEY);
+			verify(mockConfiguration, atLeastOnce()).getStringList(DISABLED_WORLDS_CONFIG_KEY);
+		}
+
+
+		@Test
+		@DisplayName("when server has no worlds")
+		void reloadTest_no_server_worlds()
+		{
+			when(mockServer.getWorlds()).thenReturn(Collections.emptyList());
+			worldManager.reload();
+			assertTrue(worldManager.getEnabledWorldNames().isEmpty(), "the world manager registry is not empty after reload when server has no worlds.");
+			verify(mockServer, atLeastOnce()).getWorlds();
+		}
+
+
+		@Test
+		@DisplayName("when config enabled-worlds list contains valid world name")
+		void reloadTest_enabled_worlds_populated()
+		{
+			when(mockConfiguration.getStringList(ENABLED_WORLDS_CONFIG_KEY)).thenReturn(List.of("world", "nonexistent_world_name"));
+			worldManager.reload();
+			assertTrue(worldManager.isEnabled("world"), "world 'world' is not enabled.");
+			assertFalse(worldManager.getEnabledWorldNames().isEmpty(), "the enabled worlds list is empty.");
+			assertEquals(1, worldManager.getEnabledWorldNames().size(), "there should be only one enabled world.");
+			verify(mockConfiguration, atLeastOnce()).getStringList(ENABLED_WORLDS_CONFIG_KEY);
+		}
+	}
+
+
+	@Nested
+	class IncrementalUpdateTests
+	{
+		private final World loadedWorld = mock(World.class);
+		private final UUID loadedWorldUUID = new UUID(1, 3);
+
+
+		@BeforeEach
+		void setUpLoadedWorld()
+		{
+			when(loadedWorld.getName()).thenReturn("dungeon_0001");
+			when(loadedWorld.getUID()).thenReturn(loadedWorldUUID);
+		}
+
+
+		@Test
+		@DisplayName("loaded world is added to registry in incremental mode")
+		void worldLoaded_adds_enabled_world()
+		{
+			WorldManager incrementalWorldManager = new WorldManager(mockPlugin, WorldManager.UpdateMode.INCREMENTAL);
+			long version = incrementalWorldManager.getRegistryVersion();
+
+			incrementalWorldManager.worldLoaded(loadedWorld);
+
+			assertTrue(incrementalWorldManager.isEnabled(loadedWorld));
+			assertTrue(incrementalWorldManager.isEnabled("dungeon_0001"));
+			assertTrue(incrementalWorldManager.getEnabledWorldNames().contains("dungeon_0001"));
+			assertTrue(incrementalWorldManager.getRegistryVersion() > version);
+		}
+
+
+		@Test
+		@DisplayName("loaded world in disabled-worlds list is not added to registry in incremental mode")
+		void worldLoaded_skips_disabled_world()
+		{
+			when(mockConfiguration.getStringList(DISABLED_WORLDS_CONFIG_KEY)).thenReturn(List.of("dungeon_0001"));
+			WorldManager incrementalWorldManager = new WorldManager(mockPlugin, WorldManager.UpdateMode.INCREMENTAL);
+
+			incrementalWorldManager.worldLoaded(loadedWorld);
+
+			assertFalse(incrementalWorldManager.isEnabled(loadedWorld));
+		}
+
+
+		@Test
+		@DisplayName("loaded world not in enabled-worlds list is not added to registry in incremental mode")
+		void worldLoaded_skips_world_not_in_enabled_list()
+		{
+			when(mockConfiguration.getStringList(ENABLED_WORLDS_CONFIG_KEY)).thenReturn(List.of("world"));
+			WorldManager incrementalWorldManager = new WorldManager(mockPlugin, WorldManager.UpdateMode.INCREMENTAL);
+
+			incrementalWorldManager.worldLoaded(loadedWorld);
+
+			assertFalse(incrementalWorldManager.isEnabled(loadedWorld));
+			assertTrue(incrementalWorldManager.isEnabled(mockWorld[0]));
+		}
+
+
+		@Test
+		@DisplayName("unloaded world is removed from registry in incremental mode")
+		void worldUnloaded_removes_world()
+		{
+			WorldManager incrementalWorldManager = new WorldManager(mockPlugin, WorldManager.UpdateMode.INCREMENTAL);
+
+			incrementalWorldManager.worldUnloaded(mockWorld[1]);
+
+			assertFalse(incrementalWorldManager.isEnabled(mockWorld1UUID));
+			assertEquals(2, incrementalWorldManager.size());
+		}
+
+
+		@Test
+		@DisplayName("loaded world is not added to registry in reload mode")
+		void worldLoaded_reload_mode_does_not_change_registry()
+		{
+			worldManager.worldLoaded(loadedWorld);
+
+			assertFalse(worldManager.isEnabled(loadedWorld));
+			assertEquals(3, worldManager.size());
+		}
+	}
+
+
+	@Nested
+	class RegistryChangeTests
+	{
+		private final List<RegistryDiff> diffs = new ArrayList<>();
+		private final RegistryChangeListener listener = diffs::add;
+
+
+		@BeforeEach
+		void setUpListener()
+		{
+			diffs.clear();
+			worldManager.addRegistryChangeListener(listener);
+			clearInvocations(mockPluginManager);
+		}
+
+
+		@AfterEach
+		void tearDownListener()
+		{
+			when(mockConfiguration.getStringList(DISABLED_WORLDS_CONFIG_KEY)).thenReturn(Collections.emptyList());
+		}
+
+
+		@Test
+		@DisplayName("reload reports disabled world to listeners and sends a world disabled event")
+		void reload_reports_removed_world()
+		{
+			// Arrange
+			when(mockConfiguration.getStringList(DISABLED_WORLDS_CONFIG_KEY)).thenReturn(List.of("nether"));
+
+			// Act
+			worldManager.reload();
+
+			// Assert
+			assertEquals(1, diffs.size());
+			assertEquals(Set.of(mockWorld1UUID), diffs.get(0).removed());
+			assertEquals(Set.of(mockWorld0UUID, mockWorld2UUID), diffs.get(0).unchanged());
+			assertTrue(diffs.get(0).added().isEmpty());
+
+			// Verify
+			verify(mockPluginManager, times(1)).callEvent(any(WorldDisabledEvent.class));
+			verify(mockPluginManager, never()).callEvent(any(WorldEnabledEvent.class));
+		}
+
+
+		@Test
+		@DisplayName("reload reports re-enabled world to listeners and sends a world enabled event")
+		void reload_reports_added_world()
+		{
+			// Arrange
+			when(mockConfiguration.getStringList(DISABLED_WORLDS_CONFIG_KEY)).thenReturn(List.of("nether"));
+			worldManager.reload();
+			when(mockConfiguration.getStringList(DISABLED_WORLDS_CONFIG_KEY)).thenReturn(Collections.emptyList());
+			diffs.clear();
+			clearInvocations(mockPluginManager);
+
+			// Act
+			worldManager.reload();
+
+			// Assert
+			assertEquals(1, diffs.size());
+			assertEquals(Set.of(mockWorld1UUID), diffs.get(0).added());
+			assertTrue(diffs.get(0).removed().isEmpty());
+
+			// Verify
+			verify(mockPluginManager, times(1)).callEvent(any(WorldEnabledEvent.class));
+			verify(mockPluginManager, never()).callEvent(any(WorldDisabledEvent.class));
+		}
+
+
+		@Test
+		@DisplayName("reload without changes reports an empty diff and sends no events")
+		void reload_without_changes_sends_no_events()
+		{
+			// Act
+			worldManager.reload();
+
+			// Assert
+			assertEquals(1, diffs.size());
+			assertTrue(diffs.get(0).isEmpty());
+			assertEquals(3, diffs.get(0).unchanged().size());
+
+			// Verify
+			verify(mockPluginManager, never()).callEvent(any(WorldEnabledEvent.class));
+			verify(mockPluginManager, never()).callEvent(any(WorldDisabledEvent.class));
+		}
+
+
+		@Test
+		@DisplayName("removed listener is not notified")
+		void removed_listener_is_not_notified()
+		{
+			// Arrange
+			worldManager.removeRegistryChangeListener(listener);
+
+			// Act
+			worldManager.reload();
+
+			// Assert
+			assertTrue(diffs.isEmpty());
+		}
+
+
+		@Test
+		@DisplayName("listener that throws does not stop other listeners")
+		void throwing_listener_does_not_stop_others()
+		{
+			// Arrange
+			List<RegistryDiff> received = new ArrayList<>();
+			worldManager.addRegistryChangeListener(diff -> { throw new IllegalStateException("listener failure"); });
+			worldManager.addRegistryChangeListener(received::add);
+
+			// Act
+			worldManager.reload();
+
+			// Assert
+			assertEquals(1, diffs.size());
+			assertEquals(1, received.size());
+		}
+
+
+		@Test
+		@DisplayName("world loaded in incremental mode is reported with the incremented version")
+		void worldLoaded_incremental_reports_added_world()
+		{
+			// Arrange
+			World loadedWorld = mock(World.class);
+			UUID loadedWorldUUID = new UUID(1, 3);
+			when(loadedWorld.getName()).thenReturn("dungeon_0001");
+			when(loadedWorld.getUID()).thenReturn(loadedWorldUUID);
+			WorldManager incrementalWorldManager = new WorldManager(mockPlugin, WorldManager.UpdateMode.INCREMENTAL);
+			incrementalWorldManager.addRegistryChangeListener(listener);
+			long version = incrementalWorldManager.getRegistryVersion();
+			clearInvocations(mockPluginManager);
+
+			// Act
+			incrementalWorldManager.worldLoaded(loadedWorld);
+
+			// Assert
+			assertEquals(1, diffs.size());
+			assertEquals(Set.of(loadedWorldUUID), diffs.get(0).added());
+			assertEquals(version, diffs.get(0).previousVersion());
+			assertEquals(incrementalWorldManager.getRegistryVersion(), diffs.get(0).version());
+
+			// Verify
+			verify(mockPluginManager, times(1)).callEvent(any(WorldEnabledEvent.class));
+		}
+	}
+
+
+	@Nested
+	class BulkFilterTests
+	{
+		private WorldManager filteringWorldManager;
+
+
+		@BeforeEach
+		void setUpDisabledNether()
+		{
+			when(mockConfiguration.getStringList(DISABLED_WORLDS_CONFIG_KEY)).thenReturn(List.of("nether"));
+			filteringWorldManager = new WorldManager(mockPlugin);
+		}
+
+
+		@Test
+		@DisplayName("entities in disabled worlds are filtered out, keeping order")
+		void filterEnabled_entities()
+		{
+			Player netherPlayer = mock(Player.class);
+			Player endPlayer = mock(Player.class);
+			Player nullWorldPlayer = mock(Player.class);
+			when(netherPlayer.getWorld()).thenReturn(mockWorld[1]);
+			when(endPlayer.getWorld()).thenReturn(mockWorld[2]);
+			when(nullWorldPlayer.getWorld()).thenReturn(null);
+
+			List<Player> result = filteringWorldManager.filterEnabled(
+					Arrays.asList(mockPlayer, netherPlayer, null, endPlayer, nullWorldPlayer, mockPlayer));
+
+			assertEquals(List.of(mockPlayer, endPlayer, mockPlayer), result);
+		}
+
+
+		@Test
+		@DisplayName("consecutive entities in the same world look up the registry once")
+		void filterEnabled_entities_same_world()
+		{
+			World worldWithoutSlot = mock(World.class);
+			when(worldWithoutSlot.getUID()).thenReturn(mockWorld0UUID);
+			Player player = mock(Player.class);
+			when(player.getWorld()).thenReturn(worldWithoutSlot);
+
+			List<Player> result = filteringWorldManager.filterEnabled(List.of(player, player, player));
+
+			assertEquals(3, result.size());
+			verify(worldWithoutSlot, times(1)).getUID();
+		}
+
+
+		@Test
+		@DisplayName("entities in loaded worlds are checked by world slot")
+		void filterEnabled_entities_by_slot()
+		{
+			clearInvocations(mockWorld[0]);
+
+			List<Player> result = filteringWorldManager.filterEnabled(List.of(mockPlayer, mockPlayer));
+
+			assertEquals(2, result.size());
+			verify(mockWorld[0], never()).getUID();
+		}
+
+
+		@Test
+		void filterEnabled_entities_empty()
+		{
+			assertTrue(filteringWorldManager.filterEnabled(List.<Player>of()).isEmpty());
+		}
+
+
+		@Test
+		void markEnabled_uuids()
+		{
+			UUID[] worldUIDs = { mockWorld0UUID, mockWorld1UUID, null, mockWorld2UUID, mockPlayerUUID };
+			boolean[] results = new boolean[worldUIDs.length];
+
+			int count = filteringWorldManager.markEnabled(worldUIDs, results);
+
+			assertEquals(2, count);
+			assertArrayEquals(new boolean[] { true, false, false, true, false }, results);
+		}
+
+
+		@Test
+		void markEnabled_uuid_bits()
+		{
+			long[] worldUidBits = {
+					mockWorld0UUID.getMostSignificantBits(), mockWorld0UUID.getLeastSignificantBits(),
+					mockWorld1UUID.getMostSignificantBits(), mockWorld1UUID.getLeastSignificantBits(),
+					mockWorld2UUID.getMostSignificantBits(), mockWorld2UUID.getLeastSignificantBits(),
+					mockPlayerUUID.getMostSignificantBits(), mockPlayerUUID.getLeastSignificantBits() };
+			boolean[] results = new boolean[4];
+
+			int count = filteringWorldManager.markEnabled(worldUidBits, results);
+
+			assertEquals(2, count);
+			assertArrayEquals(new boolean[] { true, false, true, false }, results);
+		}
+
+
+		@Test
+		void markEnabled_uuid_bits_odd_length()
+		{
+			assertThrows(IllegalArgumentException.class,
+					() -> filteringWorldManager.markEnabled(new long[3], new boolean[2]));
+		}
+
+
+		@Test
+		void markEnabled_results_too_short()
+		{
+			assertThrows(IllegalArgumentException.class,
+					() -> filteringWorldManager.markEnabled(new UUID[] { mockWorld0UUID }, new boolean[0]));
+		}
+
+
+		@Test
+		void markEnabled_null_arrays()
+		{
+			assertEquals(0, filteringWorldManager.markEnabled((UUID[]) null, new boolean[0]));
+			assertEquals(0, filteringWorldManager.markEnabled((long[]) null, null));
+			assertThrows(IllegalArgumentException.class,
+					() -> filteringWorldManager.markEnabled(new UUID[] { mockWorld0UUID }, null));
+		}
+	}
+
+
+	@Nested
+	class RegionTests
+	{
+		@BeforeEach
+		void setUpRegions()
+		{
+			when(mockConfiguration.getStringList("disabled-regions")).thenReturn(List.of("world -2,-2 2,2"));
+			worldManager.reload();
+		}
+
+
+		@AfterEach
+		void tearDownRegions()
+		{
+			when(mockConfiguration.getStringList("disabled-regions")).thenReturn(Collections.emptyList());
+		}
+
+
+		@Test
+		@DisplayName("chunks in a disabled region are disabled, and the rest of the world is enabled")
+		void isEnabled_by_chunk()
+		{
+			assertFalse(worldManager.isEnabled(mockWorld[0], 0, 0));
+			assertFalse(worldManager.isEnabled(mockWorld[0], -2, 2));
+			assertTrue(worldManager.isEnabled(mockWorld[0], 3, 0));
+			assertTrue(worldManager.isEnabled(mockWorld[0]));
+		}
+
+
+		@Test
+		@DisplayName("worlds without regions are enabled in every chunk")
+		void isEnabled_by_chunk_world_without_regions()
+		{
+			assertTrue(worldManager.isEnabled(mockWorld[1], 0, 0));
+		}
+
+
+		@Test
+		@DisplayName("location is checked by the chunk that contains it")
+		void isEnabled_by_location()
+		{
+			Location inside = mock(Location.class);
+			when(inside.getWorld()).thenReturn(mockWorld[0]);
+			when(inside.getBlockX()).thenReturn(47);
+			when(inside.getBlockZ()).thenReturn(-17);
+
+			Location outside = mock(Location.class);
+			when(outside.getWorld()).thenReturn(mockWorld[0]);
+			when(outside.getBlockX()).thenReturn(48);
+			when(outside.getBlockZ()).thenReturn(0);
+
+			assertFalse(worldManager.isEnabled(inside));
+			assertTrue(worldManager.isEnabled(outside));
+		}
+
+
+		@Test
+		void isEnabled_by_location_null()
+		{
+			assertFalse(worldManager.isEnabled((Location) null));
+			assertFalse(worldManager.isEnabled(null, 0, 0));
+		}
+
+
+		@Test
+		@DisplayName("chunks in a disabled world are disabled")
+		void isEnabled_by_chunk_disabled_world()
+		{
+			when(mockConfiguration.getStringList(DISABLED_WORLDS_CONFIG_KEY)).thenReturn(List.of("nether"));
+			worldManager.reload();
+
+			assertFalse(worldManager.isEnabled(mockWorld[1], 100, 100));
+
+			when(mockConfiguration.getStringList(DISABLED_WORLDS_CONFIG_KEY)).thenReturn(List.of("disabled_world1", "disabled_world2"));
+		}
+	}
+
+
+	@Nested
+	class FeatureTests
+	{
+		private Feature pvp;
+
+
+		@BeforeEach
+		void setUpFeatures()
+		{
+			when(mockConfiguration.getStringList("pvp.disabled-worlds")).thenReturn(List.of("nether"));
+			pvp = worldManager.registerFeature("pvp");
+		}
+
+
+		@AfterEach
+		void tearDownFeatures()
+		{
+			when(mockConfiguration.getStringList("pvp.disabled-worlds")).thenReturn(Collections.emptyList());
+		}
+
+
+		@Test
+		@DisplayName("feature is enabled in enabled worlds except those in its disabled-worlds list")
+		void isEnabled_by_feature()
+		{
+			assertTrue(worldManager.isEnabled(mockWorld[0], pvp));
+			assertFalse(worldManager.isEnabled(mockWorld[1], pvp));
+			assertTrue(worldManager.isEnabled(mockWorld[1]));
+		}
+
+
+		@Test
+		@DisplayName("feature is disabled in worlds disabled by the top level settings")
+		void isEnabled_by_feature_disabled_world()
+		{
+			// Arrange
+			when(mockConfiguration.getStringList(DISABLED_WORLDS_CONFIG_KEY)).thenReturn(List.of("world"));
+			worldManager.reload();
+
+			// Act & Assert
+			assertFalse(worldManager.isEnabled(mockWorld[0], pvp));
+
+			when(mockConfiguration.getStringList(DISABLED_WORLDS_CONFIG_KEY)).thenReturn(List.of("disabled_world1", "disabled_world2"));
+		}
+
+
+		@Test
+		@DisplayName("feature can be checked by world slot")
+		void isEnabled_by_slot_and_feature()
+		{
+			assertTrue(worldManager.isEnabled(worldManager.getWorldSlot(mockWorld[0]), pvp));
+			assertFalse(worldManager.isEnabled(worldManager.getWorldSlot(mockWorld[1]), pvp));
+			assertFalse(worldManager.isEnabled(-1, pvp));
+		}
+
+
+		@Test
+		void isEnabled_by_feature_null()
+		{
+			assertFalse(worldManager.isEnabled(null, pvp));
+			assertFalse(worldManager.isEnabled(mockWorld[0], (Feature) null));
+			assertFalse(worldManager.isEnabled(mock(World.class), pvp));
+		}
+
+
+		@Test
+		@DisplayName("each feature is checked against its own lists")
+		void isEnabled_by_feature_independent()
+		{
+			// Arrange
+			when(mockConfiguration.getStringList("fly.enabled-worlds")).thenReturn(List.of("the_end"));
+
+			// Act
+			Feature fly = worldManager.registerFeature("fly");
+
+			// Assert
+			assertFalse(worldManager.isEnabled(mockWorld[0], fly));
+			assertTrue(worldManager.isEnabled(mockWorld[2], fly));
+			assertTrue(worldManager.isEnabled(mockWorld[2], pvp));
+
+			when(mockConfiguration.getStringList("fly.enabled-worlds")).thenReturn(Collections.emptyList());
+		}
+
+
+		@Test
+		@DisplayName("registering a feature reads only its own lists and does not reload or notify listeners")
+		void registerFeature_does_not_reload()
+		{
+			// Arrange
+			List<RegistryDiff> diffs = new ArrayList<>();
+			RegistryChangeListener listener = diffs::add;
+			worldManager.addRegistryChangeListener(listener);
+			long version = worldManager.getRegistryVersion();
+			when(mockConfiguration.getStringList(DISABLED_WORLDS_CONFIG_KEY)).thenReturn(List.of("nether"));
+			when(mockConfiguration.getStringList("fly.disabled-worlds")).thenReturn(List.of("the_end"));
+
+			// Act
+			Feature fly = worldManager.registerFeature("fly");
+
+			// Assert
+			assertTrue(diffs.isEmpty());
+			assertEquals(version, worldManager.getRegistryVersion());
+			assertTrue(worldManager.isEnabled(mockWorld[1]));
+			assertTrue(worldManager.isEnabled(mockWorld[1], fly));
+			assertFalse(worldManager.isEnabled(mockWorld[2], fly));
+			assertTrue(worldManager.isEnabled(mockWorld[2], pvp));
+
+			worldManager.removeRegistryChangeListener(listener);
+			when(mockConfiguration.getStringList(DISABLED_WORLDS_CONFIG_KEY)).thenReturn(List.of("disabled_world1", "disabled_world2"));
+			when(mockConfiguration.getStringList("fly.disabled-worlds")).thenReturn(Collections.emptyList());
+		}
+
+
+		@Test
+		@DisplayName("registering a feature name twice returns the same feature")
+		void registerFeature_duplicate()
+		{
+			assertSame(pvp, worldManager.registerFeature("pvp"));
+			assertEquals(List.of(pvp), worldManager.getFeatures());
+		}
+
+
+		@Test
+		void registerFeature_blank()
+		{
+			assertThrows(IllegalArgumentException.class, () -> worldManager.registerFeature(null));
+			assertThrows(IllegalArgumentException.class, () -> worldManager.registerFeature(" "));
+		}
+
+
+		@Test
+		@DisplayName("no more than 64 features can be registered")
+		void registerFeature_limit()
+		{
+			for (int i = 1; i < Feature.MAX_FEATURES; i++)
+			{
+				worldManager.registerFeature("feature" + i);
+			}
+
+			assertThrows(IllegalStateException.class, () -> worldManager.registerFeature("one_too_many"));
+			assertTrue(worldManager.isEnabled(mockWorld[0], worldManager.getFeatures().get(Feature.MAX_FEATURES - 1)));
+		}
+	}
+
+
+	@Nested
+	class WorldSlotTests
+	{
+		@Test
+		@DisplayName("each loaded world has a distinct slot")
+		void getWorldSlot_loaded_worlds()
+		{
+			int slot0 = worldManager.getWorldSlot(mockWorld[0]);
+			int slot1 = worldManager.getWorldSlot(mockWorld[1]);
+			int slot2 = worldManager.getWorldSlot(mockWorld[2]);
+
+			assertTrue(slot0 >= 0 && slot1 >= 0 && slot2 >= 0);
+			assertEquals(3, Set.of(slot0, slot1, slot2).size());
+		}
+
+
+		@Test
+		void getWorldSlot_null_or_not_loaded()
+		{
+			assertEquals(-1, worldManager.getWorldSlot(null));
+			assertEquals(-1, worldManager.getWorldSlot(mock(World.class)));
+		}
+
+
+		@Test
+		@DisplayName("world slots are kept across reloads")
+		void getWorldSlot_stable_across_reload()
+		{
+			int slot = worldManager.getWorldSlot(mockWorld[1]);
+
+			worldManager.reload();
+
+			assertEquals(slot, worldManager.getWorldSlot(mockWorld[1]));
+		}
+
+
+		@Test
+		void isEnabled_by_slot()
+		{
+			when(mockConfiguration.getStringList(DISABLED_WORLDS_CONFIG_KEY)).thenReturn(List.of("nether"));
+			worldManager.reload();
+
+			assertTrue(worldManager.isEnabled(worldManager.getWorldSlot(mockWorld[0])));
+			assertFalse(worldManager.isEnabled(worldManager.getWorldSlot(mockWorld[1])));
+			assertFalse(worldManager.isEnabled(mockWorld[1]));
+			assertFalse(worldManager.isEnabled(-1));
+		}
+
+
+		@Test
+		@DisplayName("slot of an unloaded world is not reused for a newly loaded world")
+		void worldSlot_not_reused()
+		{
+			WorldManager incrementalWorldManager = new WorldManager(mockPlugin, WorldManager.UpdateMode.INCREMENTAL);
+			int unloadedSlot = incrementalWorldManager.getWorldSlot(mockWorld[2]);
+			World loadedWorld = mock(World.class);
+			when(loadedWorld.getName()).thenReturn("dungeon_0001");
+			when(loadedWorld.getUID()).thenReturn(new UUID(1, 3));
+
+			incrementalWorldManager.worldUnloaded(mockWorld[2]);
+			incrementalWorldManager.worldLoaded(loadedWorld);
+
+			assertEquals(-1, incrementalWorldManager.getWorldSlot(mockWorld[2]));
+			assertFalse(incrementalWorldManager.isEnabled(unloadedSlot));
+			assertNotEquals(unloadedSlot, incrementalWorldManager.getWorldSlot(loadedWorld));
+			assertTrue(incrementalWorldManager.isEnabled(incrementalWorldManager.getWorldSlot(loadedWorld)));
+		}
+
+
+		@Test
+		@DisplayName("world unloaded and loaded again under the same uid stays enabled in reload mode")
+		void reloaded_world_stays_enabled_in_reload_mode()
+		{
+			// Arrange
+			Feature pvp = worldManager.registerFeature("pvp");
+			World reloadedWorld = mock(World.class);
+			when(reloadedWorld.getName()).thenReturn("the_end");
+			when(reloadedWorld.getUID()).thenReturn(mockWorld2UUID);
+			when(mockPlayer.getWorld()).thenReturn(reloadedWorld);
+
+			// Act
+			worldManager.worldUnloaded(mockWorld[2]);
+			worldManager.worldLoaded(reloadedWorld);
+
+			// Assert
+			assertEquals(-1, worldManager.getWorldSlot(mockWorld[2]));
+			assertNotEquals(-1, worldManager.getWorldSlot(reloadedWorld));
+			assertTrue(worldManager.isEnabled(reloadedWorld));
+			assertTrue(worldManager.isEnabled(reloadedWorld, pvp));
+			assertTrue(worldManager.isEnabled(mockWorld2UUID));
+			assertEquals(List.of(mockPlayer), worldManager.filterEnabled(List.of(mockPlayer)));
+
+			// reset player world stub
+			when(mockPlayer.getWorld()).thenReturn(mockWorld[0]);
+		}
+	}
+
+
+	@Nested
+	class AsyncReloadTests
+	{
+		private final BukkitScheduler mockScheduler = mock(BukkitScheduler.class);
+		private final Deque<Runnable> queuedTasks = new ArrayDeque<>();
+
+
+		@BeforeEach
+		void setUpScheduler()
+		{
+			when(mockServer.getScheduler()).thenReturn(mockScheduler);
+		}
+
+
+		private void runTasksInline()
+		{
+			when(mockServer.isPrimaryThread()).thenReturn(true);
+			when(mockScheduler.runTaskAsynchronously(any(Plugin.class), any(Runnable.class))).thenAnswer(invocation ->
+			{
+				invocation.<Runnable>getArgument(1).run();
+				return null;
+			});
+		}
+
+
+		private void queueTasks()
+		{
+			queuedTasks.clear();
+			when(mockServer.isPrimaryThread()).thenReturn(false);
+			when(mockScheduler.runTaskAsynchronously(any(Plugin.class), any(Runnable.class))).thenAnswer(invocation ->
+			{
+				queuedTasks.add(invocation.getArgument(1));
+				return null;
+			});
+			when(mockScheduler.runTask(any(Plugin.class), any(Runnable.class))).thenAnswer(invocation ->
+			{
+				queuedTasks.add(invocation.getArgument(1));
+				return null;
+			});
+		}
+
+
+		private void drainTasks()
+		{
+			while (!queuedTasks.isEmpty())
+			{
+				queuedTasks.poll().run();
+			}
+		}
+
+
+		@Test
+		@DisplayName("asynchronous reload publishes a registry built from the current config")
+		void reloadAsync_publishes_registry()
+		{
+			runTasksInline();
+			long version = worldManager.getRegistryVersion();
+			when(mockConfiguration.getStringList(DISABLED_WORLDS_CONFIG_KEY)).thenReturn(List.of("nether"));
+
+			CompletableFuture<Void> future = worldManager.reloadAsync();
+
+			assertTrue(future.isDone());
+			assertFalse(future.isCompletedExceptionally());
+			assertFalse(worldManager.isEnabled(mockWorld[1]));
+			assertTrue(worldManager.isEnabled(mockWorld[0]));
+			assertTrue(worldManager.getRegistryVersion() > version);
+		}
+
+
+		@Test
+		@DisplayName("feature registered during an asynchronous reload is kept when the reload is published")
+		void reloadAsync_keeps_feature_registered_during_reload()
+		{
+			// Arrange
+			queueTasks();
+			when(mockConfiguration.getStringList("fly.disabled-worlds")).thenReturn(List.of("the_end"));
+			CompletableFuture<Void> future = worldManager.reloadAsync();
+
+			// Act
+			Feature fly = worldManager.registerFeature("fly");
+			drainTasks();
+
+			// Assert
+			assertTrue(future.isDone());
+			assertTrue(worldManager.isEnabled(mockWorld[0], fly));
+			assertFalse(worldManager.isEnabled(mockWorld[2], fly));
+
+			when(mockConfiguration.getStringList("fly.disabled-worlds")).thenReturn(Collections.emptyList());
+		}
+
+
+		@Test
+		@DisplayName("asynchronous reload reads config on the calling thread and compiles it on a worker")
+		void reloadAsync_reads_config_on_calling_thread()
+		{
+			queueTasks();
+			clearInvocations(mockScheduler, mockConfiguration);
+
+			worldManager.reloadAsync();
+
+			verify(mockConfiguration, atLeastOnce()).getStringList(ENABLED_WORLDS_CONFIG_KEY);
+			verify(mockScheduler, times(1)).runTaskAsynchronously(any(Plugin.class), any(Runnable.class));
+			verify(mockScheduler, never()).runTask(any(Plugin.class), any(Runnable.class));
+			clearInvocations(mockConfiguration);
+			drainTasks();
+			verify(mockConfiguration, never()).getStringList(anyString());
+		}
+
+
+		@Test
+		@DisplayName("asynchronous reload that cannot be scheduled completes exceptionally")
+		void reloadAsync_rejected_completes_exceptionally()
+		{
+			when(mockServer.isPrimaryThread()).thenReturn(false);
+			when(mockScheduler.runTaskAsynchronously(any(Plugin.class), any(Runnable.class)))
+					.thenThrow(new IllegalStateException("plugin is disabled"));
+
+			CompletableFuture<Void> future = worldManager.reloadAsync();
+
+			assertTrue(future.isCompletedExceptionally());
+		}
+
+
+		@Test
+		@DisplayName("asynchronous reload superseded by a later reload does not publish")
+		void reloadAsync_superseded()
+		{
+			queueTasks();
+			CompletableFuture<Void> future = worldManager.reloadAsync();
+
+			worldManager.reload();
+			long version = worldManager.getRegistryVersion();
+			drainTasks();
+
+			assertTrue(future.isDone());
+			assertEquals(version, worldManager.getRegistryVersion());
+		}
+
+
+		@Test
+		@DisplayName("world loaded during an asynchronous reload is included in the registry")
+		void reloadAsync_world_loaded_during_reload()
+		{
+			queueTasks();
+			World loadedWorld = mock(World.class);
+			when(loadedWorld.getName()).thenReturn("dungeon_0001");
+			when(loadedWorld.getUID()).thenReturn(new UUID(1, 3));
+
+			CompletableFuture<Void> future = worldManager.reloadAsync();
+			queuedTasks.poll().run();
+			queuedTasks.poll().run();
+			when(mockServer.getWorlds()).thenReturn(List.of(mockWorld[0], mockWorld[1], mockWorld[2], loadedWorld));
+			drainTasks();
+
+			assertTrue(future.isDone());
+			assertTrue(worldManager.isEnabled(loadedWorld));
+			assertEquals(4, worldManager.size());
+		}
+	}
+
+
+	@Nested
+	class AsyncLookupTests
+	{
+		private final BukkitScheduler mockScheduler = mock(BukkitScheduler.class);
+		private final Deque<Runnable> queuedTasks = new ArrayDeque<>();
+
+
+		@BeforeEach
+		void setUpScheduler()
+		{
+			queuedTasks.clear();
+			when(mockServer.getScheduler()).thenReturn(mockScheduler);
+			when(mockServer.isPrimaryThread()).thenReturn(false);
+			when(mockScheduler.runTask(any(Plugin.class), any(Runnable.class))).thenAnswer(invocation ->
+			{
+				queuedTasks.add(invocation.getArgument(1));
+				return null;
+			});
+		}
+
+
+		private void drainTasks()
+		{
+			while (!queuedTasks.isEmpty())
+			{
+				queuedTasks.poll().run();
+			}
+		}
+
+
+		@Test
+		@DisplayName("cached world name is returned without scheduling a task")
+		void getWorldNameAsync_cached()
+		{
+			// Arrange
+			worldManager.getWorldName(mockWorld[0]);
+			clearInvocations(mockScheduler);
+
+			// Act
+			CompletableFuture<String> result = worldManager.getWorldNameAsync(mockWorld[0]);
+
+			// Assert
+			assertTrue(result.isDone());
+			assertEquals("world", result.join());
+
+			// Verify
+			verify(mockScheduler, never()).runTask(any(Plugin.class), any(Runnable.class));
+		}
+
+
+		@Test
+		@DisplayName("concurrent world name misses share one lookup on the server thread")
+		void getWorldNameAsync_batches_misses()
+		{
+			// Arrange
+			clearInvocations(mockScheduler, mockWorld[1]);
+
+			// Act
+			CompletableFuture<String> first = worldManager.getWorldNameAsync(mockWorld[1]);
+			CompletableFuture<String> second = worldManager.getWorldNameAsync(mockWorld[1]);
+			boolean doneBeforeDrain = first.isDone() || second.isDone();
+			drainTasks();
+
+			// Assert
+			assertFalse(doneBeforeDrain);
+			assertEquals("nether", first.join());
+			assertEquals("nether", second.join());
+
+			// Verify
+			verify(mockScheduler, times(1)).runTask(any(Plugin.class), any(Runnable.class));
+			verify(mockWorld[1], times(1)).getName();
+		}
+
+
+		@Test
+		@DisplayName("spawn location miss is resolved on the server thread and then cached")
+		void getSpawnLocationAsync_miss_then_cached()
+		{
+			// Arrange
+			clearInvocations(mockScheduler);
+
+			// Act
+			CompletableFuture<Location> first = worldManager.getSpawnLocationAsync(mockWorld[2]);
+			CompletableFuture<Location> second = worldManager.getSpawnLocationAsync(mockWorld[2]);
+			drainTasks();
+			CompletableFuture<Location> third = worldManager.getSpawnLocationAsync(mockWorld[2]);
+
+			// Assert
+			assertNotNull(first.join());
+			assertNotNull(second.join());
+			assertTrue(third.isDone());
+			assertEquals(1, worldManager.getSpawnCacheMissCount());
+
+			// Verify
+			verify(mockScheduler, times(1)).runTask(any(Plugin.class), any(Runnable.class));
+		}
+
+
+		@Test
+		@DisplayName("lookup on the server thread completes immediately")
+		void getSpawnLocationAsync_on_server_thread()
+		{
+			// Arrange
+			when(mockServer.isPrimaryThread()).thenReturn(true);
+
+			// Act
+			CompletableFuture<Location> result = worldManager.getSpawnLocationAsync(mockWorld[0]);
+
+			// Assert
+			assertTrue(result.isDone());
+			assertNotNull(result.join());
+		}
+
+
+		@Test
+		void async_lookups_with_null_world()
+		{
+			assertEquals(UNKNOWN_WORLD, worldManager.getWorldNameAsync(null).join());
+			assertNull(worldManager.getSpawnLocationAsync(null).join());
+		}
+	}
+
+
+	@Nested
+	class MetricsTests
+	{
+		@Test
+		@DisplayName("lookups are counted per operation when a metrics sink is set")
+		void metricsSink_records_calls()
+		{
+			InMemoryMetricsSink sink = new InMemoryMetricsSink();
+			worldManager.setMetricsSink(sink);
+
+			worldManager.isEnabled(mockWorld[0]);
+			worldManager.isEnabled(mockWorld0UUID);
+			worldManager.isEnabled("world");
+			worldManager.getWorldName(mockWorld[0]);
+			worldManager.getAliasOrName("world");
+			worldManager.getSpawnLocation(mockWorld[0]);
+			worldManager.reload();
+
+			assertEquals(3, sink.getCallCount(Operation.IS_ENABLED));
+			assertEquals(1, sink.getCallCount(Operation.GET_WORLD_NAME));
+			assertEquals(1, sink.getCallCount(Operation.GET_ALIAS_OR_NAME));
+			assertEquals(1, sink.getCallCount(Operation.GET_SPAWN_LOCATION));
+			assertEquals(1, sink.getCallCount(Operation.RELOAD));
+		}
+
+
+		@Test
+		@DisplayName("cache hits, misses and resolver calls are recorded")
+		void metricsSink_records_cache_access()
+		{
+			InMemoryMetricsSink sink = new InMemoryMetricsSink();
+			worldManager.setMetricsSink(sink);
+
+			worldManager.getWorldName(mockWorld[1]);
+			worldManager.getWorldName(mockWorld[1]);
+			worldManager.getSpawnLocation(mockWorld[1]);
+			worldManager.getSpawnLocation(mockWorld[1]);
+
+			assertEquals(1, sink.getCacheHitCount(Operation.GET_WORLD_NAME));
+			assertEquals(1, sink.getCacheMissCount(Operation.GET_WORLD_NAME));
+			assertEquals(1, sink.getCallCount(Operation.RESOLVE_WORLD_NAME));
+			assertEquals(0.5, sink.getCacheHitRatio(Operation.GET_SPAWN_LOCATION));
+			assertEquals(1, sink.getCallCount(Operation.RESOLVE_SPAWN_LOCATION));
+		}
+
+
+		@Test
+		@DisplayName("nothing is recorded after the metrics sink is cleared")
+		void metricsSink_cleared()
+		{
+			InMemoryMetricsSink sink = new InMemoryMetricsSink();
+			worldManager.setMetricsSink(sink);
+			worldManager.setMetricsSink(null);
+
+			worldManager.isEnabled(mockWorld[0]);
+			worldManager.getWorldName(mockWorld[0]);
+
+			assertEquals(0, sink.getCallCount(Operation.IS_ENABLED));
+			assertEquals(0, sink.getCacheMissCount(Operation.GET_WORLD_NAME));
+		}
+	}
+
+
+	@Nested
+	class ConcurrencyTests
+	{
+		@Test
+		@DisplayName("readers never observe a partial registry during continuous reloads")
+		void isEnabled_during_continuous_reload() throws InterruptedException
+		{
+			final int readerCount = 4;
+			final AtomicBoolean running = new AtomicBoolean(true);
+			final AtomicLong failures = new AtomicLong();
+			final AtomicReference<Throwable> error = new AtomicReference<>();
+			final CountDownLatch started = new CountDownLatch(readerCount);
+			final ExecutorService executor = Executors.newFixedThreadPool(readerCount);
+
+			for (int i = 0; i < readerCount; i++)
+			{
+				executor.execute(() -> {
+					started.countDown();
+					try
+					{
+						while (running.get())
+						{
+							if (!worldManager.isEnabled(mockWorld0UUID)
+									|| !worldManager.isEnabled(mockWorld1UUID)
+									|| !worldManager.isEnabled(mockWorld2UUID))
+							{
+								failures.incrementAndGet();
+							}
+						}
+					}
+					catch (Throwable t)
+					{
+						error.compareAndSet(null, t);
+					}
+				});
+			}
+
+			started.await();
+			for (int i = 0; i < 2_000; i++)
+			{
+				worldManager.reload();
+			}
+			running.set(false);
+			executor.shutdown();
+
+			assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS), "reader threads did not terminate.");
+			assertNull(error.get(), "a reader thread threw an exception.");
+			assertEquals(0, failures.get(), "a reader observed an incomplete registry.");
 		}
 	}
 
@@ -514,6 +2333,8 @@ public class WorldManagerTests
 	{
 		when(mockPlugin.getServer()).thenReturn(mockServer);
 		when(mockServer.getPluginManager()).thenReturn(mockPluginManager);
+		when(mockServer.getServicesManager()).thenReturn(mockServicesManager);
+		when(mockServicesManager.load(WorldRegistryService.class)).thenReturn(null);
 		when(mockPluginManager.getPlugin("Multiverse-Core")).thenReturn(null);
 	}
 
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager;
+
+import org.bukkit.World;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+
+@ExtendWith(MockitoExtension.class)
+class WorldNameIndexTest
+{
+	@Mock World worldMock;
+	@Mock World otherWorldMock;
+
+	private final static UUID WORLD_UID = new UUID(1, 0);
+	private final static UUID OTHER_WORLD_UID = new UUID(1, 1);
+
+
+	@Test
+	void get_returns_uid_for_exact_name()
+	{
+		// Arrange
+		when(worldMock.getName()).thenReturn("World");
+		when(worldMock.getUID()).thenReturn(WORLD_UID);
+		WorldNameIndex index = WorldNameIndex.of(List.of(worldMock));
+
+		// Act
+		UUID result = index.get("World");
+
+		// Assert
+		assertEquals(WORLD_UID, result);
+	}
+
+
+	@Test
+	void get_returns_uid_ignoring_case()
+	{
+		// Arrange
+		when(worldMock.getName()).thenReturn("World");
+		when(worldMock.getUID()).thenReturn(WORLD_UID);
+		WorldNameIndex index = WorldNameIndex.of(List.of(worldMock));
+
+		// Act
+		UUID result = index.get("WORLD");
+
+		// Assert
+		assertEquals(WORLD_UID, result);
+	}
+
+
+	@Test
+	void get_returns_null_for_unknown_or_null_name()
+	{
+		// Arrange
+		when(worldMock.getName()).thenReturn("world");
+		when(worldMock.getUID()).thenReturn(WORLD_UID);
+		WorldNameIndex index = WorldNameIndex.of(List.of(worldMock));
+
+		// Act & Assert
+		assertNull(index.get("nonexistent"));
+		assertNull(index.get(null));
+	}
+
+
+	@Test
+	void with_adds_world_without_modifying_original()
+	{
+		// Arrange
+		when(worldMock.getName()).thenReturn("world");
+		when(worldMock.getUID()).thenReturn(WORLD_UID);
+		when(otherWorldMock.getName()).thenReturn("other");
+		when(otherWorldMock.getUID()).thenReturn(OTHER_WORLD_UID);
+		WorldNameIndex index = WorldNameIndex.of(List.of(worldMock));
+
+		// Act
+		WorldNameIndex result = index.with(otherWorldMock);
+
+		// Assert
+		assertEquals(OTHER_WORLD_UID, result.get("other"));
+		assertEquals(2, result.size());
+		assertNull(index.get("other"));
+	}
+
+
+	@Test
+	void without_removes_world()
+	{
+		// Arrange
+		when(worldMock.getName()).thenReturn("world");
+		when(worldMock.getUID()).thenReturn(WORLD_UID);
+		WorldNameIndex index = WorldNameIndex.of(List.of(worldMock));
+
+		// Act
+		WorldNameIndex result = index.without(worldMock);
+
+		// Assert
+		assertNull(result.get("world"));
+		assertEquals(0, result.size());
+	}
+
+
+
+	@Test
+	void without_keeps_entries_of_world_whose_name_differs_only_by_case()
+	{
+		// Arrange
+		when(worldMock.getName()).thenReturn("World");
+		when(worldMock.getUID()).thenReturn(WORLD_UID);
+		when(otherWorldMock.getName()).thenReturn("world");
+		when(otherWorldMock.getUID()).thenReturn(OTHER_WORLD_UID);
+		WorldNameIndex index = WorldNameIndex.of(List.of(worldMock, otherWorldMock));
+
+		// Act
+		WorldNameIndex withoutUpper = index.without(worldMock);
+		WorldNameIndex withoutLower = index.without(otherWorldMock);
+
+		// Assert
+		assertEquals(1, withoutUpper.size());
+		assertEquals(OTHER_WORLD_UID, withoutUpper.get("world"));
+		assertEquals(OTHER_WORLD_UID, withoutUpper.get("WORLD"));
+		assertEquals(1, withoutLower.size());
+		assertEquals(WORLD_UID, withoutLower.get("World"));
+		assertEquals(WORLD_UID, withoutLower.get("WORLD"));
+	}
+
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class WorldNameMatcherTest
+{
+	private final static Logger LOGGER = Logger.getLogger(WorldNameMatcherTest.class.getName());
+
+
+	@Test
+	void compile_empty_list_returns_empty_matcher()
+	{
+		// Arrange & Act
+		WorldNameMatcher matcher = WorldNameMatcher.compile(List.of(), LOGGER);
+
+		// Assert
+		assertTrue(matcher.isEmpty());
+		assertFalse(matcher.matches("world"));
+	}
+
+
+	@Test
+	void matches_exact_name()
+	{
+		// Arrange
+		WorldNameMatcher matcher = WorldNameMatcher.compile(List.of("World_Nether"), LOGGER);
+
+		// Act & Assert
+		assertFalse(matcher.isEmpty());
+		assertTrue(matcher.matches("world_nether"));
+		assertFalse(matcher.matches("world"));
+	}
+
+
+	@Test
+	void matches_trailing_wildcard_prefix()
+	{
+		// Arrange
+		WorldNameMatcher matcher = WorldNameMatcher.compile(List.of("dungeon_*", "dun*"), LOGGER);
+
+		// Act & Assert
+		assertTrue(matcher.matches("dungeon_0001"));
+		assertTrue(matcher.matches("dungeon_"));
+		assertTrue(matcher.matches("dune"));
+		assertFalse(matcher.matches("du"));
+		assertFalse(matcher.matches("world"));
+	}
+
+
+	@Test
+	void matches_lone_wildcard_for_every_name()
+	{
+		// Arrange
+		WorldNameMatcher matcher = WorldNameMatcher.compile(List.of("*"), LOGGER);
+
+		// Act & Assert
+		assertTrue(matcher.matches("world"));
+		assertTrue(matcher.matches(""));
+	}
+
+
+	@Test
+	void matches_general_glob()
+	{
+		// Arrange
+		WorldNameMatcher matcher = WorldNameMatcher.compile(List.of("*_nether", "world_?", "a.b*"), LOGGER);
+
+		// Act & Assert
+		assertTrue(matcher.matches("world_nether"));
+		assertTrue(matcher.matches("world_1"));
+		assertFalse(matcher.matches("world_12"));
+		assertTrue(matcher.matches("a.bc"));
+		assertFalse(matcher.matches("axbc"), "glob literals must not be treated as regex");
+	}
+
+
+	@Test
+	void matches_regex()
+	{
+		// Arrange
+		WorldNameMatcher matcher = WorldNameMatcher.compile(List.of("re:^arena_\\d+$", "re:^(\\w)\\1$"), LOGGER);
+
+		// Act & Assert
+		assertTrue(matcher.matches("arena_12"));
+		assertFalse(matcher.matches("arena_twelve"));
+		assertTrue(matcher.matches("aa"));
+		assertFalse(matcher.matches("ab"));
+	}
+
+
+	@Test
+	void matches_regex_case_insensitive()
+	{
+		// Arrange
+		WorldNameMatcher matcher = WorldNameMatcher.compile(List.of("re:^ARENA_"), LOGGER);
+
+		// Act & Assert
+		assertTrue(matcher.matches("arena_1"));
+	}
+
+
+	@Test
+	void compile_skips_invalid_regex()
+	{
+		// Arrange & Act
+		WorldNameMatcher matcher = WorldNameMatcher.compile(List.of("re:[unclosed", "world"), LOGGER);
+
+		// Assert
+		assertTrue(matcher.matches("world"));
+		assertFalse(matcher.matches("[unclosed"));
+	}
+
+
+	@Test
+	void compile_skips_blank_entries()
+	{
+		// Arrange & Act
+		WorldNameMatcher matcher = WorldNameMatcher.compile(List.of("", "  "), LOGGER);
+
+		// Assert
+		assertTrue(matcher.isEmpty());
+	}
+
+
+
+	@Test
+	void compile_keeps_regex_that_breaks_when_combined()
+	{
+		// Arrange & Act
+		WorldNameMatcher matcher = WorldNameMatcher.compile(
+				List.of("re:\\Qarena_", "re:(?x)^dungeon_ # generated dungeons", "re:^hub$"), LOGGER);
+
+		// Assert
+		assertTrue(matcher.matches("arena_1"));
+		assertTrue(matcher.matches("dungeon_0001"));
+		assertTrue(matcher.matches("hub"));
+		assertFalse(matcher.matches("world"));
+	}
+
+}
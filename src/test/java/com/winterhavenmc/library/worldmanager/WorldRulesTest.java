@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager;
+
+import org.bukkit.World;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+
+class WorldRulesTest
+{
+	private final static Logger LOGGER = Logger.getLogger(WorldRulesTest.class.getName());
+
+	@Test
+	void isEnabled_with_empty_lists_enables_all_worlds()
+	{
+		// Arrange
+		WorldRules rules = new WorldRules(List.of(), List.of(), LOGGER);
+
+		// Act & Assert
+		assertTrue(rules.isEnabled("world"));
+		assertTrue(rules.isEnabled("any_world"));
+	}
+
+
+	@Test
+	void isEnabled_with_enabled_list_enables_only_listed_worlds()
+	{
+		// Arrange
+		WorldRules rules = new WorldRules(List.of("world", "world_nether"), List.of(), LOGGER);
+
+		// Act & Assert
+		assertTrue(rules.isEnabled("world"));
+		assertTrue(rules.isEnabled("world_nether"));
+		assertFalse(rules.isEnabled("world_the_end"));
+	}
+
+
+	@Test
+	void isEnabled_disabled_list_takes_precedence()
+	{
+		// Arrange
+		WorldRules rules = new WorldRules(List.of("world", "world_nether"), List.of("world_nether"), LOGGER);
+
+		// Act & Assert
+		assertTrue(rules.isEnabled("world"));
+		assertFalse(rules.isEnabled("world_nether"));
+	}
+
+
+	@Test
+	void isEnabled_ignores_case()
+	{
+		// Arrange
+		WorldRules rules = new WorldRules(List.of("World"), List.of(), LOGGER);
+
+		// Act & Assert
+		assertTrue(rules.isEnabled("WORLD"));
+		assertTrue(rules.isEnabled("world"));
+	}
+
+
+	@Test
+	void isEnabled_with_null_name_returns_false()
+	{
+		// Arrange
+		WorldRules rules = WorldRules.ALL_ENABLED;
+
+		// Act & Assert
+		assertFalse(rules.isEnabled((String) null));
+	}
+
+
+	@Test
+	void isEnabled_with_patterns()
+	{
+		// Arrange
+		WorldRules rules = new WorldRules(List.of("dungeon_*", "re:^arena_\\d+$"), List.of("dungeon_0013"), LOGGER);
+
+		// Act & Assert
+		assertTrue(rules.isEnabled("dungeon_0001"));
+		assertFalse(rules.isEnabled("dungeon_0013"));
+		assertTrue(rules.isEnabled("arena_12"));
+		assertFalse(rules.isEnabled("arena_twelve"));
+		assertFalse(rules.isEnabled("world"));
+	}
+
+
+	@Test
+	void isEnabled_by_world_caches_result_per_uid()
+	{
+		// Arrange
+		World world = mock(World.class);
+		when(world.getUID()).thenReturn(new UUID(1, 1));
+		when(world.getName()).thenReturn("dungeon_0001");
+		WorldRules rules = new WorldRules(List.of("dungeon_*"), List.of(), LOGGER);
+
+		// Act
+		boolean first = rules.isEnabled(world);
+		boolean second = rules.isEnabled(world);
+
+		// Assert
+		assertTrue(first);
+		assertTrue(second);
+
+		// Verify
+		verify(world, times(1)).getName();
+	}
+
+}
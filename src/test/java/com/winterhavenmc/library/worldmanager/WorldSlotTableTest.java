@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager;
+
+import org.bukkit.World;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static com.winterhavenmc.library.worldmanager.WorldSlotTable.NO_SLOT;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+
+@ExtendWith(MockitoExtension.class)
+class WorldSlotTableTest
+{
+	@Mock World worldMock;
+	@Mock World otherWorldMock;
+	@Mock World thirdWorldMock;
+
+
+	@Test
+	void update_assigns_dense_slots()
+	{
+		// Arrange & Act
+		WorldSlotTable slotTable = WorldSlotTable.EMPTY.update(List.of(worldMock, otherWorldMock));
+
+		// Assert
+		assertEquals(0, slotTable.slotOf(worldMock));
+		assertEquals(1, slotTable.slotOf(otherWorldMock));
+		assertEquals(NO_SLOT, slotTable.slotOf(thirdWorldMock));
+		assertEquals(NO_SLOT, slotTable.slotOf(null));
+		assertEquals(2, slotTable.size());
+	}
+
+
+	@Test
+	void update_keeps_existing_slots_and_drops_missing_worlds()
+	{
+		// Arrange
+		WorldSlotTable slotTable = WorldSlotTable.EMPTY.update(List.of(worldMock, otherWorldMock));
+
+		// Act
+		WorldSlotTable result = slotTable.update(List.of(thirdWorldMock, otherWorldMock));
+
+		// Assert
+		assertEquals(NO_SLOT, result.slotOf(worldMock));
+		assertEquals(1, result.slotOf(otherWorldMock));
+		assertEquals(2, result.slotOf(thirdWorldMock));
+	}
+
+
+	@Test
+	void with_and_without_do_not_reuse_slots()
+	{
+		// Arrange
+		WorldSlotTable slotTable = WorldSlotTable.EMPTY.with(worldMock);
+
+		// Act
+		WorldSlotTable result = slotTable.without(worldMock).with(otherWorldMock).with(worldMock);
+
+		// Assert
+		assertEquals(0, slotTable.slotOf(worldMock), "original table should be unchanged");
+		assertEquals(1, result.slotOf(otherWorldMock));
+		assertEquals(2, result.slotOf(worldMock));
+	}
+
+
+	@Test
+	void with_existing_world_returns_same_table()
+	{
+		// Arrange
+		WorldSlotTable slotTable = WorldSlotTable.EMPTY.with(worldMock);
+
+		// Act & Assert
+		assertSame(slotTable, slotTable.with(worldMock));
+		assertSame(slotTable, slotTable.without(otherWorldMock));
+	}
+
+
+
+	@Test
+	void update_renumbers_slots_once_many_are_retired()
+	{
+		// Arrange
+		WorldSlotTable slotTable = WorldSlotTable.EMPTY.update(List.of(worldMock, otherWorldMock));
+		for (int i = 0; i <= WorldSlotTable.MIN_RETIRED_SLOTS; i++)
+		{
+			World churnedWorld = mock(World.class);
+			slotTable = slotTable.with(churnedWorld).without(churnedWorld);
+		}
+
+		// Act
+		WorldSlotTable result = slotTable.update(List.of(otherWorldMock, thirdWorldMock));
+
+		// Assert
+		assertEquals(WorldSlotTable.MIN_RETIRED_SLOTS + 3, slotTable.slotCount());
+		assertEquals(0, result.slotOf(otherWorldMock));
+		assertEquals(1, result.slotOf(thirdWorldMock));
+		assertEquals(NO_SLOT, result.slotOf(worldMock));
+		assertEquals(2, result.slotCount());
+	}
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager;
+
+import com.winterhavenmc.library.worldmanager.spawn.SpawnSnapshot;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class WorldStateFileTest
+{
+	private final static Logger LOGGER = Logger.getLogger(WorldStateFileTest.class.getName());
+
+	@TempDir
+	Path tempDir;
+
+
+	@Test
+	void write_then_read_returns_same_entries() throws IOException
+	{
+		// Arrange
+		Path path = tempDir.resolve(WorldStateFile.FILE_NAME);
+		List<WorldStateFile.Entry> entries = List.of(
+				new WorldStateFile.Entry(new UUID(1, 0), "world", "Overworld", true,
+						new SpawnSnapshot(1.5, 64.0, -2.5, 90.0f, 0.0f)),
+				new WorldStateFile.Entry(new UUID(1, 1), "nether", "N\u00EBther", false, null));
+
+		// Act
+		WorldStateFile.write(path, entries);
+
+		// Assert
+		assertEquals(entries, WorldStateFile.read(path, LOGGER));
+	}
+
+
+	@Test
+	void write_replaces_previous_file() throws IOException
+	{
+		// Arrange
+		Path path = tempDir.resolve(WorldStateFile.FILE_NAME);
+		WorldStateFile.write(path, List.of(new WorldStateFile.Entry(new UUID(1, 0), "world", "world", true, null)));
+
+		// Act
+		WorldStateFile.write(path, List.of());
+
+		// Assert
+		assertTrue(WorldStateFile.read(path, LOGGER).isEmpty());
+		try (var files = Files.list(tempDir))
+		{
+			assertEquals(1, files.count());
+		}
+	}
+
+
+	@Test
+	void write_creates_data_folder() throws IOException
+	{
+		// Arrange
+		Path path = tempDir.resolve("plugin").resolve(WorldStateFile.FILE_NAME);
+
+		// Act
+		WorldStateFile.write(path, List.of());
+
+		// Assert
+		assertTrue(Files.exists(path));
+	}
+
+
+	@Test
+	void read_missing_file_returns_empty_list()
+	{
+		assertTrue(WorldStateFile.read(tempDir.resolve(WorldStateFile.FILE_NAME), LOGGER).isEmpty());
+	}
+
+
+	@Test
+	void read_file_with_wrong_magic_returns_empty_list() throws IOException
+	{
+		// Arrange
+		Path path = tempDir.resolve(WorldStateFile.FILE_NAME);
+		Files.write(path, new byte[] { 'n', 'o', 'p', 'e', 0, 1, 0, 0, 0, 0 });
+
+		// Act & Assert
+		assertTrue(WorldStateFile.read(path, LOGGER).isEmpty());
+	}
+
+
+	@Test
+	void read_file_with_other_version_returns_empty_list() throws IOException
+	{
+		// Arrange
+		Path path = tempDir.resolve(WorldStateFile.FILE_NAME);
+		ByteBuffer buffer = ByteBuffer.allocate(10).putInt(WorldStateFile.MAGIC).putShort((short) 99).putInt(0);
+		Files.write(path, buffer.array());
+
+		// Act & Assert
+		assertTrue(WorldStateFile.read(path, LOGGER).isEmpty());
+	}
+
+
+	@Test
+	void read_truncated_file_returns_empty_list() throws IOException
+	{
+		// Arrange
+		Path path = tempDir.resolve(WorldStateFile.FILE_NAME);
+		WorldStateFile.write(path, List.of(new WorldStateFile.Entry(new UUID(1, 0), "world", "Overworld", true,
+				new SpawnSnapshot(0.0, 64.0, 0.0, 0.0f, 0.0f))));
+		byte[] bytes = Files.readAllBytes(path);
+		Files.write(path, Arrays.copyOf(bytes, bytes.length - 4));
+
+		// Act & Assert
+		assertTrue(WorldStateFile.read(path, LOGGER).isEmpty());
+	}
+
+
+	@Test
+	void decode_rejects_negative_entry_count()
+	{
+		// Arrange
+		ByteBuffer buffer = ByteBuffer.allocate(10).putInt(WorldStateFile.MAGIC).putShort(WorldStateFile.VERSION).putInt(-1).flip();
+
+		// Act & Assert
+		assertThrows(IllegalArgumentException.class, () -> WorldStateFile.decode(buffer));
+	}
+
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager.details;
+
+import com.onarandombox.MultiverseCore.MVWorld;
+import com.onarandombox.MultiverseCore.api.MVWorldManager;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mvplugins.multiverse.core.MultiverseCoreApi;
+import org.mvplugins.multiverse.core.world.MultiverseWorld;
+import org.mvplugins.multiverse.core.world.WorldManager;
+import org.mvplugins.multiverse.external.vavr.control.Option;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+class PluginResolverTest
+{
+	@Mock World worldMock;
+	@Mock Location worldSpawnMock;
+	@Mock Location mvSpawnMock;
+	@Mock PluginDescriptionFile descriptionMock;
+	@Mock com.onarandombox.MultiverseCore.MultiverseCore mv4Mock;
+	@Mock MVWorldManager mv4WorldManagerMock;
+	@Mock MVWorld mv4WorldMock;
+	@Mock org.mvplugins.multiverse.core.MultiverseCore mv5Mock;
+	@Mock MultiverseCoreApi multiverseCoreApiMock;
+	@Mock WorldManager mv5WorldManagerMock;
+	@Mock MultiverseWorld mv5WorldMock;
+
+
+	@Test
+	void resolve_with_null_world_returns_null()
+	{
+		// Arrange
+		PluginResolver resolver = new PluginResolver(mv4Mock);
+
+		// Act
+		WorldDetails result = resolver.resolve(null);
+
+		// Assert
+		assertNull(result);
+	}
+
+
+	@Test
+	void resolve_with_Multiverse_4_reads_world_record_once()
+	{
+		// Arrange
+		when(mv4Mock.getDescription()).thenReturn(descriptionMock);
+		when(descriptionMock.getVersion()).thenReturn("4.3.16");
+		when(mv4Mock.getMVWorldManager()).thenReturn(mv4WorldManagerMock);
+		when(mv4WorldManagerMock.getMVWorld(worldMock)).thenReturn(mv4WorldMock);
+		when(mv4WorldMock.getAlias()).thenReturn("World Alias");
+		when(mv4WorldMock.getSpawnLocation()).thenReturn(mvSpawnMock);
+		PluginResolver resolver = new PluginResolver(mv4Mock);
+
+		// Act
+		WorldDetails result = resolver.resolve(worldMock);
+
+		// Assert
+		assertEquals("World Alias", result.name());
+		assertEquals(mvSpawnMock, result.spawnLocation());
+
+		// Verify
+		verify(mv4WorldManagerMock, times(1)).getMVWorld(worldMock);
+		verify(worldMock, never()).getName();
+		verify(worldMock, never()).getSpawnLocation();
+	}
+
+
+	@Test
+	void resolve_with_Multiverse_4_falls_back_for_missing_values()
+	{
+		// Arrange
+		when(mv4Mock.getDescription()).thenReturn(descriptionMock);
+		when(descriptionMock.getVersion()).thenReturn("4.3.16");
+		when(mv4Mock.getMVWorldManager()).thenReturn(mv4WorldManagerMock);
+		when(mv4WorldManagerMock.getMVWorld(worldMock)).thenReturn(mv4WorldMock);
+		when(mv4WorldMock.getAlias()).thenReturn(" ");
+		when(mv4WorldMock.getSpawnLocation()).thenReturn(null);
+		when(worldMock.getName()).thenReturn("world");
+		when(worldMock.getSpawnLocation()).thenReturn(worldSpawnMock);
+		PluginResolver resolver = new PluginResolver(mv4Mock);
+
+		// Act
+		WorldDetails result = resolver.resolve(worldMock);
+
+		// Assert
+		assertEquals("world", result.name());
+		assertEquals(worldSpawnMock, result.spawnLocation());
+	}
+
+
+	@Test
+	void resolve_with_Multiverse_5_reads_world_record_once()
+	{
+		// Arrange
+		try (MockedStatic<MultiverseCoreApi> mocked = mockStatic(MultiverseCoreApi.class))
+		{
+			mocked.when(MultiverseCoreApi::get).thenReturn(multiverseCoreApiMock);
+			when(mv5Mock.getDescription()).thenReturn(descriptionMock);
+			when(descriptionMock.getVersion()).thenReturn("5.0.2");
+			when(multiverseCoreApiMock.getWorldManager()).thenReturn(mv5WorldManagerMock);
+			when(mv5WorldManagerMock.getWorld(worldMock)).thenReturn(Option.of(mv5WorldMock));
+			when(mv5WorldMock.getAliasOrName()).thenReturn("World Alias");
+			when(mv5WorldMock.getSpawnLocation()).thenReturn(mvSpawnMock);
+			PluginResolver resolver = new PluginResolver(mv5Mock);
+
+			// Act
+			WorldDetails result = resolver.resolve(worldMock);
+
+			// Assert
+			assertEquals("World Alias", result.name());
+			assertEquals(mvSpawnMock, result.spawnLocation());
+
+			// Verify
+			verify(mv5WorldManagerMock, times(1)).getWorld(worldMock);
+		}
+	}
+
+
+	@Test
+	void resolve_with_unsupported_version_uses_world_values()
+	{
+		// Arrange
+		when(mv4Mock.getDescription()).thenReturn(descriptionMock);
+		when(descriptionMock.getVersion()).thenReturn("3.0.0");
+		when(worldMock.getName()).thenReturn("world");
+		when(worldMock.getSpawnLocation()).thenReturn(worldSpawnMock);
+		PluginResolver resolver = new PluginResolver(mv4Mock);
+
+		// Act
+		WorldDetails result = resolver.resolve(worldMock);
+
+		// Assert
+		assertEquals("world", result.name());
+		assertEquals(worldSpawnMock, result.spawnLocation());
+
+		// Verify
+		verify(mv4Mock, never()).getMVWorldManager();
+	}
+
+}
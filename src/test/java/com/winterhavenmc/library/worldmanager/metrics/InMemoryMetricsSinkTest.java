@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class InMemoryMetricsSinkTest
+{
+	@Test
+	void recordLatency_counts_calls_per_operation()
+	{
+		// Arrange
+		InMemoryMetricsSink sink = new InMemoryMetricsSink();
+
+		// Act
+		sink.recordLatency(Operation.IS_ENABLED, 10L);
+		sink.recordLatency(Operation.IS_ENABLED, 20L);
+		sink.recordLatency(Operation.RELOAD, 1_000L);
+
+		// Assert
+		assertEquals(2, sink.getCallCount(Operation.IS_ENABLED));
+		assertEquals(1, sink.getCallCount(Operation.RELOAD));
+		assertEquals(0, sink.getCallCount(Operation.GET_WORLD_NAME));
+		assertEquals(15.0, sink.getHistogram(Operation.IS_ENABLED).getMean());
+	}
+
+
+	@Test
+	void recordCacheAccess_computes_hit_ratio()
+	{
+		// Arrange
+		InMemoryMetricsSink sink = new InMemoryMetricsSink();
+
+		// Act
+		sink.recordCacheAccess(Operation.GET_WORLD_NAME, true);
+		sink.recordCacheAccess(Operation.GET_WORLD_NAME, true);
+		sink.recordCacheAccess(Operation.GET_WORLD_NAME, true);
+		sink.recordCacheAccess(Operation.GET_WORLD_NAME, false);
+
+		// Assert
+		assertEquals(3, sink.getCacheHitCount(Operation.GET_WORLD_NAME));
+		assertEquals(1, sink.getCacheMissCount(Operation.GET_WORLD_NAME));
+		assertEquals(0.75, sink.getCacheHitRatio(Operation.GET_WORLD_NAME));
+		assertEquals(0.0, sink.getCacheHitRatio(Operation.GET_SPAWN_LOCATION));
+	}
+
+
+	@Test
+	void reset_discards_values()
+	{
+		// Arrange
+		InMemoryMetricsSink sink = new InMemoryMetricsSink();
+		sink.recordLatency(Operation.IS_ENABLED, 10L);
+		sink.recordCacheAccess(Operation.GET_WORLD_NAME, true);
+
+		// Act
+		sink.reset();
+
+		// Assert
+		assertEquals(0, sink.getCallCount(Operation.IS_ENABLED));
+		assertEquals(0, sink.getCacheHitCount(Operation.GET_WORLD_NAME));
+	}
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager.metrics;
+
+import org.bukkit.plugin.Plugin;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+
+@ExtendWith(MockitoExtension.class)
+class JmxMetricsSinkTest
+{
+	@Mock Plugin pluginMock;
+
+
+	@Test
+	void register_publishes_operation_metrics() throws JMException
+	{
+		// Arrange
+		when(pluginMock.getName()).thenReturn("JmxMetricsSinkTest");
+		JmxMetricsSink sink = new JmxMetricsSink(pluginMock);
+		MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+		ObjectName objectName = sink.objectName(Operation.IS_ENABLED);
+		sink.recordLatency(Operation.IS_ENABLED, 10L);
+		sink.recordCacheAccess(Operation.IS_ENABLED, true);
+
+		// Act
+		sink.register();
+
+		// Assert
+		try
+		{
+			assertTrue(mBeanServer.isRegistered(objectName));
+			assertEquals(1L, mBeanServer.getAttribute(objectName, "CallCount"));
+			assertEquals(1.0, mBeanServer.getAttribute(objectName, "CacheHitRatio"));
+		}
+		finally
+		{
+			sink.unregister();
+		}
+
+		// Verify
+		assertFalse(mBeanServer.isRegistered(objectName));
+	}
+
+
+	@Test
+	void recorded_values_are_readable_in_memory()
+	{
+		// Arrange
+		JmxMetricsSink sink = new JmxMetricsSink(pluginMock);
+
+		// Act
+		sink.recordLatency(Operation.RELOAD, 1_000L);
+
+		// Assert
+		assertEquals(1, sink.getMetrics().getCallCount(Operation.RELOAD));
+	}
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class LatencyHistogramTest
+{
+	@Test
+	void empty_histogram_reports_zero()
+	{
+		// Arrange
+		LatencyHistogram histogram = new LatencyHistogram();
+
+		// Act & Assert
+		assertEquals(0, histogram.getCount());
+		assertEquals(0, histogram.getMax());
+		assertEquals(0.0, histogram.getMean());
+		assertEquals(0, histogram.getValueAtPercentile(99.0));
+	}
+
+
+	@Test
+	void small_values_are_exact()
+	{
+		// Arrange
+		LatencyHistogram histogram = new LatencyHistogram();
+
+		// Act
+		for (long value = 1; value <= 10; value++)
+		{
+			histogram.record(value);
+		}
+
+		// Assert
+		assertEquals(10, histogram.getCount());
+		assertEquals(10, histogram.getMax());
+		assertEquals(5.5, histogram.getMean());
+		assertEquals(5, histogram.getValueAtPercentile(50.0));
+		assertEquals(10, histogram.getValueAtPercentile(100.0));
+	}
+
+
+	@Test
+	void large_values_are_within_bucket_precision()
+	{
+		// Arrange
+		LatencyHistogram histogram = new LatencyHistogram();
+
+		// Act
+		for (int i = 0; i < 99; i++)
+		{
+			histogram.record(1_000L);
+		}
+		histogram.record(5_000_000L);
+
+		// Assert
+		long p50 = histogram.getValueAtPercentile(50.0);
+		assertTrue(p50 >= 1_000L && p50 <= 1_000L * 107 / 100, "p50 was " + p50);
+		assertEquals(5_000_000L, histogram.getValueAtPercentile(100.0));
+	}
+
+
+	@Test
+	void negative_values_are_recorded_as_zero()
+	{
+		// Arrange
+		LatencyHistogram histogram = new LatencyHistogram();
+
+		// Act
+		histogram.record(-5L);
+
+		// Assert
+		assertEquals(1, histogram.getCount());
+		assertEquals(0, histogram.getValueAtPercentile(50.0));
+	}
+
+
+	@Test
+	void bucket_index_and_upper_bound_are_consistent()
+	{
+		// Arrange & Act & Assert
+		for (long value : new long[] { 0L, 15L, 16L, 17L, 31L, 32L, 33L, 1_000L, 123_456_789L, 1L << 41, (1L << 42) - 1 })
+		{
+			int index = LatencyHistogram.bucketIndex(value);
+			assertTrue(LatencyHistogram.bucketUpperBound(index) >= value, "upper bound below value " + value);
+			assertTrue(index == 0 || LatencyHistogram.bucketUpperBound(index - 1) < value, "value " + value + " fits an earlier bucket");
+		}
+		assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.bucketIndex(Long.MAX_VALUE));
+	}
+
+
+	@Test
+	void reset_discards_values()
+	{
+		// Arrange
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(100L);
+
+		// Act
+		histogram.reset();
+
+		// Assert
+		assertEquals(0, histogram.getCount());
+		assertEquals(0, histogram.getMax());
+	}
+
+}
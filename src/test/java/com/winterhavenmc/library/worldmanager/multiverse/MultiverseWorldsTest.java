@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+
+package com.winterhavenmc.library.worldmanager.multiverse;
+
+import com.onarandombox.MultiverseCore.MVWorld;
+import com.onarandombox.MultiverseCore.api.MVWorldManager;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+class MultiverseWorldsTest
+{
+	@Mock World worldMock;
+	@Mock Location locationMock;
+	@Mock Plugin pluginMock;
+	@Mock PluginDescriptionFile descriptionMock;
+	@Mock com.onarandombox.MultiverseCore.MultiverseCore mv4Mock;
+	@Mock MVWorldManager mv4WorldManagerMock;
+	@Mock MVWorld mv4WorldMock;
+
+
+	@Test
+	void of_null_plugin_returns_NONE()
+	{
+		// Act
+		MultiverseWorlds result = MultiverseWorlds.of(null);
+
+		// Assert
+		assertSame(MultiverseWorlds.NONE, result);
+	}
+
+
+	@Test
+	void of_plugin_that_is_not_Multiverse_returns_NONE()
+	{
+		// Arrange
+		when(pluginMock.getDescription()).thenReturn(descriptionMock);
+		when(descriptionMock.getVersion()).thenReturn("4.3.16");
+
+		// Act
+		MultiverseWorlds result = MultiverseWorlds.of(pluginMock);
+
+		// Assert
+		assertSame(MultiverseWorlds.NONE, result);
+	}
+
+
+	@Test
+	void find_with_Multiverse_4_reads_world_record_once()
+	{
+		// Arrange
+		when(mv4Mock.getDescription()).thenReturn(descriptionMock);
+		when(descriptionMock.getVersion()).thenReturn("4.3.16");
+		when(mv4Mock.getMVWorldManager()).thenReturn(mv4WorldManagerMock);
+		when(mv4WorldManagerMock.getMVWorld(worldMock)).thenReturn(mv4WorldMock);
+		when(mv4WorldMock.getAlias()).thenReturn("World Alias");
+		when(mv4WorldMock.getSpawnLocation()).thenReturn(locationMock);
+		MultiverseWorlds worlds = MultiverseWorlds.of(mv4Mock);
+
+		// Act
+		Optional<MultiverseWorldRecord> result = worlds.find(worldMock);
+
+		// Assert
+		assertTrue(result.isPresent());
+		assertEquals("World Alias", result.get().alias());
+		assertEquals(locationMock, result.get().spawnLocation());
+
+		// Verify
+		verify(mv4WorldManagerMock, times(1)).getMVWorld(worldMock);
+	}
+
+
+	@Test
+	void find_with_null_world_returns_empty_optional()
+	{
+		// Arrange
+		MultiverseWorlds worlds = MultiverseWorlds.version4(mv4Mock);
+
+		// Act
+		Optional<MultiverseWorldRecord> result = worlds.find(null);
+
+		// Assert
+		assertTrue(result.isEmpty());
+
+		// Verify
+		verify(mv4Mock, never()).getMVWorldManager();
+	}
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager.scheduler;
+
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+class BukkitTaskSchedulerTest
+{
+	@Mock Plugin pluginMock;
+	@Mock Server serverMock;
+	@Mock BukkitScheduler bukkitSchedulerMock;
+	@Mock World worldMock;
+
+
+	@Test
+	void get_returns_Bukkit_scheduler_when_not_Folia()
+	{
+		// Act
+		TaskScheduler result = TaskScheduler.get(pluginMock);
+
+		// Assert
+		assertInstanceOf(BukkitTaskScheduler.class, result);
+		assertFalse(FoliaTaskScheduler.isFolia());
+	}
+
+
+	@Test
+	void runForWorld_runs_on_calling_thread()
+	{
+		// Arrange
+		AtomicBoolean ran = new AtomicBoolean();
+		BukkitTaskScheduler scheduler = new BukkitTaskScheduler(pluginMock);
+
+		// Act
+		scheduler.runForWorld(worldMock, () -> ran.set(true));
+
+		// Assert
+		assertTrue(ran.get());
+		assertTrue(scheduler.isOwnedByCurrentThread(worldMock));
+
+		// Verify
+		verifyNoInteractions(pluginMock);
+	}
+
+
+	@Test
+	void runGlobal_runs_immediately_on_primary_thread()
+	{
+		// Arrange
+		AtomicBoolean ran = new AtomicBoolean();
+		when(pluginMock.getServer()).thenReturn(serverMock);
+		when(serverMock.isPrimaryThread()).thenReturn(true);
+		BukkitTaskScheduler scheduler = new BukkitTaskScheduler(pluginMock);
+
+		// Act
+		scheduler.runGlobal(() -> ran.set(true));
+
+		// Assert
+		assertTrue(ran.get());
+
+		// Verify
+		verify(serverMock, never()).getScheduler();
+	}
+
+
+	@Test
+	void runGlobal_schedules_task_off_primary_thread()
+	{
+		// Arrange
+		Runnable task = () -> { };
+		when(pluginMock.getServer()).thenReturn(serverMock);
+		when(serverMock.isPrimaryThread()).thenReturn(false);
+		when(serverMock.getScheduler()).thenReturn(bukkitSchedulerMock);
+		BukkitTaskScheduler scheduler = new BukkitTaskScheduler(pluginMock);
+
+		// Act
+		scheduler.runGlobal(task);
+
+		// Verify
+		verify(bukkitSchedulerMock, times(1)).runTask(pluginMock, task);
+	}
+
+
+	@Test
+	void runAsync_uses_Bukkit_async_task()
+	{
+		// Arrange
+		Runnable task = () -> { };
+		when(pluginMock.getServer()).thenReturn(serverMock);
+		when(serverMock.getScheduler()).thenReturn(bukkitSchedulerMock);
+		BukkitTaskScheduler scheduler = new BukkitTaskScheduler(pluginMock);
+
+		// Act
+		scheduler.runAsync(task);
+
+		// Verify
+		verify(bukkitSchedulerMock, times(1)).runTaskAsynchronously(pluginMock, task);
+	}
+
+}
@@ -178,4 +178,60 @@ class Multiverse5RetrieverTest
 		}
 	}
 
+
+	@Test
+	void getSpawnLocation_acquires_WorldManager_once()
+	{
+		// Arrange
+		try (MockedStatic<MultiverseCoreApi> mocked = mockStatic(MultiverseCoreApi.class)) {
+			mocked.when(MultiverseCoreApi::get).thenReturn(multiverseCoreApiMock);
+
+			when(multiverseCoreApiMock.getWorldManager()).thenReturn(worldManagerMock);
+			when(worldManagerMock.getWorld(worldMock)).thenReturn(Option.of(multiverseWorldMock));
+			when(multiverseWorldMock.getSpawnLocation()).thenReturn(locationMock);
+			Multiverse5Retriever retriever = new Multiverse5Retriever();
+
+			// Act
+			retriever.getSpawnLocation(worldMock);
+			retriever.getSpawnLocation(worldMock);
+			Optional<Location> result = retriever.getSpawnLocation(worldMock);
+
+			// Assert
+			assertEquals(Optional.of(locationMock), result);
+
+			// Verify
+			mocked.verify(MultiverseCoreApi::get, times(1));
+			verify(multiverseCoreApiMock, times(1)).getWorldManager();
+			verify(worldManagerMock, times(3)).getWorld(worldMock);
+		}
+	}
+
+	@Test
+	void getSpawnLocation_retries_after_MultiverseApi_fails()
+	{
+		// Arrange
+		Multiverse5Retriever retriever = new Multiverse5Retriever();
+
+		try (MockedStatic<MultiverseCoreApi> mocked = mockStatic(MultiverseCoreApi.class)) {
+			mocked.when(MultiverseCoreApi::get)
+					.thenThrow(new IllegalStateException("not loaded"))
+					.thenReturn(multiverseCoreApiMock);
+
+			when(multiverseCoreApiMock.getWorldManager()).thenReturn(worldManagerMock);
+			when(worldManagerMock.getWorld(worldMock)).thenReturn(Option.of(multiverseWorldMock));
+			when(multiverseWorldMock.getSpawnLocation()).thenReturn(locationMock);
+
+			// Act
+			Optional<Location> failed = retriever.getSpawnLocation(worldMock);
+			Optional<Location> result = retriever.getSpawnLocation(worldMock);
+
+			// Assert
+			assertEquals(Optional.empty(), failed);
+			assertEquals(Optional.of(locationMock), result);
+
+			// Verify
+			mocked.verify(MultiverseCoreApi::get, times(2));
+		}
+	}
+
 }
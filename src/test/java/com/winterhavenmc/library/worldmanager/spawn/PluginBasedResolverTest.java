@@ -121,6 +121,27 @@ class PluginBasedResolverTest
 	}
 
 
+	@Test
+	void resolve_with_Multiverse_4_selects_retriever_once()
+	{
+		// Arrange
+		when(mv4Mock.getDescription()).thenReturn(mv4DescriptionMock);
+		when(mv4DescriptionMock.getVersion()).thenReturn("4.3.16");
+		when(mv4Mock.getMVWorldManager()).thenReturn(mv4WorldManagerMock);
+		when(mv4WorldManagerMock.getMVWorld(worldMock)).thenReturn(mv4WorldMock);
+		when(mv4WorldMock.getSpawnLocation()).thenReturn(locationMock);
+		PluginBasedResolver resolver = new PluginBasedResolver(mv4Mock);
+
+		// Act
+		resolver.resolve(worldMock);
+		resolver.resolve(worldMock);
+
+		// Verify
+		verify(mv4Mock, times(1)).getDescription();
+		verify(mv4DescriptionMock, times(1)).getVersion();
+	}
+
+
 //	@Test
 //	void resolve_with_valid_parameter_returns_location_mv5()
 //	{
@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager.spawn;
+
+import com.winterhavenmc.library.worldmanager.scheduler.TaskScheduler;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+class SpawnLocationCacheTest
+{
+	@Mock World worldMock;
+	@Mock PluginBasedResolver resolverMock;
+
+	private final static UUID WORLD_UID = new UUID(1, 1);
+
+
+	@Test
+	void get_resolves_once_and_serves_from_cache()
+	{
+		// Arrange
+		when(worldMock.getUID()).thenReturn(WORLD_UID);
+		when(resolverMock.resolve(worldMock)).thenReturn(new Location(worldMock, 1.0, 2.0, 3.0, 90.0f, 10.0f));
+		SpawnLocationCache cache = new SpawnLocationCache();
+
+		// Act
+		Location first = cache.get(worldMock, resolverMock);
+		Location second = cache.get(worldMock, resolverMock);
+
+		// Assert
+		assertEquals(first, second);
+		assertEquals(1.0, second.getX());
+		assertEquals(2.0, second.getY());
+		assertEquals(3.0, second.getZ());
+		assertEquals(90.0f, second.getYaw());
+		assertEquals(10.0f, second.getPitch());
+		assertEquals(1, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+		assertEquals(0.5, cache.getHitRatio());
+
+		// Verify
+		verify(resolverMock, times(1)).resolve(worldMock);
+	}
+
+
+	@Test
+	void get_returns_new_location_for_each_call()
+	{
+		// Arrange
+		when(worldMock.getUID()).thenReturn(WORLD_UID);
+		when(resolverMock.resolve(worldMock)).thenReturn(new Location(worldMock, 1.0, 2.0, 3.0));
+		SpawnLocationCache cache = new SpawnLocationCache();
+
+		// Act
+		Location first = cache.get(worldMock, resolverMock);
+		first.setX(100.0);
+		Location second = cache.get(worldMock, resolverMock);
+
+		// Assert
+		assertNotSame(first, second);
+		assertEquals(1.0, second.getX());
+	}
+
+
+	@Test
+	void get_does_not_cache_null_result()
+	{
+		// Arrange
+		when(worldMock.getUID()).thenReturn(WORLD_UID);
+		when(resolverMock.resolve(worldMock)).thenReturn(null);
+		SpawnLocationCache cache = new SpawnLocationCache();
+
+		// Act
+		Location result = cache.get(worldMock, resolverMock);
+
+		// Assert
+		assertNull(result);
+		assertEquals(0, cache.size());
+	}
+
+
+	@Test
+	void invalidate_removes_entry()
+	{
+		// Arrange
+		when(worldMock.getUID()).thenReturn(WORLD_UID);
+		when(resolverMock.resolve(worldMock)).thenReturn(new Location(worldMock, 1.0, 2.0, 3.0));
+		SpawnLocationCache cache = new SpawnLocationCache();
+		cache.get(worldMock, resolverMock);
+
+		// Act
+		cache.invalidate(WORLD_UID);
+		cache.get(worldMock, resolverMock);
+
+		// Assert
+		assertEquals(2, cache.getMissCount());
+
+		// Verify
+		verify(resolverMock, times(2)).resolve(worldMock);
+	}
+
+
+	@Test
+	void invalidateAll_removes_all_entries()
+	{
+		// Arrange
+		when(worldMock.getUID()).thenReturn(WORLD_UID);
+		when(resolverMock.resolve(worldMock)).thenReturn(new Location(worldMock, 1.0, 2.0, 3.0));
+		SpawnLocationCache cache = new SpawnLocationCache();
+		cache.get(worldMock, resolverMock);
+
+		// Act
+		cache.invalidateAll();
+
+		// Assert
+		assertEquals(0, cache.size());
+	}
+
+
+	@Test
+	void getHitRatio_with_no_lookups_returns_zero()
+	{
+		// Arrange
+		SpawnLocationCache cache = new SpawnLocationCache();
+
+		// Act
+		double result = cache.getHitRatio();
+
+		// Assert
+		assertEquals(0.0, result);
+	}
+
+
+	@Test
+	void get_off_owning_thread_resolves_on_owning_thread()
+	{
+		// Arrange
+		QueuedScheduler scheduler = new QueuedScheduler();
+		when(worldMock.getUID()).thenReturn(WORLD_UID);
+		when(worldMock.getSpawnLocation()).thenReturn(new Location(worldMock, 9.0, 9.0, 9.0));
+		when(resolverMock.resolve(worldMock)).thenReturn(new Location(worldMock, 1.0, 2.0, 3.0));
+		SpawnLocationCache cache = new SpawnLocationCache(scheduler);
+
+		// Act
+		Location first = cache.get(worldMock, resolverMock);
+		Location second = cache.get(worldMock, resolverMock);
+		scheduler.runQueued();
+		Location third = cache.get(worldMock, resolverMock);
+
+		// Assert
+		assertNotNull(first);
+		assertEquals(9.0, first.getX());
+		assertNotNull(second);
+		assertNotNull(third);
+		assertEquals(1.0, third.getX());
+		assertEquals(1, scheduler.queuedCount);
+
+		// Verify
+		verify(resolverMock, times(1)).resolve(worldMock);
+	}
+
+
+	@Test
+	void refresh_serves_previous_entry_until_replaced()
+	{
+		// Arrange
+		QueuedScheduler scheduler = new QueuedScheduler();
+		when(worldMock.getUID()).thenReturn(WORLD_UID);
+		when(resolverMock.resolve(worldMock)).thenReturn(new Location(worldMock, 1.0, 2.0, 3.0));
+		SpawnLocationCache cache = new SpawnLocationCache(scheduler);
+		cache.put(WORLD_UID, new Location(worldMock, 5.0, 6.0, 7.0), cache.generation());
+
+		// Act
+		cache.refresh(worldMock, resolverMock);
+		Location before = cache.get(worldMock, resolverMock);
+		scheduler.runQueued();
+		Location after = cache.get(worldMock, resolverMock);
+
+		// Assert
+		assertEquals(5.0, before.getX());
+		assertEquals(1.0, after.getX());
+	}
+
+
+	@Test
+	void get_does_not_cache_spawn_resolved_during_invalidation()
+	{
+		// Arrange
+		SpawnLocationCache cache = new SpawnLocationCache();
+		when(worldMock.getUID()).thenReturn(WORLD_UID);
+		when(resolverMock.resolve(worldMock)).thenAnswer(invocation ->
+		{
+			cache.invalidate(WORLD_UID);
+			return new Location(worldMock, 1.0, 2.0, 3.0);
+		});
+
+		// Act
+		Location result = cache.get(worldMock, resolverMock);
+
+		// Assert
+		assertEquals(1.0, result.getX());
+		assertEquals(0, cache.size());
+	}
+
+
+	@Test
+	void refresh_requested_during_lookup_is_not_overwritten()
+	{
+		// Arrange
+		QueuedScheduler scheduler = new QueuedScheduler();
+		SpawnLocationCache cache = new SpawnLocationCache(scheduler);
+		when(worldMock.getUID()).thenReturn(WORLD_UID);
+		when(resolverMock.resolve(worldMock))
+				.thenAnswer(invocation ->
+				{
+					cache.refresh(worldMock, resolverMock);
+					return new Location(worldMock, 1.0, 2.0, 3.0);
+				})
+				.thenReturn(new Location(worldMock, 5.0, 6.0, 7.0));
+		cache.refresh(worldMock, resolverMock);
+
+		// Act
+		scheduler.runQueued();
+		Location result = cache.getIfPresent(worldMock).orElseThrow();
+
+		// Assert
+		assertEquals(5.0, result.getX());
+		assertEquals(2, scheduler.queuedCount);
+	}
+
+
+	/**
+	 * A scheduler that does not own the calling thread, and holds world tasks until run by the test
+	 */
+	private static final class QueuedScheduler implements TaskScheduler
+	{
+		private final Queue<Runnable> queue = new ArrayDeque<>();
+		private int queuedCount;
+
+		@Override
+		public boolean isOwnedByCurrentThread(final World world) { return false; }
+
+		@Override
+		public void runForWorld(final World world, final Runnable task) { queue.add(task); queuedCount++; }
+
+		@Override
+		public void runGlobal(final Runnable task) { task.run(); }
+
+		@Override
+		public void runAsync(final Runnable task) { task.run(); }
+
+		void runQueued()
+		{
+			while (!queue.isEmpty())
+			{
+				queue.poll().run();
+			}
+		}
+	}
+
+
+
+	@Test
+	void put_after_refresh_is_not_cached()
+	{
+		// Arrange
+		QueuedScheduler scheduler = new QueuedScheduler();
+		when(worldMock.getUID()).thenReturn(WORLD_UID);
+		SpawnLocationCache cache = new SpawnLocationCache(scheduler);
+		long generation = cache.generation();
+		cache.refresh(worldMock, resolverMock);
+
+		// Act
+		boolean stored = cache.put(WORLD_UID, new Location(worldMock, 5.0, 6.0, 7.0), generation);
+
+		// Assert
+		assertFalse(stored);
+		assertTrue(cache.getIfPresent(worldMock).isEmpty());
+	}
+
+}
@@ -114,4 +114,45 @@ class MultiverseV4WorldNameResolverTest
 		verify(mvWorldMock, atLeastOnce()).getAlias();
 	}
 
+
+	@Test
+	void resolve_selects_retriever_once()
+	{
+		// Arrange
+		when(mvWorldMock.getAlias()).thenReturn("World Alias");
+		when(multiverseCoreMock.getDescription()).thenReturn(descriptionMock);
+		when(descriptionMock.getVersion()).thenReturn("4.3.16");
+		when(multiverseCoreMock.getMVWorldManager()).thenReturn(mvWorldManagerMock);
+		when(mvWorldManagerMock.getMVWorld(worldMock)).thenReturn(mvWorldMock);
+		WorldNameResolver resolver = new PluginResolver(multiverseCoreMock);
+
+		// Act
+		resolver.resolve(worldMock);
+		resolver.resolve(worldMock);
+		resolver.resolve(worldMock);
+
+		// Verify
+		verify(multiverseCoreMock, times(1)).getDescription();
+		verify(descriptionMock, times(1)).getVersion();
+	}
+
+
+	@Test
+	void resolve_with_missing_description_uses_world_name()
+	{
+		// Arrange
+		when(worldMock.getName()).thenReturn("world-name");
+		when(multiverseCoreMock.getDescription()).thenReturn(null);
+
+		// Act
+		WorldNameResolver resolver = new PluginResolver(multiverseCoreMock);
+		String result = resolver.resolve(worldMock);
+
+		// Assert
+		assertEquals("world-name", result);
+
+		// Verify
+		verify(multiverseCoreMock, never()).getMVWorldManager();
+	}
+
 }
@@ -256,4 +256,33 @@ class MultiverseV5WorldNameResolverTest
 		}
 	}
 
+
+	@Test
+	void getWorldName_acquires_WorldManager_once()
+	{
+		// Arrange
+		try (MockedStatic<MultiverseCoreApi> mocked = mockStatic(MultiverseCoreApi.class))
+		{
+			mocked.when(MultiverseCoreApi::get).thenReturn(multiverseCoreApiMock);
+			when(multiverseCoreMock.getDescription()).thenReturn(descriptionFileMock);
+			when(descriptionFileMock.getVersion()).thenReturn("5.0.2");
+			when(multiverseCoreApiMock.getWorldManager()).thenReturn(worldManagerMock);
+			when(worldManagerMock.getWorld(worldMock)).thenReturn(Option.of(mvWorldMock));
+			when(mvWorldMock.getAliasOrName()).thenReturn("World Alias");
+			WorldNameResolver resolver = new PluginResolver(multiverseCoreMock);
+
+			// Act
+			resolver.resolve(worldMock);
+			String result = resolver.resolve(worldMock);
+
+			// Assert
+			assertEquals("World Alias", result);
+
+			// Verify
+			mocked.verify(MultiverseCoreApi::get, times(1));
+			verify(multiverseCoreApiMock, times(1)).getWorldManager();
+			verify(worldManagerMock, times(2)).getWorld(worldMock);
+		}
+	}
+
 }
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.worldmanager.worldname;
+
+import org.bukkit.World;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+class WorldNameCacheTest
+{
+	@Mock World worldMock;
+	@Mock PluginResolver resolverMock;
+
+	private final static UUID WORLD_UID = new UUID(1, 1);
+
+
+	@Test
+	void get_resolves_once_and_serves_from_cache()
+	{
+		// Arrange
+		when(worldMock.getUID()).thenReturn(WORLD_UID);
+		when(resolverMock.resolve(worldMock)).thenReturn("World Alias");
+		WorldNameCache cache = new WorldNameCache();
+
+		// Act
+		String first = cache.get(worldMock, resolverMock);
+		String second = cache.get(worldMock, resolverMock);
+
+		// Assert
+		assertEquals("World Alias", first);
+		assertEquals("World Alias", second);
+		assertEquals(1, cache.size());
+
+		// Verify
+		verify(resolverMock, times(1)).resolve(worldMock);
+	}
+
+
+	@Test
+	void get_does_not_cache_null_result()
+	{
+		// Arrange
+		when(worldMock.getUID()).thenReturn(WORLD_UID);
+		when(resolverMock.resolve(worldMock)).thenReturn(null);
+		WorldNameCache cache = new WorldNameCache();
+
+		// Act
+		String result = cache.get(worldMock, resolverMock);
+
+		// Assert
+		assertNull(result);
+		assertEquals(0, cache.size());
+	}
+
+
+	@Test
+	void invalidate_removes_entry()
+	{
+		// Arrange
+		when(worldMock.getUID()).thenReturn(WORLD_UID);
+		when(resolverMock.resolve(worldMock)).thenReturn("World Alias");
+		WorldNameCache cache = new WorldNameCache();
+		cache.get(worldMock, resolverMock);
+
+		// Act
+		cache.invalidate(WORLD_UID);
+
+		// Assert
+		assertEquals(Optional.empty(), cache.getIfPresent(WORLD_UID));
+	}
+
+
+	@Test
+	void invalidateAll_removes_all_entries()
+	{
+		// Arrange
+		when(worldMock.getUID()).thenReturn(WORLD_UID);
+		when(resolverMock.resolve(worldMock)).thenReturn("World Alias");
+		WorldNameCache cache = new WorldNameCache();
+		cache.get(worldMock, resolverMock);
+
+		// Act
+		cache.invalidateAll();
+
+		// Assert
+		assertEquals(0, cache.size());
+	}
+
+
+	@Test
+	void getIfPresent_returns_cached_name()
+	{
+		// Arrange
+		when(worldMock.getUID()).thenReturn(WORLD_UID);
+		when(resolverMock.resolve(worldMock)).thenReturn("World Alias");
+		WorldNameCache cache = new WorldNameCache();
+		cache.get(worldMock, resolverMock);
+
+		// Act
+		Optional<String> result = cache.getIfPresent(WORLD_UID);
+
+		// Assert
+		assertEquals(Optional.of("World Alias"), result);
+	}
+
+
+	@Test
+	void getIfPresent_with_null_uid_returns_empty_optional()
+	{
+		// Arrange
+		WorldNameCache cache = new WorldNameCache();
+
+		// Act
+		Optional<String> result = cache.getIfPresent(null);
+
+		// Assert
+		assertTrue(result.isEmpty());
+	}
+
+
+
+	@Test
+	void get_does_not_cache_name_resolved_during_invalidation()
+	{
+		// Arrange
+		WorldNameCache cache = new WorldNameCache();
+		when(worldMock.getUID()).thenReturn(WORLD_UID);
+		when(resolverMock.resolve(worldMock)).thenAnswer(invocation ->
+		{
+			cache.invalidateAll();
+			return "Stale Alias";
+		});
+
+		// Act
+		String result = cache.get(worldMock, resolverMock);
+
+		// Assert
+		assertEquals("Stale Alias", result);
+		assertTrue(cache.getIfPresent(WORLD_UID).isEmpty());
+	}
+
+
+
+	@Test
+	void put_after_invalidation_is_not_cached()
+	{
+		// Arrange
+		WorldNameCache cache = new WorldNameCache();
+		long generation = cache.generation();
+		cache.invalidate(WORLD_UID);
+
+		// Act
+		boolean stored = cache.put(WORLD_UID, "Stale Alias", generation);
+
+		// Assert
+		assertFalse(stored);
+		assertTrue(cache.getIfPresent(WORLD_UID).isEmpty());
+		assertTrue(cache.put(WORLD_UID, "Alias", cache.generation()));
+		assertEquals(Optional.of("Alias"), cache.getIfPresent(WORLD_UID));
+	}
+
+
+
+	@Test
+	void get_with_null_uid_resolves_without_caching()
+	{
+		// Arrange
+		WorldNameCache cache = new WorldNameCache();
+		when(worldMock.getUID()).thenReturn(null);
+		when(resolverMock.resolve(worldMock)).thenReturn("Alias");
+
+		// Act
+		String result = cache.get(worldMock, resolverMock);
+
+		// Assert
+		assertEquals("Alias", result);
+		assertEquals(0, cache.size());
+	}
+
+}